@@ -1,7 +1,9 @@
 plugins {
     java
+    `java-test-fixtures`
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
+    alias(libs.plugins.jmh)
     id("jacoco")
 }
 
@@ -23,19 +25,38 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.webflux)
+    implementation(libs.spring.boot.starter.actuator)
+    runtimeOnly(libs.micrometer.registry.prometheus)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
     testImplementation(libs.spring.boot.starter.test)
+    testImplementation(libs.reactor.test)
+    // throttle 없는 테이블 등 테스트/벤치마크 공용 픽스처 (src/testFixtures)
+    "jmhImplementation"(testFixtures(project))
 }
 
 // about source and compilation
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    sourceCompatibility = JavaVersion.VERSION_21
 }
 
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
-    toolVersion = "0.8.7"
+    toolVersion = "0.8.11"
+}
+
+// benchmark tasks (src/jmh)
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    fork.set(1)
+    warmupIterations.set(2)
+    iterations.set(3)
+    resultFormat.set("JSON")
+    // ./gradlew jmh -PjmhIncludes=PointServiceBenchmark 처럼 실행할 벤치마크를 지정
+    if (project.hasProperty("jmhIncludes")) {
+        includes.set(listOf(project.property("jmhIncludes").toString()))
+    }
 }
 
 // bundling tasks
@@ -48,5 +69,19 @@ tasks.getByName("jar") {
 // test tasks
 tasks.test {
     ignoreFailures = true
-    useJUnitPlatform()
+    useJUnitPlatform {
+        // 저장소 메모리 사용량 비교는 큰 힙이 필요하고 오래 걸리므로 footprintTest 에서만 실행
+        excludeTags("footprint")
+    }
+}
+// 저장소 메모리 사용량 비교 (./gradlew footprintTest)
+tasks.register<Test>("footprintTest") {
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("footprint")
+    }
+    // 1000만 유저 기준 UserPointTable 약 1GB, off_heap 약 400MB (direct buffer 한도는 최대 힙 크기를 따른다)
+    maxHeapSize = "4g"
 }
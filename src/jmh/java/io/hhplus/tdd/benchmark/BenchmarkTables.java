@@ -0,0 +1,25 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.fixture.UnthrottledPointHistoryTable;
+import io.hhplus.tdd.fixture.UnthrottledUserPointTable;
+
+/**
+ * 벤치마크에서 사용할 테이블 생성
+ * - throttle = true 인 경우 원본 테이블 (호출마다 최대 200~300ms 지연)
+ * - throttle = false 인 경우 지연을 제거한 테이블
+ */
+public final class BenchmarkTables {
+
+    private BenchmarkTables() {
+    }
+
+    public static UserPointTable userPointTable(boolean throttle) {
+        return throttle ? new UserPointTable() : new UnthrottledUserPointTable();
+    }
+
+    public static PointHistoryTable pointHistoryTable(boolean throttle) {
+        return throttle ? new PointHistoryTable() : new UnthrottledPointHistoryTable();
+    }
+}
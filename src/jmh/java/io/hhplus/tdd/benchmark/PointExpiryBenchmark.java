@@ -0,0 +1,90 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.service.HierarchicalTimingWheel;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 충전 1건의 만료 예약 + 만료 처리 비용 : 계층형 타이밍 휠(wheel) vs 만료 시각 우선순위 큐(heap)
+ * - 유효기간이 많이 남은 충전분 pending 건이 예약된 상태에서, 호출마다 다음 BATCH_WINDOW 안에 만료되는 충전 BATCH 건을
+ *   예약하고 시간을 BATCH_WINDOW 만큼 진행시켜 모두 만료시킨다
+ * - heap 은 만료 시각 순서로 꺼낼 때마다 log(pending) 비용이 들고, wheel 은 pending 과 무관하게 충전 1건당 비용이 일정하다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PointExpiryBenchmark {
+
+    private static final int BATCH = 1000;
+    private static final long TICK_MILLIS = 1000;
+    private static final long BATCH_WINDOW = 10 * TICK_MILLIS;
+    private static final long EXPIRE_AFTER_MILLIS = Duration.ofDays(365).toMillis();
+
+    @Param({"wheel", "heap"})
+    public String scheduler;
+
+    @Param({"1000", "1000000"})
+    public int pending;
+
+    private long now;
+    private long expired;
+    private HierarchicalTimingWheel<Long> wheel;
+    private PriorityQueue<Scheduled> heap;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        now = System.currentTimeMillis();
+        wheel = new HierarchicalTimingWheel<>(TICK_MILLIS, 64, now);
+        heap = new PriorityQueue<>();
+        // 하루 동안 충전되어 1년 뒤에 만료되는 충전분
+        for (int i = 0; i < pending; i++) {
+            schedule(i, now + EXPIRE_AFTER_MILLIS + ThreadLocalRandom.current().nextLong(TimeUnit.DAYS.toMillis(1)));
+        }
+        wheel.advance(now, userId -> expired++);
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        System.out.printf("%n[%s] pending=%d expired=%d scheduled=%d%n",
+                scheduler, pending, expired, "wheel".equals(scheduler) ? wheel.size() : heap.size());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long scheduleAndExpire() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < BATCH; i++) {
+            schedule(random.nextLong(1, 1_000_000), now + random.nextLong(BATCH_WINDOW));
+        }
+        now += BATCH_WINDOW;
+        if ("wheel".equals(scheduler)) {
+            wheel.advance(now, userId -> expired++);
+        } else {
+            while (!heap.isEmpty() && heap.peek().expiresAt() <= now) {
+                heap.poll();
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    private void schedule(long userId, long expiresAt) {
+        if ("wheel".equals(scheduler)) {
+            wheel.schedule(userId, expiresAt);
+        } else {
+            heap.add(new Scheduled(userId, expiresAt));
+        }
+    }
+
+    private record Scheduled(long userId, long expiresAt) implements Comparable<Scheduled> {
+
+        @Override
+        public int compareTo(Scheduled other) {
+            return Long.compare(expiresAt, other.expiresAt);
+        }
+    }
+}
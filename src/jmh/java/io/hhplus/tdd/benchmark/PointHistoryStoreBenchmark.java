@@ -0,0 +1,54 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.fixture.UnthrottledPointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.history.ColumnarPointHistoryStore;
+import io.hhplus.tdd.point.history.IndexedPointHistoryStore;
+import io.hhplus.tdd.point.history.PointHistoryStore;
+import io.hhplus.tdd.point.history.TablePointHistoryStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+
+/**
+ * 유저 내역 조회 벤치마크 : 테이블 전체 탐색(table) vs userId 인덱스(indexed) vs 유저별 컬럼(columnar)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointHistoryStoreBenchmark {
+
+    @Param({"table", "indexed", "columnar"})
+    public String store;
+
+    @Param({"100000"})
+    public int rows;
+
+    @Param({"1000"})
+    public int users;
+
+    private PointHistoryStore historyStore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        UnthrottledPointHistoryTable table = new UnthrottledPointHistoryTable();
+        historyStore = switch (store) {
+            case "indexed" -> new IndexedPointHistoryStore(table);
+            case "columnar" -> new ColumnarPointHistoryStore();
+            default -> new TablePointHistoryStore(table);
+        };
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < rows; i++) {
+            historyStore.insert(i % users + 1, 10L, CHARGE, now);
+        }
+    }
+
+    @Benchmark
+    public List<PointHistory> selectAllByUserId() {
+        return historyStore.selectAllByUserId(ThreadLocalRandom.current().nextLong(1, users + 1));
+    }
+}
@@ -0,0 +1,72 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.ledger.LedgerRecord;
+import io.hhplus.tdd.point.ledger.PointLedger;
+import io.hhplus.tdd.point.ledger.PointLedgerProperties;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+
+/**
+ * 원장 기록 처리량 : 기록 1건 = 매핑된 메모리 복사, 디스크 동기화는 fsyncBatch 건마다 백그라운드에서 수행
+ * - 기록 지연은 AverageTime 모드(-bm avgt)로 확인한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PointLedgerBenchmark {
+
+    @Param({"1", "256", "4096"})
+    public int fsyncBatch;
+
+    private Path directory;
+    private PointLedger ledger;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("point-ledger-bench");
+        PointLedgerProperties properties = new PointLedgerProperties();
+        properties.setDirectory(directory.toString());
+        properties.setSegmentSize(DataSize.ofMegabytes(256));
+        properties.setFsyncInterval(Duration.ofMillis(10));
+        properties.setFsyncBatch(fsyncBatch);
+        ledger = new PointLedger(properties);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        ledger.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void append() {
+        appendRecord();
+    }
+
+    // 여러 스레드가 동시에 기록하는 경우 (기록 위치는 하나의 락으로 보호)
+    @Benchmark
+    @Threads(4)
+    public void appendContended() {
+        appendRecord();
+    }
+
+    private void appendRecord() {
+        long userId = ThreadLocalRandom.current().nextLong(1, 100_001);
+        ledger.append(LedgerRecord.history(1L, userId, 100L, CHARGE, System.currentTimeMillis()));
+    }
+}
@@ -0,0 +1,118 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.history.IndexedPointHistoryStore;
+import io.hhplus.tdd.point.service.PointMetrics;
+import io.hhplus.tdd.point.service.PointPolicy;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.PointServiceProperties;
+import io.hhplus.tdd.point.store.TableUserPointStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointService 처리량 벤치마크
+ * - users = 1 : 한 유저에 요청이 몰리는 경우 (락 경합), users > 1 : 여러 유저에 분산된 경우
+ * - readHeavy / writeHeavy 그룹 : 조회와 충전/사용이 섞인 경우 (3:1, 1:3)
+ * - writeMode : 유저 락(LOCK) / 그룹 커밋(GROUP_COMMIT) / 파티션 전용 스레드(PARTITIONED, 락 없음) / 낙관적 갱신(OPTIMISTIC)
+ * - 충전/사용이 MAX_POINT 또는 잔고 부족으로 거절되면 반대 방향으로 잔고를 되돌린 뒤 계속 진행한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class PointServiceBenchmark {
+
+    @Param({"false"})
+    public boolean throttle;
+
+    @Param({"1", "1024"})
+    public int users;
+
+    @Param({"LOCK", "GROUP_COMMIT", "PARTITIONED", "OPTIMISTIC"})
+    public PointServiceProperties.WriteMode writeMode;
+
+    private PointService pointService;
+
+    // 반복(iteration) 마다 새로 생성하여 누적된 내역이 결과에 영향을 주지 않도록 한다
+    @Setup(Level.Iteration)
+    public void setUp() {
+        PointServiceProperties properties = new PointServiceProperties();
+        properties.setWriteMode(writeMode);
+        pointService = new PointService(
+                new TableUserPointStore(BenchmarkTables.userPointTable(throttle)),
+                new IndexedPointHistoryStore(BenchmarkTables.pointHistoryTable(throttle)),
+                properties, PointMetrics.noop());
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        pointService.shutdown();
+    }
+
+    @Benchmark
+    public UserPoint charge() {
+        long id = nextUserId();
+        try {
+            return pointService.charge(id, 1L);
+        } catch (IllegalArgumentException maxPoint) {
+            return pointService.use(id, PointPolicy.MAX_POINT / 2);
+        }
+    }
+
+    @Benchmark
+    public UserPoint use() {
+        long id = nextUserId();
+        try {
+            return pointService.use(id, 1L);
+        } catch (IllegalArgumentException insufficient) {
+            return pointService.charge(id, PointPolicy.MAX_POINT / 2);
+        }
+    }
+
+    @Benchmark
+    public UserPoint select() {
+        return pointService.select(nextUserId());
+    }
+
+    @Benchmark
+    public List<PointHistory> selectPointHistory() {
+        return pointService.selectPointHistory(nextUserId());
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(3)
+    public UserPoint readHeavySelect() {
+        return select();
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(1)
+    public UserPoint readHeavyCharge() {
+        return charge();
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(1)
+    public UserPoint writeHeavySelect() {
+        return select();
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(3)
+    public UserPoint writeHeavyCharge() {
+        return charge();
+    }
+
+    private long nextUserId() {
+        return users == 1 ? 1L : ThreadLocalRandom.current().nextLong(1, users + 1);
+    }
+}
@@ -0,0 +1,53 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.lock.UserLockRegistry;
+import io.hhplus.tdd.point.lock.UserLockRegistry.LockRegistryType;
+import io.hhplus.tdd.point.lock.UserLockRegistry.UserLock;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저 락 관리 방식별 처리량과 보관중인 락 수 비교
+ * - UNBOUNDED (기존 ConcurrentHashMap 방식) / REF_COUNTED / STRIPED
+ * - 반복마다 보관중인 락 수와 추정 메모리를 출력한다 (-prof gc 로 할당량도 함께 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class UserLockRegistryBenchmark {
+
+    // 공정 ReentrantLock(+Sync) 과 맵 Node, Long 키의 대략적인 크기
+    private static final long BYTES_PER_LOCK = 16 + 32 + 32 + 16;
+
+    @Param({"UNBOUNDED", "REF_COUNTED", "STRIPED"})
+    public LockRegistryType type;
+
+    @Param({"1", "1000000"})
+    public int users;
+
+    @Param({"1024"})
+    public int stripes;
+
+    private UserLockRegistry registry;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        registry = UserLockRegistry.create(type, stripes);
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        System.out.printf("%n[%s] users=%d retained locks=%d (~%d KB)%n",
+                type, users, registry.size(), registry.size() * BYTES_PER_LOCK / 1024);
+    }
+
+    @Benchmark
+    public void acquireAndUnlock() {
+        long id = users == 1 ? 1L : ThreadLocalRandom.current().nextLong(1, users + 1);
+        UserLock lock = registry.acquire(id);
+        lock.unlock();
+    }
+}
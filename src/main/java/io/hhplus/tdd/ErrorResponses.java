@@ -0,0 +1,38 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.DeadlineExceededException;
+import io.hhplus.tdd.point.TooManyRequestsException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * ApiControllerAdvice(MVC) 와 ReactiveApiControllerAdvice(WebFlux) 가 함께 쓰는 에러 응답
+ */
+final class ErrorResponses {
+
+    private ErrorResponses() {
+    }
+
+    /**
+     * 처리량 제한 또는 락 대기열 초과 : 429 와 함께 다시 시도할 수 있는 시점(Retry-After, 초)을 알려준다
+     */
+    static ResponseEntity<ErrorResponse> tooManyRequests(TooManyRequestsException e) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS);
+        if (e.getRetryAfterMillis() > 0) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf((e.getRetryAfterMillis() + 999) / 1000));
+        }
+        return response.body(new ErrorResponse("429", e.getMessage()));
+    }
+
+    /**
+     * 처리 기한 초과 : 남은 처리를 중단했으므로 504
+     */
+    static ResponseEntity<ErrorResponse> deadlineExceeded(DeadlineExceededException e) {
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(new ErrorResponse("504", e.getMessage()));
+    }
+
+    static ResponseEntity<ErrorResponse> internalError() {
+        return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
+    }
+}
@@ -0,0 +1,30 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.DeadlineExceededException;
+import io.hhplus.tdd.point.TooManyRequestsException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * WebFlux 모드의 예외 처리 (응답은 ErrorResponses 를 ApiControllerAdvice 와 함께 사용)
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+class ReactiveApiControllerAdvice {
+    @ExceptionHandler(value = TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(TooManyRequestsException e) {
+        return ErrorResponses.tooManyRequests(e);
+    }
+
+    @ExceptionHandler(value = DeadlineExceededException.class)
+    public ResponseEntity<ErrorResponse> handleDeadlineExceeded(DeadlineExceededException e) {
+        return ErrorResponses.deadlineExceeded(e);
+    }
+
+    @ExceptionHandler(value = Exception.class)
+    public ResponseEntity<ErrorResponse> handleException(Exception e) {
+        return ErrorResponses.internalError();
+    }
+}
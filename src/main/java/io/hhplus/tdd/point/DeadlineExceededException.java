@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 요청의 처리 기한이 지나 남은 작업을 수행하지 않고 중단할 때 발생 (504 응답)
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
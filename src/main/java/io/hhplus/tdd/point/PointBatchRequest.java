@@ -0,0 +1,8 @@
+package io.hhplus.tdd.point;
+
+public record PointBatchRequest(
+        long userId,
+        TransactionType type,
+        long amount
+) {
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 충전/사용 요청의 건별 결과
+ * - 성공 시 userPoint 에 처리 후 잔고, 실패 시 error 에 실패 사유를 담는다
+ */
+public record PointBatchResult(
+        long userId,
+        TransactionType type,
+        long amount,
+        boolean success,
+        UserPoint userPoint,
+        String error
+) {
+
+    public static PointBatchResult success(PointBatchRequest request, UserPoint userPoint) {
+        return new PointBatchResult(request.userId(), request.type(), request.amount(), true, userPoint, null);
+    }
+
+    public static PointBatchResult failure(PointBatchRequest request, String error) {
+        return new PointBatchResult(request.userId(), request.type(), request.amount(), false, null, error);
+    }
+}
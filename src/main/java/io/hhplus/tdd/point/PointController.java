@@ -1,20 +1,33 @@
 package io.hhplus.tdd.point;
 
+import io.hhplus.tdd.point.history.PointHistoryQuery;
+import io.hhplus.tdd.point.service.PointBatchService;
+import io.hhplus.tdd.point.service.PointHistoryExporter;
+import io.hhplus.tdd.point.service.PointLookupService;
 import io.hhplus.tdd.point.service.PointService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/point")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
     private final PointService pointService;
+    private final PointHistoryExporter pointHistoryExporter;
+    private final PointBatchService pointBatchService;
+    private final PointLookupService pointLookupService;
 
     /**
      *  특정 유저의 포인트를 조회하는 기능
@@ -26,35 +39,132 @@ public class PointController {
         return pointService.select(id);
     }
 
+    /**
+     * 여러 유저의 포인트를 한번에 조회하는 기능
+     * - 요청한 유저 순서대로 userId -> 포인트 형태로 반환
+     */
+    @GetMapping(params = "ids")
+    public Map<Long, UserPoint> points(
+            @RequestParam List<Long> ids
+    ) {
+        return pointLookupService.select(ids);
+    }
+
     /**
      * 특정 유저의 포인트 충전/이용 내역을 조회하는 기능
+     * - 페이지/필터 파라미터가 하나라도 있으면 페이지 단위 조회로 처리
      */
-    @GetMapping("{id}/histories")
+    @GetMapping(value = "{id}/histories", params = {"!limit", "!cursor", "!from", "!to", "!type"})
     public List<PointHistory> history(
             @PathVariable long id
     ) {
         return pointService.selectPointHistory(id);
     }
 
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 페이지 단위로 조회하는 기능
+     * - id 오름차순 커서 기반으로 조회하며, limit 이 없으면 PointHistoryQuery.DEFAULT_LIMIT 건씩 조회
+     * - from / to (updateMillis), type 으로 필터링
+     */
+    @GetMapping("{id}/histories")
+    public PointHistoryPage historyPage(
+            @PathVariable long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        int pageLimit = limit == null ? PointHistoryQuery.DEFAULT_LIMIT : limit;
+        return pointService.selectPointHistoryPage(id, new PointHistoryQuery(cursor, pageLimit, from, to, type));
+    }
+
+    /**
+     * 특정 유저의 누적 충전/사용 합계, 거래 종류별 건수, 일자별 합계를 조회하는 기능
+     */
+    @GetMapping("{id}/summary")
+    public PointSummary summary(
+            @PathVariable long id
+    ) {
+        return pointService.summary(id);
+    }
+
+    /**
+     * 특정 유저의 누적 집계를 전체 내역 재합산 결과와 비교하는 기능
+     */
+    @GetMapping("{id}/summary/check")
+    public PointSummaryCheck checkSummary(
+            @PathVariable long id
+    ) {
+        return pointService.checkSummary(id);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 NDJSON 으로 스트리밍하는 기능
+     */
+    @GetMapping(value = "{id}/histories/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody exportHistory(
+            @PathVariable long id
+    ) {
+        return out -> pointHistoryExporter.export(LongStream.of(id), out);
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/이용 내역을 NDJSON 으로 스트리밍하는 기능
+     */
+    @GetMapping(value = "histories/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody exportHistories(
+            @RequestParam List<Long> ids
+    ) {
+        return out -> pointHistoryExporter.export(ids.stream().mapToLong(Long::longValue), out);
+    }
+
+    /**
+     * 전체 유저의 포인트 충전/이용 내역을 NDJSON 으로 스트리밍하는 기능 (배치 작업용)
+     */
+    @GetMapping(value = "histories/export/all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody exportAllHistories() {
+        return pointHistoryExporter::exportAll;
+    }
+
     /**
      * 특정 유저의 포인트를 충전하는 기능
+     * - Idempotency-Key 헤더가 같은 재시도 요청은 다시 처리하지 않고 처음 결과를 반환
+     * - X-Request-Timeout 헤더(ms) 또는 기본 제한 시간이 지나면 남은 처리를 중단
      */
     @PatchMapping("{id}/charge")
     public UserPoint charge(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestHeader(value = "X-Request-Timeout", required = false) Long timeoutMillis
     ) {
-        return pointService.charge(id,amount);
+        return pointService.charge(id, amount, idempotencyKey, pointService.deadline(timeoutMillis));
     }
 
     /**
      * 특정 유저의 포인트를 사용하는 기능
+     * - Idempotency-Key 헤더가 같은 재시도 요청은 다시 처리하지 않고 처음 결과를 반환
+     * - X-Request-Timeout 헤더(ms) 또는 기본 제한 시간이 지나면 남은 처리를 중단
      */
     @PatchMapping("{id}/use")
     public UserPoint use(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestHeader(value = "X-Request-Timeout", required = false) Long timeoutMillis
+    ) {
+        return pointService.use(id, amount, idempotencyKey, pointService.deadline(timeoutMillis));
+    }
+
+    /**
+     * 여러 유저의 포인트를 일괄 충전/사용하는 기능
+     * - 유저 간에는 병렬로, 같은 유저의 요청은 요청 순서대로 처리하며 건별 결과를 요청 순서대로 반환
+     */
+    @PostMapping("batch")
+    public List<PointBatchResult> batch(
+            @RequestBody List<PointBatchRequest> requests
     ) {
-        return pointService.use(id,amount);
+        return pointBatchService.process(requests);
     }
 }
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 포인트 내역 페이지
+ * - nextCursor : 다음 페이지 조회 시 cursor 로 전달할 값 (마지막 페이지인 경우 null)
+ */
+public record PointHistoryPage(
+        List<PointHistory> items,
+        Long nextCursor
+) {
+}
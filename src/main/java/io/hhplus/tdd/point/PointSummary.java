@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유저별 포인트 누적 집계
+ * - totalCharged / totalUsed / totalExpired : 전체 기간 충전/사용/만료 합계
+ * - counts : 거래 종류별 내역 수
+ * - daily : 최근 보관 기간의 일자별 충전/사용/만료 합계 (일자 오름차순)
+ */
+public record PointSummary(
+        long userId,
+        long totalCharged,
+        long totalUsed,
+        long totalExpired,
+        Map<TransactionType, Long> counts,
+        List<Daily> daily
+) {
+
+    public record Daily(
+            LocalDate date,
+            long charged,
+            long used,
+            long expired
+    ) {
+    }
+}
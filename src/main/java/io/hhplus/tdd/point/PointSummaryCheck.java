@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 누적 집계 정합성 검사 결과
+ * - maintained : 저장 시점마다 갱신한 집계, recomputed : 전체 내역을 다시 합산한 집계
+ */
+public record PointSummaryCheck(
+        boolean consistent,
+        PointSummary maintained,
+        PointSummary recomputed
+) {
+}
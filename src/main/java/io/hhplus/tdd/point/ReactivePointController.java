@@ -0,0 +1,154 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.history.PointHistoryQuery;
+import io.hhplus.tdd.point.service.ReactivePointService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * WebFlux 기반 포인트 API (spring.main.web-application-type=reactive 인 경우 PointController 대신 사용)
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/point")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePointController {
+
+    private final ReactivePointService reactivePointService;
+
+    /**
+     *  특정 유저의 포인트를 조회하는 기능
+     */
+    @GetMapping("{id}")
+    public Mono<UserPoint> point(
+            @PathVariable long id
+    ) {
+        return reactivePointService.select(id);
+    }
+
+    /**
+     * 여러 유저의 포인트를 한번에 조회하는 기능
+     * - 요청한 유저 순서대로 userId -> 포인트 형태로 반환
+     */
+    @GetMapping(params = "ids")
+    public Mono<Map<Long, UserPoint>> points(
+            @RequestParam List<Long> ids
+    ) {
+        return reactivePointService.select(ids);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 조회하는 기능
+     * - 페이지/필터 파라미터가 하나라도 있으면 페이지 단위 조회로 처리
+     */
+    @GetMapping(value = "{id}/histories", params = {"!limit", "!cursor", "!from", "!to", "!type"})
+    public Flux<PointHistory> history(
+            @PathVariable long id
+    ) {
+        return reactivePointService.selectPointHistory(id);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 페이지 단위로 조회하는 기능
+     * - limit 이 없으면 PointHistoryQuery.DEFAULT_LIMIT 건씩 조회
+     */
+    @GetMapping("{id}/histories")
+    public Mono<PointHistoryPage> historyPage(
+            @PathVariable long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        int pageLimit = limit == null ? PointHistoryQuery.DEFAULT_LIMIT : limit;
+        return reactivePointService.selectPointHistoryPage(id, new PointHistoryQuery(cursor, pageLimit, from, to, type));
+    }
+
+    /**
+     * 특정 유저의 누적 충전/사용 합계, 거래 종류별 건수, 일자별 합계를 조회하는 기능
+     */
+    @GetMapping("{id}/summary")
+    public Mono<PointSummary> summary(
+            @PathVariable long id
+    ) {
+        return reactivePointService.summary(id);
+    }
+
+    /**
+     * 특정 유저의 누적 집계를 전체 내역 재합산 결과와 비교하는 기능
+     */
+    @GetMapping("{id}/summary/check")
+    public Mono<PointSummaryCheck> checkSummary(
+            @PathVariable long id
+    ) {
+        return reactivePointService.checkSummary(id);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 NDJSON 으로 스트리밍하는 기능
+     */
+    @GetMapping(value = "{id}/histories/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<PointHistory> exportHistory(
+            @PathVariable long id
+    ) {
+        return reactivePointService.selectPointHistory(id);
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/이용 내역을 NDJSON 으로 스트리밍하는 기능
+     */
+    @GetMapping(value = "histories/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<PointHistory> exportHistories(
+            @RequestParam List<Long> ids
+    ) {
+        return reactivePointService.selectPointHistories(ids);
+    }
+
+    /**
+     * 특정 유저의 포인트를 충전하는 기능
+     * - Idempotency-Key 헤더가 같은 재시도 요청은 다시 처리하지 않고 처음 결과를 반환
+     * - X-Request-Timeout 헤더(ms) 또는 기본 제한 시간이 지나면 남은 처리를 중단
+     */
+    @PatchMapping("{id}/charge")
+    public Mono<UserPoint> charge(
+            @PathVariable long id,
+            @RequestBody long amount,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestHeader(value = "X-Request-Timeout", required = false) Long timeoutMillis
+    ) {
+        return reactivePointService.charge(id, amount, idempotencyKey, timeoutMillis);
+    }
+
+    /**
+     * 특정 유저의 포인트를 사용하는 기능
+     * - Idempotency-Key 헤더가 같은 재시도 요청은 다시 처리하지 않고 처음 결과를 반환
+     * - X-Request-Timeout 헤더(ms) 또는 기본 제한 시간이 지나면 남은 처리를 중단
+     */
+    @PatchMapping("{id}/use")
+    public Mono<UserPoint> use(
+            @PathVariable long id,
+            @RequestBody long amount,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestHeader(value = "X-Request-Timeout", required = false) Long timeoutMillis
+    ) {
+        return reactivePointService.use(id, amount, idempotencyKey, timeoutMillis);
+    }
+
+    /**
+     * 여러 유저의 포인트를 일괄 충전/사용하는 기능
+     */
+    @PostMapping("batch")
+    public Mono<List<PointBatchResult>> batch(
+            @RequestBody List<PointBatchRequest> requests
+    ) {
+        return reactivePointService.batch(requests);
+    }
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 처리량 제한 또는 대기열 초과로 요청을 바로 거절할 때 발생 (429 응답)
+ * - retryAfterMillis : 다시 시도해도 되는 시점까지 남은 시간 (알 수 없으면 0)
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterMillis;
+
+    public TooManyRequestsException(String message, long retryAfterMillis) {
+        super(message);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
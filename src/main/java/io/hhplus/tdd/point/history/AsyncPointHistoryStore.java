@@ -0,0 +1,336 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.LongStream;
+
+/**
+ * 내역 저장을 요청 스레드에서 분리하는 저장소
+ * - insert 는 미리 할당된 링 버퍼에 내역을 기록만 하고 반환하며, 전용 스레드가 기록된 순서대로 최대 maxBatch 건씩 모아
+ *   위임 저장소의 insertAll 로 저장
+ * - 버퍼가 가득 차면 빈 자리가 생길 때까지 insert 가 대기한다
+ * - 전용 스레드는 하나이므로 지속 처리량은 위임 저장소의 insertAll 처리량을 넘지 못한다
+ *   - COLUMNAR 는 한 묶음을 한번에 저장하지만, TABLE / INDEXED 는 PointHistoryTable 이 건마다 지연(최대 300ms)되어 초당 수 건만 저장된다
+ *   - 버퍼는 순간적으로 몰린 요청만 흡수하며, 그 이상 몰리면 버퍼가 가득 차 insert 가 대기하므로 지속 부하에는 COLUMNAR 와 함께 사용한다
+ * - 조회 전에는 해당 유저의 대기 중인 내역이 모두 저장될 때까지 기다리므로, 응답이 끝난 충전/사용 내역은 항상 조회된다
+ * - 위임 저장소는 저장 순서대로 id 를 발급하므로, insert 는 시퀀스로 위임 저장소가 발급할 id 를 미리 정해 반환하고
+ *   전용 스레드가 저장 시 발급된 id 와 같은지 확인한다
+ * - 저장 실패 시 저장된 다음 내역부터 간격을 늘려가며 다시 시도한다
+ *   - WRITE_RETRIES 번 넘게 실패하면 저장 지연 상태(point.history.async.stalled = 1)가 되어, 새 insert 와 저장되지 않은 내역을 기다리는
+ *     조회는 IllegalStateException 으로 실패하고, 대기 내역이 없는 유저의 조회는 그대로 동작한다
+ *   - 지연 상태에서도 최대 MAX_RETRY_BACKOFF 간격으로 계속 다시 시도하며, 저장에 성공하면 대기 내역을 이어서 저장하고 지연 상태를 해제한다
+ *   - 지연 상태에서 종료하면 남은 내역은 저장하지 않는다 (point.history.async.failures)
+ * - 위임 저장소가 발급한 id 가 어긋나면 다른 곳에서 위임 저장소에 저장한 것이므로 복구하지 않고 이후 내역은 저장하지 않으며,
+ *   이후 insert / 조회는 IllegalStateException 으로 실패를 알린다
+ */
+public class AsyncPointHistoryStore implements PointHistoryStore, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncPointHistoryStore.class);
+    private static final long IDLE_PARK_NANOS = 50_000;
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final int WRITE_RETRIES = 3;
+    private static final long WRITE_RETRY_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long MAX_RETRY_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final PointHistoryStore delegate;
+    private final int mask;
+    private final int maxBatch;
+    private final long firstId;  // 시퀀스 0 의 내역 id
+
+    // 링 버퍼 : 슬롯별 내역 필드와 기록이 끝난 시퀀스
+    private final long[] userIds;
+    private final long[] amounts;
+    private final long[] updateMillis;
+    private final byte[] types;
+    private final long[] publishNanos;
+    private final AtomicLongArray published;
+
+    private final AtomicLong claimed = new AtomicLong();  // 다음에 할당할 시퀀스
+    private final AtomicLong drained = new AtomicLong();  // 다음에 저장할 시퀀스 (이전 시퀀스는 모두 저장 완료)
+
+    private final Timer drainLatency;
+    private final DistributionSummary batchSize;
+    private final Counter failures;
+    private final Thread writer;
+    private volatile boolean running = true;
+    private volatile RuntimeException stalled;  // 저장 지연 상태의 마지막 실패 원인 (정상이면 null)
+    private volatile RuntimeException failure;  // 복구할 수 없는 실패 (id 불일치)
+
+    public AsyncPointHistoryStore(PointHistoryStore delegate, int bufferSize, int maxBatch, MeterRegistry registry) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("버퍼 크기는 0보다 커야 합니다.");
+        }
+        // 시퀀스를 비트 연산으로 슬롯에 대응시키기 위해 2의 거듭제곱으로 맞춘다
+        int capacity = bufferSize == 1 ? 1 : Integer.highestOneBit(bufferSize - 1) << 1;
+        this.delegate = delegate;
+        this.mask = capacity - 1;
+        this.maxBatch = Math.min(capacity, Math.max(1, maxBatch));
+        this.firstId = delegate.lastId() + 1;
+        this.userIds = new long[capacity];
+        this.amounts = new long[capacity];
+        this.updateMillis = new long[capacity];
+        this.types = new byte[capacity];
+        this.publishNanos = new long[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        registry.gauge("point.history.async.depth", this, AsyncPointHistoryStore::depth);
+        registry.gauge("point.history.async.stalled", this, store -> store.isStalled() ? 1 : 0);
+        this.drainLatency = Timer.builder("point.history.async.drain.latency")
+                .description("내역이 버퍼에 기록된 후 저장소에 저장되기까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.batchSize = DistributionSummary.builder("point.history.async.batch")
+                .description("전용 스레드가 insertAll 한번으로 저장한 내역 수")
+                .register(registry);
+        this.failures = Counter.builder("point.history.async.failures")
+                .description("저장에 실패하여 위임 저장소에 저장되지 않은 내역 수")
+                .register(registry);
+        this.writer = new Thread(this::drainLoop, "point-history-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        long sequence = claim();
+        int slot = (int) sequence & mask;
+        userIds[slot] = userId;
+        amounts[slot] = amount;
+        this.updateMillis[slot] = updateMillis;
+        types[slot] = (byte) type.ordinal();
+        publishNanos[slot] = System.nanoTime();
+        // 필드 기록 후 시퀀스를 공개해야 전용 스레드가 완성된 내역만 읽는다
+        published.set(slot, sequence);
+        return new PointHistory(firstId + sequence, userId, amount, type, updateMillis);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        flush(userId);
+        checkFailure();
+        return delegate.selectAllByUserId(userId);
+    }
+
+    @Override
+    public PointHistoryPage selectPage(long userId, PointHistoryQuery query) {
+        flush(userId);
+        checkFailure();
+        return delegate.selectPage(userId, query);
+    }
+
+    @Override
+    public void load(List<PointHistory> histories) {
+        awaitDrained(claimed.get());
+        delegate.load(histories);
+    }
+
+    /**
+     * 버퍼에 기록된 내역까지 포함한 가장 큰 id
+     */
+    @Override
+    public long lastId() {
+        return firstId + claimed.get() - 1;
+    }
+
+    @Override
+    public LongStream userIds() {
+        awaitDrained(claimed.get());
+        checkFailure();
+        return delegate.userIds();
+    }
+
+    /**
+     * 해당 유저의 대기 중인 내역이 모두 저장될 때까지 대기
+     * - 버퍼에 남은 구간을 뒤에서부터 확인하여, 해당 유저의 대기 내역이 없으면 바로 반환한다
+     * - 내역은 id 순서대로 저장되므로, 해당 유저의 마지막 대기 내역보다 앞선 다른 유저의 내역이 저장될 때까지 함께 기다린다
+     * - 기다리는 동안 저장 지연 상태가 되거나 복구할 수 없는 실패가 있으면 IllegalStateException
+     */
+    public void flush(long userId) {
+        long from = drained.get();
+        for (long sequence = claimed.get() - 1; sequence >= from; sequence--) {
+            int slot = (int) sequence & mask;
+            if (published.get(slot) == sequence && userIds[slot] == userId) {
+                awaitDrained(sequence + 1);
+                break;
+            }
+        }
+    }
+
+    /**
+     * 저장이 계속 실패하여 새 내역을 받지 않고 다시 시도 중인지 여부
+     */
+    public boolean isStalled() {
+        return stalled != null;
+    }
+
+    /**
+     * 저장 대기 중인 내역 수
+     */
+    public long depth() {
+        return claimed.get() - drained.get();
+    }
+
+    /**
+     * 남은 내역을 모두 저장한 뒤 전용 스레드를 종료
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 버퍼에 빈 자리가 생길 때까지 기다린 뒤 시퀀스 할당
+    private long claim() {
+        while (true) {
+            if (!running) {
+                throw new IllegalStateException("종료된 내역 저장소입니다.");
+            }
+            checkFailure();
+            RuntimeException cause = stalled;
+            if (cause != null) {
+                // 앞선 내역이 저장되지 않는 동안 새 내역을 더 쌓지 않는다
+                throw new IllegalStateException("내역 저장이 지연되어 새 내역을 저장할 수 없습니다.", cause);
+            }
+            long sequence = claimed.get();
+            if (sequence - drained.get() > mask) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            if (claimed.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    private void awaitDrained(long sequence) {
+        while (drained.get() < sequence) {
+            checkFailure();
+            RuntimeException cause = stalled;
+            if (cause != null) {
+                throw new IllegalStateException("내역 저장이 지연되어 저장되지 않은 내역이 있습니다.", cause);
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+
+    private void drainLoop() {
+        while (running || drained.get() < claimed.get()) {
+            long from = drained.get();
+            // 시퀀스 순서대로 공개된 내역을 최대 maxBatch 건까지 모은다
+            long to = from;
+            while (to - from < maxBatch && published.get((int) to & mask) == to) {
+                to++;
+            }
+            if (to == from) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            batchSize.record(to - from);
+            write(from, to);
+            // 묶음 저장이 끝난 뒤 슬롯을 재사용할 수 있도록 반영
+            drained.set(to);
+        }
+    }
+
+    // from 이상 to 미만 시퀀스의 내역을 저장
+    private void write(long from, long to) {
+        try {
+            if (failure != null || (stalled != null && !running)) {
+                // id 를 보장할 수 없거나 지연 상태에서 종료 중이면 저장하지 않는다
+                failures.increment(to - from);
+                return;
+            }
+            insertWithRetry(from, to);
+        } finally {
+            long now = System.nanoTime();
+            for (long sequence = from; sequence < to; sequence++) {
+                drainLatency.record(now - publishNanos[(int) sequence & mask], TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private void insertWithRetry(long from, long to) {
+        long next = from;
+        for (int attempt = 0; ; attempt++) {
+            try {
+                List<PointHistory> stored = delegate.insertAll(histories(next, to));
+                for (PointHistory pointHistory : stored) {
+                    if (pointHistory.id() != firstId + next) {
+                        fail(next, to, new IllegalStateException("위임 저장소가 발급한 내역 id " + pointHistory.id() + " 가 반환한 id "
+                                + (firstId + next) + " 와 다릅니다."));
+                        return;
+                    }
+                    next++;
+                }
+                if (stalled != null) {
+                    stalled = null;
+                    log.info("내역 저장 재개 : 대기 내역 {}건", depth());
+                }
+                return;
+            } catch (RuntimeException e) {
+                // 일부만 저장되었으면 저장된 다음 내역부터 다시 시도
+                next = Math.max(next, delegate.lastId() - firstId + 1);
+                int slot = (int) next & mask;
+                if (attempt < WRITE_RETRIES) {
+                    log.warn("내역 저장 실패, 다시 시도 : userId={}, amount={}, attempt={}", userIds[slot], amounts[slot], attempt + 1, e);
+                } else if (stalled == null) {
+                    log.error("내역 저장이 계속 실패하여 새 내역을 받지 않고 다시 시도합니다 : userId={}, amount={}", userIds[slot], amounts[slot], e);
+                }
+                if (attempt >= WRITE_RETRIES) {
+                    stalled = e;
+                    if (!running) {
+                        failures.increment(to - next);
+                        log.error("종료 중 내역 저장 지연 상태여서 남은 내역 {}건은 저장하지 않습니다.", claimed.get() - next);
+                        return;
+                    }
+                }
+                LockSupport.parkNanos(Math.min(WRITE_RETRY_BACKOFF_NANOS << Math.min(attempt, 7), MAX_RETRY_BACKOFF_NANOS));
+            }
+        }
+    }
+
+    private List<NewHistory> histories(long from, long to) {
+        List<NewHistory> histories = new ArrayList<>((int) (to - from));
+        for (long sequence = from; sequence < to; sequence++) {
+            int slot = (int) sequence & mask;
+            histories.add(new NewHistory(userIds[slot], amounts[slot], TYPES[types[slot]], updateMillis[slot]));
+        }
+        return histories;
+    }
+
+    // from 시퀀스부터 id 를 보장할 수 없어 묶음의 나머지와 이후 내역을 저장하지 않는다
+    private void fail(long from, long to, RuntimeException e) {
+        failures.increment(to - from);
+        failure = e;
+        int slot = (int) from & mask;
+        log.error("내역 id 불일치, 이후 내역은 저장하지 않습니다 : userId={}, amount={}", userIds[slot], amounts[slot], e);
+    }
+
+    private void checkFailure() {
+        RuntimeException cause = failure;
+        if (cause != null) {
+            throw new IllegalStateException("저장에 실패한 내역이 있어 내역 저장소를 사용할 수 없습니다.", cause);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+/**
+ * 내역을 유저별 컬럼(primitive 배열)으로 보관하는 저장소
+ * - PointHistoryTable 과 같이 1 부터 순서대로 id 를 발급하며, insert / selectAllByUserId 계약이 같다
+ * - 내역 객체(헤더 + enum 참조) 대신 id/금액/시각은 기준값과의 차이(int), 종류는 byte 로 저장하여 내역당 약 13 byte 만 사용
+ * - 한 유저의 내역이 연속된 배열에 모여 있어 유저별 조회 시 메모리를 순서대로 읽는다
+ * - 대신 유저마다 객체와 초기 용량(8건) 배열로 약 370 byte 의 고정 비용이 있어, 유저당 내역이 5건 정도보다 적으면 indexed 보다 메모리를 더 사용한다
+ */
+public class ColumnarPointHistoryStore implements PointHistoryStore {
+
+    private static final long MAP_ENTRY_BYTES = 32 + 16;     // ConcurrentHashMap Node + Long key
+
+    private final AtomicLong cursor = new AtomicLong(1);
+    private final Map<Long, UserHistoryColumns> columns = new ConcurrentHashMap<>();
+    private volatile boolean inserted;
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        inserted = true;
+        long id = cursor.getAndIncrement();
+        columns.computeIfAbsent(userId, k -> new UserHistoryColumns(k, id, updateMillis)).append(id, amount, type, updateMillis);
+        return new PointHistory(id, userId, amount, type, updateMillis);
+    }
+
+    /**
+     * 내역 수만큼의 id 를 한번에 예약한 뒤 유저별 컬럼에 추가
+     */
+    @Override
+    public List<PointHistory> insertAll(List<NewHistory> histories) {
+        inserted = true;
+        long id = cursor.getAndAdd(histories.size());
+        List<PointHistory> stored = new ArrayList<>(histories.size());
+        for (NewHistory history : histories) {
+            long rowId = id++;
+            columns.computeIfAbsent(history.userId(), k -> new UserHistoryColumns(k, rowId, history.updateMillis()))
+                    .append(rowId, history.amount(), history.type(), history.updateMillis());
+            stored.add(new PointHistory(rowId, history.userId(), history.amount(), history.type(), history.updateMillis()));
+        }
+        return stored;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        UserHistoryColumns userColumns = columns.get(userId);
+        return userColumns == null ? List.of() : userColumns.snapshot();
+    }
+
+    @Override
+    public long lastId() {
+        return cursor.get() - 1;
+    }
+
+    /**
+     * 적재한 내역의 id 를 그대로 보관하고, 다음 발급 id 를 적재된 가장 큰 id 다음으로 옮긴다
+     */
+    @Override
+    public synchronized void load(List<PointHistory> histories) {
+        if (inserted) {
+            throw new IllegalStateException("이미 내역이 저장된 저장소에는 내역을 적재할 수 없습니다.");
+        }
+        for (PointHistory pointHistory : histories) {
+            columns.computeIfAbsent(pointHistory.userId(), k -> new UserHistoryColumns(k, pointHistory.id(), pointHistory.updateMillis()))
+                    .append(pointHistory.id(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+            cursor.accumulateAndGet(pointHistory.id() + 1, Math::max);
+        }
+    }
+
+    @Override
+    public PointHistoryPage selectPage(long userId, PointHistoryQuery query) {
+        UserHistoryColumns userColumns = columns.get(userId);
+        return userColumns == null ? new PointHistoryPage(List.of(), null) : userColumns.page(query);
+    }
+
+    @Override
+    public LongStream userIds() {
+        return columns.keySet().stream().mapToLong(Long::longValue);
+    }
+
+    /**
+     * 저장소 전체가 사용하는 메모리 추정치
+     */
+    public ColumnStats stats() {
+        long users = 0;
+        long rows = 0;
+        long bytes = 0;
+        for (UserHistoryColumns userColumns : columns.values()) {
+            users++;
+            rows += userColumns.size();
+            bytes += MAP_ENTRY_BYTES + userColumns.bytes();
+        }
+        return new ColumnStats(users, rows, bytes);
+    }
+
+    public record ColumnStats(long users, long rows, long estimatedBytes) {
+    }
+}
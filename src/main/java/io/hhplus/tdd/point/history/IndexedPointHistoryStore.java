@@ -0,0 +1,97 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+/**
+ * userId 기준 보조 인덱스를 가진 내역 저장소
+ * - 저장은 PointHistoryTable 에 위임하여 id 발급과 원본 보관은 테이블이 담당
+ * - 저장된 내역을 유저별 세그먼트에도 추가하여, 조회 시 전체 테이블이 아닌 해당 유저의 내역만 읽는다
+ * - 원장에서 적재한 내역은 세그먼트에만 보관하고, 테이블이 발급한 id 는 적재된 가장 큰 id 만큼 밀어서 사용한다
+ */
+public class IndexedPointHistoryStore implements PointHistoryStore {
+
+    // 메모리 사용량 추정치 (compressed oops 기준)
+    private static final long MAP_ENTRY_BYTES = 32 + 16;     // ConcurrentHashMap Node + Long key
+    private static final long SEGMENT_BYTES = 16 + 16;       // 세그먼트 객체 + 배열 헤더
+    private static final long REFERENCE_BYTES = 4;
+
+    private final PointHistoryTable pointHistoryTable;
+    private final Map<Long, UserHistorySegment> segments = new ConcurrentHashMap<>();
+    private final AtomicLong lastIssued = new AtomicLong();
+    private volatile long idBase;
+    private volatile boolean inserted;
+
+    public IndexedPointHistoryStore(PointHistoryTable pointHistoryTable) {
+        this.pointHistoryTable = pointHistoryTable;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        inserted = true;
+        PointHistory row = pointHistoryTable.insert(userId, amount, type, updateMillis);
+        PointHistory pointHistory = idBase == 0 ? row : new PointHistory(row.id() + idBase, userId, amount, type, updateMillis);
+        segments.computeIfAbsent(userId, k -> new UserHistorySegment()).append(pointHistory);
+        lastIssued.accumulateAndGet(pointHistory.id(), Math::max);
+        return pointHistory;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        UserHistorySegment segment = segments.get(userId);
+        return segment == null ? List.of() : segment.snapshot();
+    }
+
+    @Override
+    public long lastId() {
+        return Math.max(idBase, lastIssued.get());
+    }
+
+    @Override
+    public synchronized void load(List<PointHistory> histories) {
+        if (inserted) {
+            throw new IllegalStateException("이미 내역이 저장된 저장소에는 내역을 적재할 수 없습니다.");
+        }
+        for (PointHistory pointHistory : histories) {
+            segments.computeIfAbsent(pointHistory.userId(), k -> new UserHistorySegment()).append(pointHistory);
+            idBase = Math.max(idBase, pointHistory.id());
+        }
+    }
+
+    @Override
+    public PointHistoryPage selectPage(long userId, PointHistoryQuery query) {
+        UserHistorySegment segment = segments.get(userId);
+        return segment == null ? new PointHistoryPage(List.of(), null) : segment.page(query);
+    }
+
+    @Override
+    public LongStream userIds() {
+        return segments.keySet().stream().mapToLong(Long::longValue);
+    }
+
+    /**
+     * 인덱스가 추가로 사용하는 메모리 (내역 객체 자체는 테이블과 공유하므로 제외)
+     */
+    public IndexStats stats() {
+        long users = 0;
+        long rows = 0;
+        long bytes = 0;
+        for (UserHistorySegment segment : segments.values()) {
+            users++;
+            rows += segment.size();
+            bytes += MAP_ENTRY_BYTES + SEGMENT_BYTES + segment.capacity() * REFERENCE_BYTES;
+        }
+        return new IndexStats(users, rows, bytes);
+    }
+
+    public record IndexStats(long users, long rows, long estimatedBytes) {
+    }
+}
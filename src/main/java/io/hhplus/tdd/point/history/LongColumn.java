@@ -0,0 +1,59 @@
+package io.hhplus.tdd.point.history;
+
+import java.util.Arrays;
+
+/**
+ * long 값 컬럼
+ * - 기준값(base)과의 차이가 int 범위면 int[] 로 저장하여 값당 4 byte 만 사용
+ * - 범위를 벗어나는 값이 들어오면 그때 long[] 로 바꾼다
+ */
+final class LongColumn {
+
+    private final long base;
+    private int[] narrow;
+    private long[] wide;
+
+    LongColumn(long base, int capacity) {
+        this.base = base;
+        this.narrow = new int[capacity];
+    }
+
+    long get(int index) {
+        return wide != null ? wide[index] : base + narrow[index];
+    }
+
+    void set(int index, long value) {
+        if (wide != null) {
+            wide[index] = value;
+            return;
+        }
+        // long 뺄셈이 넘치더라도 base + delta 는 원래 값으로 돌아온다
+        long delta = value - base;
+        if ((int) delta == delta) {
+            narrow[index] = (int) delta;
+            return;
+        }
+        widen();
+        wide[index] = value;
+    }
+
+    void grow(int capacity) {
+        if (wide != null) {
+            wide = Arrays.copyOf(wide, capacity);
+        } else {
+            narrow = Arrays.copyOf(narrow, capacity);
+        }
+    }
+
+    long bytes() {
+        return wide != null ? wide.length * 8L : narrow.length * 4L;
+    }
+
+    private void widen() {
+        wide = new long[narrow.length];
+        for (int i = 0; i < narrow.length; i++) {
+            wide[i] = base + narrow[i];
+        }
+        narrow = null;
+    }
+}
@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 내역 저장소 호출 시간을 기록하는 저장소 (point.store.calls)
+ */
+public class MeteredPointHistoryStore implements PointHistoryStore {
+
+    private final PointHistoryStore delegate;
+    private final Timer insertTimer;
+    private final Timer insertAllTimer;
+    private final Timer selectTimer;
+    private final Timer pageTimer;
+
+    public MeteredPointHistoryStore(PointHistoryStore delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.insertTimer = timer(registry, "insert");
+        this.insertAllTimer = timer(registry, "insert_all");
+        this.selectTimer = timer(registry, "select");
+        this.pageTimer = timer(registry, "select_page");
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        long start = System.nanoTime();
+        try {
+            return delegate.insert(userId, amount, type, updateMillis);
+        } finally {
+            insertTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<PointHistory> insertAll(List<NewHistory> histories) {
+        long start = System.nanoTime();
+        try {
+            return delegate.insertAll(histories);
+        } finally {
+            insertAllTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        long start = System.nanoTime();
+        try {
+            return delegate.selectAllByUserId(userId);
+        } finally {
+            selectTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void load(List<PointHistory> histories) {
+        delegate.load(histories);
+    }
+
+    @Override
+    public PointHistoryPage selectPage(long userId, PointHistoryQuery query) {
+        long start = System.nanoTime();
+        try {
+            return delegate.selectPage(userId, query);
+        } finally {
+            pageTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public long lastId() {
+        return delegate.lastId();
+    }
+
+    @Override
+    public LongStream userIds() {
+        return delegate.userIds();
+    }
+
+    private static Timer timer(MeterRegistry registry, String operation) {
+        return Timer.builder("point.store.calls")
+                .description("포인트 테이블 호출 시간")
+                .tag("store", "point_history")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point.history;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 포인트 내역 저장소 설정 (point.history.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.history")
+public class PointHistoryProperties {
+
+    private StoreType store = StoreType.INDEXED; // 내역 저장소 종류
+    private boolean asyncWrites = false;         // 내역 저장을 링 버퍼에 기록하고 전용 스레드에서 저장
+    private int asyncBufferSize = 8192;          // 저장 대기 링 버퍼 크기 (2의 거듭제곱으로 올림)
+    private int asyncMaxBatch = 256;             // 전용 스레드가 insertAll 한번으로 저장할 최대 내역 수
+
+    /**
+     * 내역 저장소 종류
+     * - TABLE : PointHistoryTable 을 그대로 사용 (조회 시 전체 내역 탐색)
+     * - INDEXED : userId 별 세그먼트 인덱스를 함께 유지
+     * - COLUMNAR : 유저별 컬럼(primitive 배열)에 직접 저장하고 조회 시에만 PointHistory 를 생성
+     */
+    public enum StoreType {
+        TABLE, INDEXED, COLUMNAR
+    }
+}
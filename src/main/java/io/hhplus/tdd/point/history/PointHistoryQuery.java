@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 포인트 내역 페이지 조회 조건
+ * - cursor : 이 id 이후(초과)의 내역부터 조회 (null 이면 처음부터)
+ * - limit : 페이지 크기
+ * - from / to : updateMillis 범위 [from, to) (null 이면 제한 없음)
+ * - type : 트랜잭션 종류 (null 이면 전체)
+ */
+public record PointHistoryQuery(
+        Long cursor,
+        int limit,
+        Long from,
+        Long to,
+        TransactionType type
+) {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    public PointHistoryQuery {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_LIMIT + " 이하이어야 합니다.");
+        }
+    }
+
+    public boolean isAfterCursor(PointHistory pointHistory) {
+        return cursor == null || pointHistory.id() > cursor;
+    }
+
+    // updateMillis 가 조회 범위의 끝(to)을 지났는지 여부
+    public boolean isPastRange(long updateMillis) {
+        return to != null && updateMillis >= to;
+    }
+
+    public boolean matches(PointHistory pointHistory) {
+        return matches(pointHistory.updateMillis(), pointHistory.type());
+    }
+
+    public boolean matches(long updateMillis, TransactionType type) {
+        return (from == null || updateMillis >= from)
+                && (to == null || updateMillis < to)
+                && (this.type == null || this.type == type);
+    }
+}
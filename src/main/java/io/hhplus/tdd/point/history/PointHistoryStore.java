@@ -0,0 +1,74 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * 포인트 충전/사용 내역 저장소
+ * - PointHistoryTable 과 동일한 insert / selectAllByUserId 계약을 가진다.
+ */
+public interface PointHistoryStore {
+
+    PointHistory insert(long userId, long amount, TransactionType type, long updateMillis);
+
+    List<PointHistory> selectAllByUserId(long userId);
+
+    /**
+     * 여러 내역을 주어진 순서대로 저장하고, 발급된 내역을 같은 순서로 반환
+     * - 기본 구현은 insert 를 한 건씩 호출하며, 한번에 저장할 수 있는 저장소는 재정의한다
+     * - 중간에 실패하면 앞선 내역은 저장된 채로 예외가 전달되므로, 저장된 건수는 lastId() 로 확인한다
+     */
+    default List<PointHistory> insertAll(List<NewHistory> histories) {
+        List<PointHistory> stored = new ArrayList<>(histories.size());
+        for (NewHistory history : histories) {
+            stored.add(insert(history.userId(), history.amount(), history.type(), history.updateMillis()));
+        }
+        return stored;
+    }
+
+    /**
+     * 원장 복구용 일괄 적재 : 내역을 주어진 id 그대로 보관하며, 테이블 지연(throttle) 없이 메모리에만 적재한다
+     * - 이후 insert 는 적재된 가장 큰 id 다음부터 id 를 발급한다
+     * - 이미 insert 로 저장된 내역이 있으면 id 가 겹칠 수 있으므로 IllegalStateException
+     */
+    void load(List<PointHistory> histories);
+
+    /**
+     * 지금까지 발급하거나 적재한 가장 큰 내역 id (없으면 0), 다음 insert 는 이 id 다음 id 를 발급한다
+     */
+    long lastId();
+
+    /**
+     * id 오름차순 커서 기반 페이지 조회
+     * - 기본 구현은 유저의 전체 내역을 조회한 뒤 조건에 맞는 내역을 잘라낸다
+     */
+    default PointHistoryPage selectPage(long userId, PointHistoryQuery query) {
+        List<PointHistory> items = new ArrayList<>();
+        for (PointHistory pointHistory : selectAllByUserId(userId)) {
+            if (!query.isAfterCursor(pointHistory) || !query.matches(pointHistory)) {
+                continue;
+            }
+            if (items.size() == query.limit()) {
+                return new PointHistoryPage(items, items.get(items.size() - 1).id());
+            }
+            items.add(pointHistory);
+        }
+        return new PointHistoryPage(items, null);
+    }
+
+    /**
+     * 내역이 있는 전체 유저 id (전체 내보내기, 기동 시 집계/충전 묶음 초기화용)
+     */
+    LongStream userIds();
+
+    /**
+     * id 가 발급되기 전의 내역 (insertAll 입력)
+     */
+    record NewHistory(long userId, long amount, TransactionType type, long updateMillis) {
+    }
+}
@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.ledger.LedgerPointHistoryStore;
+import io.hhplus.tdd.point.ledger.PointLedgerSnapshotter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PointHistoryProperties.class)
+public class PointHistoryStoreConfig {
+
+    @Bean
+    public PointHistoryStore pointHistoryStore(PointHistoryTable pointHistoryTable, PointHistoryProperties properties,
+                                               ObjectProvider<PointLedgerSnapshotter> ledgerSnapshotter, MeterRegistry meterRegistry) {
+        PointHistoryStore historyStore = switch (properties.getStore()) {
+            case TABLE -> new TablePointHistoryStore(pointHistoryTable);
+            case INDEXED -> {
+                IndexedPointHistoryStore indexedStore = new IndexedPointHistoryStore(pointHistoryTable);
+                meterRegistry.gauge("point.history.index.bytes", indexedStore, store -> store.stats().estimatedBytes());
+                yield indexedStore;
+            }
+            case COLUMNAR -> {
+                ColumnarPointHistoryStore columnarStore = new ColumnarPointHistoryStore();
+                meterRegistry.gauge("point.history.columnar.bytes", columnarStore, store -> store.stats().estimatedBytes());
+                yield columnarStore;
+            }
+        };
+        PointHistoryStore meteredStore = new MeteredPointHistoryStore(historyStore, meterRegistry);
+        // 원장 사용 시 기동 시점에 스냅샷과 원장 꼬리로 내역을 복구하고, 이후 저장되는 내역을 원장에 기록
+        PointLedgerSnapshotter snapshotter = ledgerSnapshotter.getIfAvailable();
+        PointHistoryStore durableStore = snapshotter == null ? meteredStore : LedgerPointHistoryStore.restore(meteredStore, snapshotter);
+        // 비동기 저장 시 원장 기록도 전용 스레드에서 저장 순서대로 수행된다
+        return properties.isAsyncWrites()
+                ? new AsyncPointHistoryStore(durableStore, properties.getAsyncBufferSize(), properties.getAsyncMaxBatch(), meterRegistry)
+                : durableStore;
+    }
+}
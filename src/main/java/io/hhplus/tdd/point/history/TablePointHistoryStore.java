@@ -0,0 +1,82 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+/**
+ * PointHistoryTable 을 그대로 사용하는 기본 저장소
+ * - 원장에서 적재한 내역은 테이블 밖에 유저별로 보관하고, 테이블이 발급한 id 는 적재된 가장 큰 id 만큼 밀어서 반환한다
+ * - 테이블은 전체 유저 목록을 제공하지 않으므로 내역이 저장된 유저 id 를 따로 보관한다
+ */
+public class TablePointHistoryStore implements PointHistoryStore {
+
+    private final PointHistoryTable pointHistoryTable;
+    private final Map<Long, List<PointHistory>> loaded = new ConcurrentHashMap<>();
+    private final Set<Long> userIds = ConcurrentHashMap.newKeySet();
+    private final AtomicLong lastIssued = new AtomicLong();
+    private volatile long idBase;
+    private volatile boolean inserted;
+
+    public TablePointHistoryStore(PointHistoryTable pointHistoryTable) {
+        this.pointHistoryTable = pointHistoryTable;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        inserted = true;
+        PointHistory pointHistory = shift(pointHistoryTable.insert(userId, amount, type, updateMillis));
+        lastIssued.accumulateAndGet(pointHistory.id(), Math::max);
+        userIds.add(userId);
+        return pointHistory;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        List<PointHistory> rows = pointHistoryTable.selectAllByUserId(userId);
+        List<PointHistory> loadedRows = loaded.get(userId);
+        if (loadedRows == null) {
+            return idBase == 0 ? rows : rows.stream().map(this::shift).toList();
+        }
+        List<PointHistory> merged = new ArrayList<>(loadedRows.size() + rows.size());
+        merged.addAll(loadedRows);
+        rows.forEach(pointHistory -> merged.add(shift(pointHistory)));
+        return merged;
+    }
+
+    @Override
+    public LongStream userIds() {
+        return userIds.stream().mapToLong(Long::longValue);
+    }
+
+    @Override
+    public long lastId() {
+        return Math.max(idBase, lastIssued.get());
+    }
+
+    @Override
+    public synchronized void load(List<PointHistory> histories) {
+        if (inserted) {
+            throw new IllegalStateException("이미 내역이 저장된 저장소에는 내역을 적재할 수 없습니다.");
+        }
+        for (PointHistory pointHistory : histories) {
+            loaded.computeIfAbsent(pointHistory.userId(), k -> new ArrayList<>()).add(pointHistory);
+            userIds.add(pointHistory.userId());
+            idBase = Math.max(idBase, pointHistory.id());
+        }
+    }
+
+    private PointHistory shift(PointHistory pointHistory) {
+        long base = idBase;
+        return base == 0 ? pointHistory : new PointHistory(pointHistory.id() + base, pointHistory.userId(),
+                pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+    }
+}
@@ -0,0 +1,140 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 한 유저의 충전/사용 내역을 id 오름차순 컬럼(id, amount, type, updateMillis)으로 보관하는 append-only 세그먼트
+ * - 내역마다 객체를 만들지 않고, 조회 시 반환할 내역만 PointHistory 로 만든다
+ * - userId 는 세그먼트 단위로 한번만 보관
+ */
+class UserHistoryColumns {
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final long OBJECT_BYTES = 40 + 3 * 32 + 4 * 16;   // 세그먼트 객체 + LongColumn 객체 3개 + 배열 헤더 4개
+
+    private final long userId;
+    private final LongColumn ids;
+    private final LongColumn amounts;
+    private final LongColumn updateMillis;
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private int size;
+
+    UserHistoryColumns(long userId, long firstId, long firstMillis) {
+        this.userId = userId;
+        this.ids = new LongColumn(firstId, INITIAL_CAPACITY);
+        this.amounts = new LongColumn(0L, INITIAL_CAPACITY);
+        this.updateMillis = new LongColumn(firstMillis, INITIAL_CAPACITY);
+    }
+
+    synchronized void append(long id, long amount, TransactionType type, long millis) {
+        if (size == types.length) {
+            // 남는 공간을 줄이기 위해 1.5배씩 늘린다
+            int capacity = size + (size >> 1);
+            ids.grow(capacity);
+            amounts.grow(capacity);
+            updateMillis.grow(capacity);
+            types = Arrays.copyOf(types, capacity);
+        }
+        // 같은 유저의 내역은 락 안에서 순서대로 들어오지만, 순서가 어긋난 경우에도 id 오름차순을 유지
+        int position = size;
+        while (position > 0 && ids.get(position - 1) > id) {
+            copy(position - 1, position);
+            position--;
+        }
+        ids.set(position, id);
+        amounts.set(position, amount);
+        updateMillis.set(position, millis);
+        types[position] = (byte) type.ordinal();
+        size++;
+    }
+
+    synchronized List<PointHistory> snapshot() {
+        List<PointHistory> rows = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            rows.add(materialize(row));
+        }
+        return rows;
+    }
+
+    /**
+     * cursor 와 from 위치를 이진 탐색으로 찾은 뒤, 컬럼 값으로 조건을 확인하여 조건에 맞는 내역만 만들고 to 를 지나면 멈춘다
+     * - 한 유저의 내역은 유저 단위 순차 실행 안에서 저장되므로 updateMillis 도 id 순서를 따른다
+     */
+    synchronized PointHistoryPage page(PointHistoryQuery query) {
+        int row = query.cursor() == null ? 0 : firstRowAfter(query.cursor());
+        if (query.from() != null) {
+            row = Math.max(row, firstRowFrom(query.from()));
+        }
+        List<PointHistory> items = new ArrayList<>(Math.min(query.limit(), size - row));
+        for (; row < size; row++) {
+            if (query.isPastRange(updateMillis.get(row))) {
+                break;
+            }
+            if (!query.matches(updateMillis.get(row), TYPES[types[row]])) {
+                continue;
+            }
+            if (items.size() == query.limit()) {
+                return new PointHistoryPage(items, items.get(items.size() - 1).id());
+            }
+            items.add(materialize(row));
+        }
+        return new PointHistoryPage(items, null);
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 세그먼트가 사용하는 메모리 추정치 (byte)
+     */
+    synchronized long bytes() {
+        return OBJECT_BYTES + ids.bytes() + amounts.bytes() + updateMillis.bytes() + types.length;
+    }
+
+    private PointHistory materialize(int row) {
+        return new PointHistory(ids.get(row), userId, amounts.get(row), TYPES[types[row]], updateMillis.get(row));
+    }
+
+    private void copy(int from, int to) {
+        ids.set(to, ids.get(from));
+        amounts.set(to, amounts.get(from));
+        updateMillis.set(to, updateMillis.get(from));
+        types[to] = types[from];
+    }
+
+    private int firstRowAfter(long id) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ids.get(mid) <= id) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int firstRowFrom(long millis) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (updateMillis.get(mid) < millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,99 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 한 유저의 충전/사용 내역을 id 오름차순으로 보관하는 append-only 세그먼트
+ */
+class UserHistorySegment {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private PointHistory[] rows = new PointHistory[INITIAL_CAPACITY];
+    private int size;
+
+    synchronized void append(PointHistory pointHistory) {
+        if (size == rows.length) {
+            rows = Arrays.copyOf(rows, size * 2);
+        }
+        // 같은 유저의 내역은 락 안에서 순서대로 들어오지만, 순서가 어긋난 경우에도 id 오름차순을 유지
+        int position = size;
+        while (position > 0 && rows[position - 1].id() > pointHistory.id()) {
+            rows[position] = rows[position - 1];
+            position--;
+        }
+        rows[position] = pointHistory;
+        size++;
+    }
+
+    synchronized List<PointHistory> snapshot() {
+        return List.of(Arrays.copyOf(rows, size));
+    }
+
+    /**
+     * cursor 와 from 위치를 이진 탐색으로 찾은 뒤, 조건에 맞는 내역을 limit 개까지만 읽고 to 를 지나면 멈춘다
+     * - 한 유저의 내역은 유저 단위 순차 실행 안에서 저장되므로 updateMillis 도 id 순서를 따른다
+     */
+    synchronized PointHistoryPage page(PointHistoryQuery query) {
+        int position = query.cursor() == null ? 0 : firstIndexAfter(query.cursor());
+        if (query.from() != null) {
+            position = Math.max(position, firstIndexFrom(query.from()));
+        }
+        List<PointHistory> items = new ArrayList<>(Math.min(query.limit(), size - position));
+        for (; position < size; position++) {
+            PointHistory pointHistory = rows[position];
+            if (query.isPastRange(pointHistory.updateMillis())) {
+                break;
+            }
+            if (!query.matches(pointHistory)) {
+                continue;
+            }
+            if (items.size() == query.limit()) {
+                return new PointHistoryPage(items, items.get(items.size() - 1).id());
+            }
+            items.add(pointHistory);
+        }
+        return new PointHistoryPage(items, null);
+    }
+
+    private int firstIndexAfter(long id) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (rows[mid].id() <= id) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int firstIndexFrom(long millis) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (rows[mid].updateMillis() < millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized int capacity() {
+        return rows.length;
+    }
+}
@@ -0,0 +1,83 @@
+package io.hhplus.tdd.point.ledger;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 특정 원장 위치까지 반영된 전체 유저 잔고 이미지
+ * - 같은 위치까지의 내역은 내역 이미지 파일에 원장 레코드 형식으로 이어서 기록되며, historyBytes 는 그 중 이 스냅샷에 포함된 길이
+ *
+ * 파일 구조 (big endian)
+ * | magic(4) | version(4) | segment(8) | offset(4) | lastHistoryId(8) | historyBytes(8) | count(4) | (userId(8) | point(8)) * count | crc(8) |
+ * - version 1 (historyBytes 없음) 스냅샷은 내역 이미지가 없으므로 읽지 않고 원장 처음부터 재생한다
+ */
+public record BalanceSnapshot(LedgerPosition position, long lastHistoryId, long historyBytes, Map<Long, Long> balances) {
+
+    private static final int MAGIC = 0x50534E50; // "PSNP"
+    private static final int VERSION = 2;
+
+    public static BalanceSnapshot empty() {
+        return new BalanceSnapshot(LedgerPosition.START, 0L, 0L, new HashMap<>());
+    }
+
+    /**
+     * 임시 파일에 기록한 뒤 교체하여, 기록 도중 중단되어도 이전 스냅샷이 유지되도록 한다
+     *
+     * @return 기록된 파일 크기 (byte)
+     */
+    public long write(Path path) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)), new CRC32C());
+        try (DataOutputStream out = new DataOutputStream(checked)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(position.segment());
+            out.writeInt(position.offset());
+            out.writeLong(lastHistoryId);
+            out.writeLong(historyBytes);
+            out.writeInt(balances.size());
+            for (Map.Entry<Long, Long> entry : balances.entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeLong(entry.getValue());
+            }
+            out.writeLong(checked.getChecksum().getValue());
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return Files.size(path);
+    }
+
+    /**
+     * 스냅샷 파일이 없으면 빈 스냅샷, 손상되었으면 IOException
+     */
+    public static BalanceSnapshot read(Path path) throws IOException {
+        if (Files.notExists(path)) {
+            return empty();
+        }
+        CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(Files.newInputStream(path)), new CRC32C());
+        try (DataInputStream in = new DataInputStream(checked)) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("잔고 스냅샷 형식이 올바르지 않습니다. : " + path);
+            }
+            LedgerPosition position = new LedgerPosition(in.readLong(), in.readInt());
+            long lastHistoryId = in.readLong();
+            long historyBytes = in.readLong();
+            int count = in.readInt();
+            Map<Long, Long> balances = new HashMap<>(Math.max(16, (int) (count / 0.75f) + 1));
+            for (int i = 0; i < count; i++) {
+                balances.put(in.readLong(), in.readLong());
+            }
+            long expected = checked.getChecksum().getValue();
+            if (in.readLong() != expected) {
+                throw new IOException("잔고 스냅샷 CRC 가 맞지 않습니다. : " + path);
+            }
+            return new BalanceSnapshot(position, lastHistoryId, historyBytes, balances);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.hhplus.tdd.point.ledger;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.history.PointHistoryQuery;
+import io.hhplus.tdd.point.history.PointHistoryStore;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+/**
+ * 저장된 내역을 원장에 함께 기록하는 저장소
+ */
+public class LedgerPointHistoryStore implements PointHistoryStore {
+
+    private static final int LOAD_CHUNK = 10_000;
+
+    private final PointHistoryStore delegate;
+    private final PointLedger ledger;
+
+    public LedgerPointHistoryStore(PointHistoryStore delegate, PointLedger ledger) {
+        this.delegate = delegate;
+        this.ledger = ledger;
+    }
+
+    /**
+     * 스냅샷의 내역 이미지와 이후 원장 꼬리의 내역을 기록된 id 그대로 저장소에 일괄 적재한 뒤, 이후 저장을 원장에 기록하는 저장소를 반환
+     * - 테이블 지연을 거치지 않도록 insert 가 아닌 load 로 LOAD_CHUNK 건씩 적재한다
+     * - 유저별 id 는 기록 순서대로 증가해야 하며, 어긋나면 잘못된 내역으로 기동하지 않도록 IllegalStateException
+     */
+    public static LedgerPointHistoryStore restore(PointHistoryStore delegate, PointLedgerSnapshotter snapshotter) {
+        Map<Long, Long> lastIds = new HashMap<>();
+        List<PointHistory> chunk = new ArrayList<>(LOAD_CHUNK);
+        snapshotter.recoverHistories(record -> {
+            Long lastId = lastIds.put(record.userId(), record.id());
+            if (record.id() <= 0 || (lastId != null && lastId >= record.id())) {
+                throw new IllegalStateException("원장의 내역 id 가 어긋났습니다 : userId=%d, id=%d, 직전 id=%s"
+                        .formatted(record.userId(), record.id(), lastId));
+            }
+            chunk.add(new PointHistory(record.id(), record.userId(), record.value(), record.type(), record.updateMillis()));
+            if (chunk.size() == LOAD_CHUNK) {
+                delegate.load(chunk);
+                chunk.clear();
+            }
+        });
+        delegate.load(chunk);
+        return new LedgerPointHistoryStore(delegate, snapshotter.ledger());
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = delegate.insert(userId, amount, type, updateMillis);
+        ledger.append(LedgerRecord.history(pointHistory.id(), userId, amount, type, updateMillis));
+        return pointHistory;
+    }
+
+    /**
+     * 위임 저장소에 한번에 저장한 뒤 원장에 순서대로 기록
+     * - 중간에 실패하면 앞서 저장된 내역(lastId 로 확인)까지 원장에 기록하고 예외를 전달하여, 다시 시도할 때 원장에서 빠지지 않게 한다
+     */
+    @Override
+    public List<PointHistory> insertAll(List<NewHistory> histories) {
+        long lastId = delegate.lastId();
+        List<PointHistory> stored;
+        try {
+            stored = delegate.insertAll(histories);
+        } catch (RuntimeException e) {
+            long storedCount = delegate.lastId() - lastId;
+            for (int i = 0; i < storedCount; i++) {
+                NewHistory history = histories.get(i);
+                ledger.append(LedgerRecord.history(lastId + 1 + i, history.userId(), history.amount(), history.type(), history.updateMillis()));
+            }
+            throw e;
+        }
+        stored.forEach(pointHistory -> ledger.append(LedgerRecord.history(pointHistory.id(), pointHistory.userId(),
+                pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis())));
+        return stored;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return delegate.selectAllByUserId(userId);
+    }
+
+    /**
+     * 적재는 원장에서 읽은 내역을 다시 올리는 용도이므로 원장에 기록하지 않는다
+     */
+    @Override
+    public void load(List<PointHistory> histories) {
+        delegate.load(histories);
+    }
+
+    @Override
+    public PointHistoryPage selectPage(long userId, PointHistoryQuery query) {
+        return delegate.selectPage(userId, query);
+    }
+
+    @Override
+    public long lastId() {
+        return delegate.lastId();
+    }
+
+    @Override
+    public LongStream userIds() {
+        return delegate.userIds();
+    }
+}
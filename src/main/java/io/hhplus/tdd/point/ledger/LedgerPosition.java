@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.ledger;
+
+/**
+ * 원장 내 위치 (세그먼트 번호, 세그먼트 내 byte offset)
+ */
+public record LedgerPosition(long segment, int offset) implements Comparable<LedgerPosition> {
+
+    // 첫 세그먼트(1)보다 앞선 위치
+    public static final LedgerPosition START = new LedgerPosition(0, 0);
+
+    @Override
+    public int compareTo(LedgerPosition other) {
+        int compare = Long.compare(segment, other.segment);
+        return compare != 0 ? compare : Integer.compare(offset, other.offset);
+    }
+}
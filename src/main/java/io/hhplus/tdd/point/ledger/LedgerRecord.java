@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.ledger;
+
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 원장에 기록되는 고정 길이(40 byte) 레코드
+ * - HISTORY : 저장된 충전/사용 내역 (id = 내역 id, value = 금액)
+ * - BALANCE : 갱신된 잔고 (id = 0, value = 잔고, type = null)
+ */
+public record LedgerRecord(Kind kind, long id, long userId, long value, TransactionType type, long updateMillis) {
+
+    public enum Kind {
+        HISTORY, BALANCE
+    }
+
+    public static LedgerRecord history(long id, long userId, long amount, TransactionType type, long updateMillis) {
+        return new LedgerRecord(Kind.HISTORY, id, userId, amount, type, updateMillis);
+    }
+
+    public static LedgerRecord balance(long userId, long point, long updateMillis) {
+        return new LedgerRecord(Kind.BALANCE, 0L, userId, point, null, updateMillis);
+    }
+}
@@ -0,0 +1,64 @@
+package io.hhplus.tdd.point.ledger;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.store.UserPointStore;
+
+import java.util.List;
+
+/**
+ * 잔고 갱신을 원장에 함께 기록하는 저장소
+ */
+public class LedgerUserPointStore implements UserPointStore {
+
+    private final UserPointStore delegate;
+    private final PointLedger ledger;
+
+    public LedgerUserPointStore(UserPointStore delegate, PointLedger ledger) {
+        this.delegate = delegate;
+        this.ledger = ledger;
+    }
+
+    /**
+     * 스냅샷과 이후 원장 꼬리로 유저별 마지막 잔고를 저장소에 복구한 뒤, 이후 갱신을 원장에 기록하는 저장소를 반환
+     * - 테이블 지연과 캐시의 반영 대기를 거치지 않도록 insertOrUpdate 가 아닌 load 로 일괄 적재한다
+     */
+    public static LedgerUserPointStore restore(UserPointStore delegate, PointLedgerSnapshotter snapshotter) {
+        snapshotter.recoverBalances(delegate::load);
+        return new LedgerUserPointStore(delegate, snapshotter.ledger());
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        return delegate.selectById(id);
+    }
+
+    @Override
+    public UserPoint selectCached(long id) {
+        return delegate.selectCached(id);
+    }
+
+    @Override
+    public boolean awaitWritable(long id, long timeoutNanos) {
+        return delegate.awaitWritable(id, timeoutNanos);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = delegate.insertOrUpdate(id, amount);
+        ledger.append(LedgerRecord.balance(id, userPoint.point(), userPoint.updateMillis()));
+        return userPoint;
+    }
+
+    /**
+     * 적재는 원장에서 읽은 잔고를 다시 올리는 용도이므로 원장에 기록하지 않는다
+     */
+    @Override
+    public void load(List<UserPoint> userPoints) {
+        delegate.load(userPoints);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
@@ -0,0 +1,334 @@
+package io.hhplus.tdd.point.ledger;
+
+import io.hhplus.tdd.point.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 맵 파일 기반 append-only 원장 (write-ahead log)
+ * - 레코드는 고정 크기 세그먼트 파일(ledger-00000001.wal ...)에 순서대로 기록되며, 가득 차면 다음 세그먼트로 넘어간다
+ * - 기록은 매핑된 메모리에 복사만 하고 반환하며, 디스크 동기화(force)는 백그라운드에서 주기적으로 또는 fsyncBatch 건마다 묶어서 수행
+ *   - 프로세스가 죽어도 기록된 내용은 OS 페이지 캐시에 남지만, OS 장애 시에는 마지막 동기화 이후 기록이 유실될 수 있다
+ * - 레코드마다 CRC 를 함께 기록하여, 기동 시 마지막 세그먼트의 깨진 꼬리 레코드 이후를 버린다
+ *
+ * 레코드 구조 (40 byte, big endian)
+ * | header(4) | crc(4) | id(8) | userId(8) | value(8) | updateMillis(8) |
+ * - header = (kind + 1) << 8 | (type + 1), 0 이면 기록되지 않은 영역
+ */
+public class PointLedger implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PointLedger.class);
+
+    static final int RECORD_BYTES = 40;
+    private static final String SEGMENT_PREFIX = "ledger-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final LedgerRecord.Kind[] KINDS = LedgerRecord.Kind.values();
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final int fsyncBatch;
+    private final ScheduledExecutorService syncer;
+    private final ByteBuffer scratch = ByteBuffer.allocate(RECORD_BYTES);
+
+    // 아래 필드는 this 락으로 보호
+    private long segmentIndex;
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private long appended;
+    private long synced;
+
+    public PointLedger(PointLedgerProperties properties) {
+        this(Path.of(properties.getDirectory()), Math.toIntExact(properties.getSegmentSize().toBytes()),
+                properties.getFsyncInterval().toMillis(), properties.getFsyncBatch());
+    }
+
+    PointLedger(Path directory, int segmentBytes, long fsyncIntervalMillis, int fsyncBatch) {
+        if (segmentBytes < RECORD_BYTES) {
+            throw new IllegalArgumentException("세그먼트 크기는 레코드 크기(" + RECORD_BYTES + " byte) 이상이어야 합니다.");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes - segmentBytes % RECORD_BYTES;
+        this.fsyncBatch = Math.max(1, fsyncBatch);
+        try {
+            Files.createDirectories(directory);
+            List<Path> segments = segments();
+            if (segments.isEmpty()) {
+                openSegment(1);
+            } else {
+                Path last = segments.get(segments.size() - 1);
+                openSegment(segmentIndex(last));
+                recoverTail();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 원장을 열 수 없습니다. : " + directory, e);
+        }
+        this.syncer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "point-ledger-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        syncer.scheduleWithFixedDelay(this::syncQuietly, fsyncIntervalMillis, fsyncIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void append(LedgerRecord record) {
+        boolean requestSync;
+        synchronized (this) {
+            if (segment.remaining() < RECORD_BYTES) {
+                rollSegment();
+            }
+            scratch.clear();
+            encode(record, scratch);
+            segment.put(scratch.flip());
+            appended++;
+            requestSync = appended - synced == fsyncBatch;
+        }
+        if (requestSync) {
+            syncer.execute(this::syncQuietly);
+        }
+    }
+
+    /**
+     * 기록된 모든 레코드를 기록 순서대로 전달
+     */
+    public void replay(Consumer<LedgerRecord> consumer) {
+        replay(LedgerPosition.START, position(), consumer);
+    }
+
+    /**
+     * from 이후 to 이전까지 기록된 레코드를 기록 순서대로 전달
+     * - to 는 position() 으로 얻은 위치여야 하며, 그 이전 레코드는 모두 기록이 끝난 상태이므로 기록과 동시에 읽을 수 있다
+     */
+    public void replay(LedgerPosition from, LedgerPosition to, Consumer<LedgerRecord> consumer) {
+        try {
+            for (Path path : segments()) {
+                long index = segmentIndex(path);
+                if (index < from.segment() || index > to.segment()) {
+                    continue;
+                }
+                int start = index == from.segment() ? from.offset() : 0;
+                try (FileChannel readChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    int end = index == to.segment() ? to.offset() : (int) readChannel.size();
+                    ByteBuffer buffer = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, end).position(start);
+                    while (buffer.remaining() >= RECORD_BYTES) {
+                        LedgerRecord record = decode(buffer);
+                        if (record == null) {
+                            break;
+                        }
+                        consumer.accept(record);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 원장을 읽을 수 없습니다. : " + directory, e);
+        }
+    }
+
+    /**
+     * 다음 레코드가 기록될 위치
+     */
+    public synchronized LedgerPosition position() {
+        return new LedgerPosition(segmentIndex, segment.position());
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    /**
+     * 남아있는 가장 오래된 세그먼트 번호 (앞 세그먼트가 정리되지 않았으면 1)
+     */
+    public synchronized long firstSegment() {
+        try {
+            List<Path> segments = segments();
+            return segments.isEmpty() ? segmentIndex : segmentIndex(segments.get(0));
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 원장을 읽을 수 없습니다. : " + directory, e);
+        }
+    }
+
+    /**
+     * segment 보다 앞선 세그먼트 파일을 삭제 (스냅샷에 모두 반영된 구간 정리용, 기록 중인 세그먼트는 삭제하지 않는다)
+     *
+     * @return 삭제한 세그먼트 수
+     */
+    public synchronized int deleteSegmentsBefore(long segment) {
+        int deleted = 0;
+        try {
+            for (Path path : segments()) {
+                if (segmentIndex(path) < Math.min(segment, segmentIndex)) {
+                    Files.delete(path);
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 원장 세그먼트를 삭제할 수 없습니다. : " + directory, e);
+        }
+        return deleted;
+    }
+
+    /**
+     * 기록된 내용을 디스크에 동기화
+     */
+    public void sync() {
+        MappedByteBuffer current;
+        long target;
+        synchronized (this) {
+            current = segment;
+            target = appended;
+        }
+        current.force();
+        synchronized (this) {
+            synced = Math.max(synced, target);
+        }
+    }
+
+    /**
+     * 기록되었지만 아직 디스크에 동기화되지 않은 레코드 수
+     */
+    public synchronized long unsynced() {
+        return appended - synced;
+    }
+
+    @Override
+    public void close() {
+        syncer.shutdown();
+        try {
+            syncer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            segment.force();
+            synced = appended;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("포인트 원장 세그먼트를 닫지 못했습니다.", e);
+            }
+        }
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.error("포인트 원장 동기화 실패", e);
+        }
+    }
+
+    private void rollSegment() {
+        MappedByteBuffer full = segment;
+        FileChannel fullChannel = channel;
+        try {
+            openSegment(segmentIndex + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 원장 세그먼트를 만들 수 없습니다.", e);
+        }
+        // 가득 찬 세그먼트의 동기화는 기록 경로에서 기다리지 않도록 백그라운드에서 수행
+        syncer.execute(() -> {
+            full.force();
+            try {
+                fullChannel.close();
+            } catch (IOException e) {
+                log.warn("포인트 원장 세그먼트를 닫지 못했습니다.", e);
+            }
+        });
+    }
+
+    private void openSegment(long index) throws IOException {
+        Path path = directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // 파일 크기보다 크게 매핑하면 세그먼트 크기만큼 파일이 늘어나며 0 으로 채워진다
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        segmentIndex = index;
+    }
+
+    /**
+     * 마지막 세그먼트의 유효한 레코드 끝으로 기록 위치를 옮기고, 그 이후 영역은 0 으로 지운다
+     * - 페이지 단위로 디스크에 반영되므로 깨진 레코드 뒤에 이전 레코드가 남아있을 수 있어 끝까지 지운다
+     */
+    private void recoverTail() {
+        ByteBuffer reader = segment.duplicate();
+        int end = 0;
+        while (reader.remaining() >= RECORD_BYTES && decode(reader) != null) {
+            end = reader.position();
+        }
+        byte[] zeros = new byte[8192];
+        for (int i = end; i < segmentBytes; i += zeros.length) {
+            segment.put(i, zeros, 0, Math.min(zeros.length, segmentBytes - i));
+        }
+        segment.position(end);
+        log.info("포인트 원장 기록 위치 : segment={}, records={}", segmentIndex, end / RECORD_BYTES);
+    }
+
+    // heap buffer 의 현재 위치에 레코드 하나를 기록 (스냅샷의 내역 이미지도 같은 형식을 사용)
+    static void encode(LedgerRecord record, ByteBuffer buffer) {
+        int typeCode = record.type() == null ? 0 : record.type().ordinal() + 1;
+        int header = (record.kind().ordinal() + 1) << 8 | typeCode;
+        int start = buffer.position();
+        buffer.putInt(header)
+                .putInt(0)
+                .putLong(record.id())
+                .putLong(record.userId())
+                .putLong(record.value())
+                .putLong(record.updateMillis());
+        buffer.putInt(start + 4, checksum(buffer.array(), buffer.arrayOffset() + start));
+    }
+
+    // 기록되지 않은 영역이거나 CRC 가 맞지 않으면 null
+    static LedgerRecord decode(ByteBuffer buffer) {
+        byte[] bytes = new byte[RECORD_BYTES];
+        buffer.get(bytes);
+        ByteBuffer reader = ByteBuffer.wrap(bytes);
+        int header = reader.getInt();
+        int storedCrc = reader.getInt();
+        int kindCode = header >>> 8;
+        int typeCode = header & 0xFF;
+        if (header == 0 || storedCrc != checksum(bytes, 0) || kindCode < 1 || kindCode > KINDS.length || typeCode > TYPES.length) {
+            return null;
+        }
+        TransactionType type = typeCode == 0 ? null : TYPES[typeCode - 1];
+        return new LedgerRecord(KINDS[kindCode - 1], reader.getLong(), reader.getLong(), reader.getLong(), type, reader.getLong());
+    }
+
+    // crc 필드(4~8 byte)를 제외한 레코드 전체의 CRC
+    private static int checksum(byte[] bytes, int offset) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(bytes, offset, 4);
+        checksum.update(bytes, offset + 8, RECORD_BYTES - 8);
+        return (int) checksum.getValue();
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long segmentIndex(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point.ledger;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PointLedgerProperties.class)
+public class PointLedgerConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.ledger", name = "enabled", havingValue = "true")
+    public PointLedger pointLedger(PointLedgerProperties properties, MeterRegistry meterRegistry) {
+        PointLedger ledger = new PointLedger(properties);
+        meterRegistry.gauge("point.ledger.unsynced", ledger, PointLedger::unsynced);
+        return ledger;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.ledger", name = "enabled", havingValue = "true")
+    public PointLedgerSnapshotter pointLedgerSnapshotter(PointLedger pointLedger, PointLedgerProperties properties, MeterRegistry meterRegistry) {
+        PointLedgerSnapshotter snapshotter = new PointLedgerSnapshotter(pointLedger, properties.getSnapshotInterval().toMillis());
+        meterRegistry.gauge("point.ledger.snapshot.bytes", snapshotter, PointLedgerSnapshotter::snapshotBytes);
+        meterRegistry.gauge("point.ledger.recovery.millis", snapshotter, PointLedgerSnapshotter::recoveryMillis);
+        return snapshotter;
+    }
+}
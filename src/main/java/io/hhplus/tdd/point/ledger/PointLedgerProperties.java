@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.ledger;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 포인트 원장(WAL) 설정 (point.ledger.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.ledger")
+public class PointLedgerProperties {
+
+    private boolean enabled = false;                          // 원장 기록 및 기동 시 복구 여부
+    private String directory = "data/ledger";                 // 세그먼트 파일 저장 경로
+    private DataSize segmentSize = DataSize.ofMegabytes(64);  // 세그먼트 파일 하나의 크기
+    private Duration fsyncInterval = Duration.ofMillis(10);   // 디스크 동기화 주기
+    private int fsyncBatch = 256;                             // 이 건수만큼 쌓이면 주기와 관계없이 동기화
+    private Duration snapshotInterval = Duration.ofMinutes(1); // 잔고 스냅샷 기록 주기 (0 : 종료 시에만 기록)
+}
@@ -0,0 +1,271 @@
+package io.hhplus.tdd.point.ledger;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 원장의 잔고/내역 스냅샷을 주기적으로 기록
+ * - 마지막 스냅샷 위치 이후의 원장 꼬리만 읽어 잔고 이미지를 갱신하고, 꼬리의 내역은 내역 이미지 파일 끝에 이어서 기록하므로
+ *   원장 기록 경로를 막지 않는다
+ * - 스냅샷을 기록하면 스냅샷 위치보다 앞선 세그먼트는 더 이상 재생할 필요가 없으므로 삭제한다
+ * - 기동 시에는 스냅샷과 내역 이미지를 읽고 그 이후의 꼬리만 재생하여 잔고와 내역을 복구한다
+ * - 종료 시 마지막 스냅샷을 기록하여 다음 기동 시 재생할 꼬리를 비운다
+ */
+public class PointLedgerSnapshotter implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PointLedgerSnapshotter.class);
+    private static final int READ_RECORDS = 4096;
+    private static final int LOAD_CHUNK = 10_000;
+
+    static final String SNAPSHOT_FILE = "balances.snapshot";
+    static final String HISTORY_FILE = "histories.snapshot";
+
+    private final PointLedger ledger;
+    private final Path path;
+    private final FileChannel histories;
+    private final ByteBuffer historyBuffer = ByteBuffer.allocate(PointLedger.RECORD_BYTES * READ_RECORDS);
+    private final ScheduledExecutorService scheduler;
+
+    // 아래 필드는 this 락으로 보호
+    private BalanceSnapshot image;
+    private long snapshotBytes;
+    private long recoveryMillis;
+
+    public PointLedgerSnapshotter(PointLedger ledger, long intervalMillis) {
+        this.ledger = ledger;
+        this.path = ledger.directory().resolve(SNAPSHOT_FILE);
+        long start = System.currentTimeMillis();
+        try {
+            this.histories = FileChannel.open(ledger.directory().resolve(HISTORY_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.image = load(path, histories.size());
+            // 마지막 스냅샷 이후 이어서 기록된 내역은 꼬리 재생 시 다시 기록된다
+            histories.truncate(image.historyBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException("내역 이미지를 열 수 없습니다. : " + ledger.directory(), e);
+        }
+        if (image.position().equals(LedgerPosition.START)) {
+            requireFullLedger();
+        }
+        this.recoveryMillis = System.currentTimeMillis() - start;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "point-ledger-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (intervalMillis > 0) {
+            scheduler.scheduleWithFixedDelay(this::snapshotQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public PointLedger ledger() {
+        return ledger;
+    }
+
+    /**
+     * 스냅샷 이후 원장 꼬리를 재생하여 현재 원장 위치까지 반영된 유저별 잔고를 LOAD_CHUNK 명씩 전달 (기동 시 복구용)
+     * - 스냅샷은 잔고만 보관하므로 갱신 시각은 복구 시각으로 채운다
+     */
+    public synchronized void recoverBalances(Consumer<List<UserPoint>> loader) {
+        long start = System.currentTimeMillis();
+        LedgerPosition from = image.position();
+        long tail = catchUp();
+        List<UserPoint> chunk = new ArrayList<>(LOAD_CHUNK);
+        for (Map.Entry<Long, Long> balance : image.balances().entrySet()) {
+            chunk.add(new UserPoint(balance.getKey(), balance.getValue(), start));
+            if (chunk.size() == LOAD_CHUNK) {
+                loader.accept(chunk);
+                chunk = new ArrayList<>(LOAD_CHUNK);
+            }
+        }
+        loader.accept(chunk);
+        recoveryMillis += System.currentTimeMillis() - start;
+        log.info("잔고 복구 : 스냅샷 위치 {} 이후 {}건 재생, 유저 {}명, 누적 복구 시간 {}ms", from, tail, image.balances().size(), recoveryMillis);
+    }
+
+    /**
+     * 내역 이미지와 이후 원장 꼬리의 내역을 기록 순서대로 전달 (기동 시 복구용)
+     * - 전달한 내역의 가장 큰 id 가 스냅샷의 마지막 내역 id 와 다르면 이미지가 손상된 것이므로 IllegalStateException
+     */
+    public synchronized void recoverHistories(Consumer<LedgerRecord> consumer) {
+        long start = System.currentTimeMillis();
+        catchUp();
+        long lastHistoryId = 0;
+        long count = 0;
+        try {
+            for (long position = 0; position < image.historyBytes(); ) {
+                historyBuffer.clear().limit((int) Math.min(historyBuffer.capacity(), image.historyBytes() - position));
+                while (historyBuffer.hasRemaining()) {
+                    if (histories.read(historyBuffer, position + historyBuffer.position()) < 0) {
+                        throw new IllegalStateException("내역 이미지가 스냅샷보다 짧습니다. : " + image.historyBytes() + " byte");
+                    }
+                }
+                position += historyBuffer.position();
+                historyBuffer.flip();
+                while (historyBuffer.hasRemaining()) {
+                    LedgerRecord record = PointLedger.decode(historyBuffer);
+                    if (record == null) {
+                        throw new IllegalStateException("내역 이미지 레코드가 손상되었습니다. : " + count + "번째");
+                    }
+                    lastHistoryId = Math.max(lastHistoryId, record.id());
+                    count++;
+                    consumer.accept(record);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("내역 이미지를 읽을 수 없습니다. : " + ledger.directory(), e);
+        }
+        if (lastHistoryId != image.lastHistoryId()) {
+            throw new IllegalStateException("내역 이미지의 마지막 id %d 가 스냅샷의 마지막 내역 id %d 와 다릅니다."
+                    .formatted(lastHistoryId, image.lastHistoryId()));
+        }
+        recoveryMillis += System.currentTimeMillis() - start;
+        log.info("내역 복구 : {}건, 마지막 id {}, 누적 복구 시간 {}ms", count, lastHistoryId, recoveryMillis);
+    }
+
+    /**
+     * 현재 원장 위치까지 반영한 스냅샷을 기록하고, 스냅샷에 모두 반영된 세그먼트를 삭제
+     *
+     * @return 기록된 스냅샷 크기 (byte)
+     */
+    public synchronized long snapshot() {
+        long start = System.currentTimeMillis();
+        catchUp();
+        // 스냅샷이 디스크에 반영되지 않은 내역 이미지나 원장 위치를 가리키지 않도록 먼저 동기화
+        try {
+            histories.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("내역 이미지를 동기화할 수 없습니다. : " + ledger.directory(), e);
+        }
+        ledger.sync();
+        try {
+            snapshotBytes = image.write(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("잔고 스냅샷을 기록할 수 없습니다. : " + path, e);
+        }
+        int deleted = ledger.deleteSegmentsBefore(image.position().segment());
+        log.info("스냅샷 기록 : 잔고 {}명, {} byte, 내역 이미지 {} byte, 위치 {}, 삭제한 세그먼트 {}개, {}ms",
+                image.balances().size(), snapshotBytes, image.historyBytes(), image.position(), deleted,
+                System.currentTimeMillis() - start);
+        return snapshotBytes;
+    }
+
+    public synchronized long snapshotBytes() {
+        return snapshotBytes;
+    }
+
+    /**
+     * 기동 시 스냅샷 읽기부터 잔고/내역 복구까지 걸린 시간
+     */
+    public synchronized long recoveryMillis() {
+        return recoveryMillis;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        snapshotQuietly();
+        try {
+            histories.close();
+        } catch (IOException e) {
+            log.warn("내역 이미지를 닫지 못했습니다.", e);
+        }
+    }
+
+    // 스냅샷 위치부터 현재 원장 위치까지의 레코드를 잔고/내역 이미지에 반영하고 재생한 레코드 수를 반환
+    private long catchUp() {
+        LedgerPosition to = ledger.position();
+        if (image.position().compareTo(to) > 0) {
+            log.warn("스냅샷 위치 {} 가 원장 끝 {} 보다 뒤에 있어 원장 처음부터 재생합니다.", image.position(), to);
+            image = BalanceSnapshot.empty();
+            requireFullLedger();
+        }
+        Map<Long, Long> balances = image.balances();
+        long[] state = {image.lastHistoryId(), image.historyBytes(), 0};
+        historyBuffer.clear();
+        ledger.replay(image.position(), to, record -> {
+            if (record.kind() == LedgerRecord.Kind.BALANCE) {
+                balances.put(record.userId(), record.value());
+            } else {
+                state[0] = Math.max(state[0], record.id());
+                if (!historyBuffer.hasRemaining()) {
+                    state[1] = appendHistories(state[1]);
+                }
+                PointLedger.encode(record, historyBuffer);
+            }
+            state[2]++;
+        });
+        state[1] = appendHistories(state[1]);
+        image = new BalanceSnapshot(to, state[0], state[1], balances);
+        return state[2];
+    }
+
+    // 모아둔 내역 레코드를 내역 이미지의 position 위치에 기록하고 다음 기록 위치를 반환
+    private long appendHistories(long position) {
+        historyBuffer.flip();
+        try {
+            while (historyBuffer.hasRemaining()) {
+                position += histories.write(historyBuffer, position);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("내역 이미지를 기록할 수 없습니다. : " + ledger.directory(), e);
+        }
+        historyBuffer.clear();
+        return position;
+    }
+
+    // 스냅샷 없이 처음부터 재생하려면 앞 세그먼트가 남아있어야 한다
+    private void requireFullLedger() {
+        try {
+            histories.truncate(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("내역 이미지를 비울 수 없습니다. : " + ledger.directory(), e);
+        }
+        long first = ledger.firstSegment();
+        if (first > 1) {
+            throw new IllegalStateException("스냅샷을 사용할 수 없고 원장 세그먼트 " + first + " 이전이 정리되어 복구할 수 없습니다.");
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            log.error("스냅샷 기록 실패", e);
+        }
+    }
+
+    // 손상되었거나 내역 이미지보다 앞서는 스냅샷은 무시하고 원장 처음부터 재생
+    private static BalanceSnapshot load(Path path, long historyFileBytes) {
+        try {
+            BalanceSnapshot snapshot = BalanceSnapshot.read(path);
+            if (snapshot.historyBytes() > historyFileBytes || snapshot.historyBytes() % PointLedger.RECORD_BYTES != 0) {
+                throw new IOException("내역 이미지 길이 " + historyFileBytes + " byte 가 스냅샷과 맞지 않습니다.");
+            }
+            return snapshot;
+        } catch (IOException e) {
+            log.warn("스냅샷을 읽지 못해 원장 전체를 재생합니다. : {}", e.getMessage());
+            return BalanceSnapshot.empty();
+        }
+    }
+}
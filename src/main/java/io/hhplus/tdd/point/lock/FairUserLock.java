@@ -0,0 +1,71 @@
+package io.hhplus.tdd.point.lock;
+
+import io.hhplus.tdd.point.TooManyRequestsException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 공정성 설정된 ReentrantLock 기반 유저 락. 락을 대기한 순서대로 스레드가 락을 획득
+ * - maxWaiters 가 0보다 크면 이미 maxWaiters 개의 스레드가 대기 중일 때 대기하지 않고 바로 거절
+ */
+class FairUserLock implements UserLockRegistry.UserLock {
+
+    final ReentrantLock lock = new ReentrantLock(true);
+    private final int maxWaiters;
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    FairUserLock() {
+        this(0);
+    }
+
+    FairUserLock(int maxWaiters) {
+        this.maxWaiters = maxWaiters;
+    }
+
+    void lock() {
+        if (maxWaiters <= 0) {
+            lock.lock();
+            return;
+        }
+        enqueue();
+        try {
+            lock.lock();
+        } finally {
+            waiters.decrementAndGet();
+        }
+    }
+
+    /**
+     * timeoutNanos 안에 락을 획득하면 true (대기 중 인터럽트되면 획득하지 않은 것으로 처리)
+     * - 공정성을 지키기 위해 tryLock() 대신 시간 지정 tryLock 을 사용한다
+     */
+    boolean tryLock(long timeoutNanos) {
+        if (maxWaiters > 0) {
+            enqueue();
+        }
+        try {
+            return lock.tryLock(Math.max(0, timeoutNanos), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            if (maxWaiters > 0) {
+                waiters.decrementAndGet();
+            }
+        }
+    }
+
+    private void enqueue() {
+        if (waiters.incrementAndGet() > maxWaiters) {
+            waiters.decrementAndGet();
+            throw new TooManyRequestsException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", 0);
+        }
+    }
+
+    @Override
+    public void unlock() {
+        lock.unlock();
+    }
+}
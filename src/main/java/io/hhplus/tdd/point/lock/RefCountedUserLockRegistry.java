@@ -0,0 +1,87 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 락을 획득하려는(혹은 보유한) 스레드 수를 세어, 아무도 사용하지 않는 락은 제거하는 락 관리
+ * - 참조 수 변경은 ConcurrentHashMap.compute 안에서만 일어나므로 같은 키에 대해 원자적으로 처리된다
+ */
+public class RefCountedUserLockRegistry implements UserLockRegistry {
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxWaiters;
+
+    public RefCountedUserLockRegistry() {
+        this(0);
+    }
+
+    public RefCountedUserLockRegistry(int maxWaiters) {
+        this.maxWaiters = maxWaiters;
+    }
+
+    @Override
+    public UserLock acquire(long id) {
+        Entry entry = reference(id);
+        try {
+            entry.lock();
+        } catch (RuntimeException e) {
+            // 대기열 초과로 거절된 경우 락을 잡지 않았으므로 참조 수만 되돌린다
+            dereference(entry);
+            throw e;
+        }
+        return entry;
+    }
+
+    @Override
+    public UserLock tryAcquire(long id, long timeoutNanos) {
+        Entry entry = reference(id);
+        boolean locked = false;
+        try {
+            locked = entry.tryLock(timeoutNanos);
+        } finally {
+            // 시간 초과 또는 거절로 락을 잡지 못한 경우 참조 수만 되돌린다
+            if (!locked) {
+                dereference(entry);
+            }
+        }
+        return locked ? entry : null;
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    private void release(Entry entry) {
+        entry.lock.unlock();
+        dereference(entry);
+    }
+
+    private Entry reference(long id) {
+        return entries.compute(id, (k, current) -> {
+            Entry next = current == null ? new Entry(k, maxWaiters) : current;
+            next.references++;
+            return next;
+        });
+    }
+
+    private void dereference(Entry entry) {
+        entries.computeIfPresent(entry.id, (k, current) -> --current.references == 0 ? null : current);
+    }
+
+    private class Entry extends FairUserLock {
+        private final long id;
+        private int references; // entries.compute 안에서만 변경
+
+        private Entry(long id, int maxWaiters) {
+            super(maxWaiters);
+            this.id = id;
+        }
+
+        @Override
+        public void unlock() {
+            release(this);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.hhplus.tdd.point.lock;
+
+/**
+ * 고정된 개수의 락을 userId 해시로 나누어 사용하는 락 관리
+ * - 메모리 사용량이 유저 수와 무관하게 일정하다
+ * - 같은 락을 공유하는 유저끼리는 서로 대기할 수 있으므로 유저 수 대비 충분한 개수를 지정해야 한다
+ */
+public class StripedUserLockRegistry implements UserLockRegistry {
+
+    private final FairUserLock[] stripes;
+    private final int mask;
+
+    public StripedUserLockRegistry(int stripeCount) {
+        this(stripeCount, 0);
+    }
+
+    public StripedUserLockRegistry(int stripeCount, int maxWaiters) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("락 개수는 0보다 커야 합니다.");
+        }
+        // 해시를 비트 연산으로 나누기 위해 2의 거듭제곱으로 맞춘다
+        int size = Integer.highestOneBit(stripeCount);
+        if (size < stripeCount) {
+            size <<= 1;
+        }
+        this.stripes = new FairUserLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new FairUserLock(maxWaiters);
+        }
+        this.mask = size - 1;
+    }
+
+    @Override
+    public UserLock acquire(long id) {
+        FairUserLock stripe = stripes[index(id)];
+        stripe.lock();
+        return stripe;
+    }
+
+    @Override
+    public UserLock tryAcquire(long id, long timeoutNanos) {
+        FairUserLock stripe = stripes[index(id)];
+        return stripe.tryLock(timeoutNanos) ? stripe : null;
+    }
+
+    @Override
+    public int size() {
+        return stripes.length;
+    }
+
+    private int index(long id) {
+        // 연속된 userId 가 고르게 흩어지도록 상위 비트를 섞는다
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,39 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저마다 락을 생성하여 계속 보관하는 락 관리 (기존 방식)
+ */
+public class UnboundedUserLockRegistry implements UserLockRegistry {
+
+    private final Map<Long, FairUserLock> locks = new ConcurrentHashMap<>();
+    private final int maxWaiters;
+
+    public UnboundedUserLockRegistry() {
+        this(0);
+    }
+
+    public UnboundedUserLockRegistry(int maxWaiters) {
+        this.maxWaiters = maxWaiters;
+    }
+
+    @Override
+    public UserLock acquire(long id) {
+        FairUserLock userLock = locks.computeIfAbsent(id, k -> new FairUserLock(maxWaiters));
+        userLock.lock();
+        return userLock;
+    }
+
+    @Override
+    public UserLock tryAcquire(long id, long timeoutNanos) {
+        FairUserLock userLock = locks.computeIfAbsent(id, k -> new FairUserLock(maxWaiters));
+        return userLock.tryLock(timeoutNanos) ? userLock : null;
+    }
+
+    @Override
+    public int size() {
+        return locks.size();
+    }
+}
@@ -0,0 +1,53 @@
+package io.hhplus.tdd.point.lock;
+
+/**
+ * 유저별 락 관리
+ * - acquire 로 획득한 락은 반드시 unlock 으로 해제해야 한다
+ * - 락별 최대 대기 수(maxWaiters)를 지정하면 대기열이 가득 찬 경우 acquire 가 TooManyRequestsException 으로 바로 거절된다
+ */
+public interface UserLockRegistry {
+
+    /**
+     * 유저의 락을 획득 (획득할 때까지 대기, 대기열이 가득 차면 거절)
+     */
+    UserLock acquire(long id);
+
+    /**
+     * timeoutNanos 동안만 대기하여 유저의 락을 획득 (시간 안에 획득하지 못하면 null, 대기열이 가득 차면 거절)
+     */
+    UserLock tryAcquire(long id, long timeoutNanos);
+
+    /**
+     * 현재 보관중인 락 개수
+     */
+    int size();
+
+    interface UserLock {
+        void unlock();
+    }
+
+    static UserLockRegistry create(LockRegistryType type, int stripes) {
+        return create(type, stripes, 0);
+    }
+
+    /**
+     * maxWaiters : 락별 최대 대기 스레드 수 (0 이하면 제한 없음)
+     */
+    static UserLockRegistry create(LockRegistryType type, int stripes, int maxWaiters) {
+        return switch (type) {
+            case UNBOUNDED -> new UnboundedUserLockRegistry(maxWaiters);
+            case REF_COUNTED -> new RefCountedUserLockRegistry(maxWaiters);
+            case STRIPED -> new StripedUserLockRegistry(stripes, maxWaiters);
+        };
+    }
+
+    /**
+     * 락 관리 방식
+     * - UNBOUNDED : 유저마다 락을 만들고 제거하지 않음 (유저 수만큼 메모리 증가)
+     * - REF_COUNTED : 락을 사용중인 스레드가 없으면 제거
+     * - STRIPED : 고정된 개수의 락을 userId 해시로 나누어 사용 (다른 유저가 같은 락을 공유할 수 있음)
+     */
+    enum LockRegistryType {
+        UNBOUNDED, REF_COUNTED, STRIPED
+    }
+}
@@ -0,0 +1,118 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.lock.UserLockRegistry.UserLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static io.hhplus.tdd.point.TransactionType.EXPIRE;
+
+/**
+ * GROUP_COMMIT : 유저별 요청을 모아서 한번의 잔고 조회와 한번의 잔고 저장으로 처리
+ * - 묶음은 유저 락을 잡고 적용하므로, 만료 처리도 유저 락으로 순서를 정한다
+ */
+class GroupCommitWriteStrategy implements PointWriteStrategy {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitWriteStrategy.class);
+
+    private final PointProcessor processor;
+    private final PointGroupCommitter groupCommitter;
+    private final PointMetrics metrics;
+
+    GroupCommitWriteStrategy(PointProcessor processor, int maxBatch, PointMetrics metrics) {
+        this.processor = processor;
+        this.metrics = metrics;
+        this.groupCommitter = new PointGroupCommitter(this::applyBatch, maxBatch, metrics);
+        metrics.gauge("point.group_commit.queues", groupCommitter, PointGroupCommitter::size);
+    }
+
+    @Override
+    public UserPoint execute(long id, TransactionType type, long amount, PointDeadline deadline) {
+        return groupCommitter.submit(id, type, amount, deadline);
+    }
+
+    @Override
+    public void runExclusive(long id, Runnable task) {
+        UserLock lock = processor.lock(id, EXPIRE, PointDeadline.NONE);
+        try {
+            task.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 한 유저에 대해 모인 요청을 한번의 잔고 조회와 한번의 잔고 저장으로 처리
+     * - 요청마다 정책 검증을 수행하며, 실패한 요청은 잔고에 반영하지 않고 해당 요청에만 예외를 전달
+     * - 내역 저장이 실패하면 이미 내역이 저장된 앞 요청까지의 잔고를 저장한 뒤, 실패한 요청부터 남은 요청에 예외를 전달
+     * - 각 요청은 자신의 요청까지 반영된 잔고를 결과로 받는다
+     */
+    private void applyBatch(long id, List<PointGroupCommitter.PendingRequest> batch) {
+        UserLock lock = processor.lock(id, batch.get(0).type(), PointDeadline.NONE);
+        try {
+            metrics.recordGroupCommitBatch(batch.size());
+            // 묶음에서 가장 늦은 기한까지 잔고 저장소의 자리를 기다리고, 그 사이 기한이 지난 요청은 아래에서 제외
+            processor.awaitWritable(id, batch.stream()
+                    .map(PointGroupCommitter.PendingRequest::deadline)
+                    .max(Comparator.comparingLong(PointDeadline::expiresAtNanos))
+                    .orElseThrow());
+            long balance = processor.balance(id);
+            List<PointGroupCommitter.PendingRequest> applied = new ArrayList<>();
+            List<Long> balances = new ArrayList<>();
+            List<PointGroupCommitter.PendingRequest> remaining = List.of();
+            RuntimeException failure = null;
+            for (int i = 0; i < batch.size(); i++) {
+                PointGroupCommitter.PendingRequest request = batch.get(i);
+                TransactionType type = request.type();
+                // 대기하는 동안 기한이 지난 요청은 잔고에 반영하지 않는다
+                if (request.deadline().isExpired()) {
+                    metrics.deadlineExpired(PointDeadline.Stage.QUEUE);
+                    request.result().completeExceptionally(PointDeadline.exceeded());
+                    continue;
+                }
+                long updateAmount;
+                try {
+                    updateAmount = processor.applyPolicy(type, balance, request.amount());
+                } catch (IllegalArgumentException e) {
+                    request.result().completeExceptionally(e);
+                    continue;
+                }
+                try {
+                    PointHistory insertPoint = processor.insertHistory(id, type, request.amount());
+                    log.info("포인트 " + type + " 완료 : " + insertPoint);
+                } catch (RuntimeException e) {
+                    failure = e;
+                    remaining = batch.subList(i, batch.size());
+                    break;
+                }
+                balance = updateAmount;
+                applied.add(request);
+                balances.add(updateAmount);
+            }
+            try {
+                if (!applied.isEmpty()) {
+                    log.info("남은 포인트 : " + balance + " (그룹 커밋 " + applied.size() + "건)");
+                    UserPoint saved = processor.saveBalance(id, balance);
+                    for (int i = 0; i < applied.size(); i++) {
+                        applied.get(i).result().complete(new UserPoint(id, balances.get(i), saved.updateMillis()));
+                    }
+                }
+            } finally {
+                if (failure != null) {
+                    log.error("내역 저장 실패로 그룹 커밋 중단 : 반영 " + applied.size() + "건, 실패 " + remaining.size() + "건", failure);
+                    for (PointGroupCommitter.PendingRequest request : remaining) {
+                        request.result().completeExceptionally(failure);
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
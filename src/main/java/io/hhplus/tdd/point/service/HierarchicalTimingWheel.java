@@ -0,0 +1,167 @@
+package io.hhplus.tdd.point.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠
+ * - 단계 0 은 tickMillis 간격의 버킷 wheelSize 개, 단계 n 은 단계 n-1 전체 구간을 버킷 하나로 갖는다 (필요할 때 단계를 추가)
+ * - 예약은 만료 시각에 해당하는 버킷에 항목을 연결만 하므로 예약된 항목 수와 무관하게 O(1)
+ * - 시간이 상위 단계 버킷 경계를 지날 때 해당 버킷의 항목을 하위 단계로 옮기고, 단계 0 버킷은 통째로 만료시킨다
+ * - schedule 은 여러 스레드에서 호출할 수 있고, advance 는 한 스레드에서만 호출해야 한다
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Level<T>> levels = new ArrayList<>();
+    // schedule 로 들어온 항목 (advance 에서 버킷으로 옮긴다)
+    private final AtomicReference<Entry<T>> inbox = new AtomicReference<>();
+    private final AtomicLong size = new AtomicLong();
+    private long currentTime; // tickMillis 단위로 내림한 현재 시각, 이전 시각에 만료되는 항목은 모두 만료 처리됨
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("틱 간격은 0보다 크고 버킷 수는 2 이상이어야 합니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+        levels.add(new Level<>(tickMillis, wheelSize));
+    }
+
+    /**
+     * expiresAtMillis 이후의 advance 에서 만료되도록 예약
+     */
+    public void schedule(T item, long expiresAtMillis) {
+        Entry<T> entry = new Entry<>(item, expiresAtMillis);
+        size.incrementAndGet();
+        Entry<T> head;
+        do {
+            head = inbox.get();
+            entry.next = head;
+        } while (!inbox.compareAndSet(head, entry));
+    }
+
+    /**
+     * nowMillis 까지 만료된 항목을 모두 전달
+     * - 틱마다 단계 0 버킷 하나와 경계를 지난 상위 단계 버킷만 확인한다
+     */
+    public void advance(long nowMillis, Consumer<T> expired) {
+        for (Entry<T> entry = inbox.getAndSet(null); entry != null; ) {
+            Entry<T> next = entry.next;
+            place(entry, expired);
+            entry = next;
+        }
+        if (size.get() == 0) {
+            // 예약된 항목이 없으면 틱을 하나씩 지나갈 필요가 없다
+            currentTime = Math.max(currentTime, nowMillis - Math.floorMod(nowMillis, tickMillis));
+            return;
+        }
+        while (currentTime + tickMillis <= nowMillis) {
+            Level<T> first = levels.get(0);
+            // 버킷의 항목은 모두 currentTime + tickMillis 이전에 만료된다
+            fire(first.take(currentTime), expired);
+            currentTime += tickMillis;
+            for (int level = levels.size() - 1; level > 0; level--) {
+                Level<T> upper = levels.get(level);
+                if (currentTime % upper.tickMillis == 0) {
+                    for (Entry<T> entry = upper.take(currentTime); entry != null; ) {
+                        Entry<T> next = entry.next;
+                        place(entry, expired);
+                        entry = next;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 예약 후 아직 만료되지 않은 항목 수
+     */
+    public long size() {
+        return size.get();
+    }
+
+    public long currentTime() {
+        return currentTime;
+    }
+
+    // 만료 시각이 속한 구간을 가진 가장 낮은 단계의 버킷에 연결
+    private void place(Entry<T> entry, Consumer<T> expired) {
+        if (entry.expiresAt < currentTime) {
+            entry.next = null;
+            fire(entry, expired);
+            return;
+        }
+        for (int level = 0; ; level++) {
+            if (level == levels.size()) {
+                Level<T> upper = levels.get(level - 1);
+                levels.add(new Level<>(upper.intervalMillis, wheelSize));
+            }
+            Level<T> candidate = levels.get(level);
+            long start = currentTime - currentTime % candidate.tickMillis;
+            // 상위 단계의 구간이 long 범위를 넘으면 마지막 단계에 둔다
+            if (entry.expiresAt - start < candidate.intervalMillis || candidate.intervalMillis >= Long.MAX_VALUE / wheelSize) {
+                candidate.add(entry);
+                return;
+            }
+        }
+    }
+
+    private void fire(Entry<T> entry, Consumer<T> expired) {
+        while (entry != null) {
+            Entry<T> next = entry.next;
+            size.decrementAndGet();
+            expired.accept(entry.item);
+            entry = next;
+        }
+    }
+
+    private static final class Entry<T> {
+
+        private final T item;
+        private final long expiresAt;
+        private Entry<T> next;
+
+        Entry(T item, long expiresAt) {
+            this.item = item;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class Level<T> {
+
+        private final long tickMillis;
+        private final long intervalMillis;
+        private final Entry<T>[] buckets;
+
+        @SuppressWarnings("unchecked")
+        Level(long tickMillis, int wheelSize) {
+            this.tickMillis = tickMillis;
+            this.intervalMillis = tickMillis * wheelSize;
+            this.buckets = new Entry[wheelSize];
+        }
+
+        void add(Entry<T> entry) {
+            int index = index(entry.expiresAt);
+            entry.next = buckets[index];
+            buckets[index] = entry;
+        }
+
+        // time 이 속한 버킷의 항목을 모두 꺼낸다
+        Entry<T> take(long time) {
+            int index = index(time);
+            Entry<T> entries = buckets[index];
+            buckets[index] = null;
+            return entries;
+        }
+
+        private int index(long time) {
+            return (int) Math.floorMod(Math.floorDiv(time, tickMillis), (long) buckets.length);
+        }
+    }
+}
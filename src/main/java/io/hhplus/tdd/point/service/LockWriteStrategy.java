@@ -0,0 +1,40 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.lock.UserLockRegistry.UserLock;
+
+import static io.hhplus.tdd.point.TransactionType.EXPIRE;
+
+/**
+ * LOCK : 요청마다 유저 락을 잡고 처리
+ */
+class LockWriteStrategy implements PointWriteStrategy {
+
+    private final PointProcessor processor;
+
+    LockWriteStrategy(PointProcessor processor) {
+        this.processor = processor;
+    }
+
+    @Override
+    public UserPoint execute(long id, TransactionType type, long amount, PointDeadline deadline) {
+        // 유저별 락 획득
+        UserLock lock = processor.lock(id, type, deadline);
+        try {
+            return processor.process(id, type, amount, deadline);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void runExclusive(long id, Runnable task) {
+        UserLock lock = processor.lock(id, EXPIRE, PointDeadline.NONE);
+        try {
+            task.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.lock.UserLockRegistry.UserLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import static io.hhplus.tdd.point.TransactionType.EXPIRE;
+
+/**
+ * OPTIMISTIC : 락 없이 잔고를 조회하여 정책을 적용한 뒤, 조회 이후 다른 갱신이 없었던 경우에만 저장
+ * - 버전 충돌 시 최대 maxRetries 번 다시 시도하고, 모두 실패하면 유저 락을 잡고 버전을 선점하여 처리
+ * - 만료 처리도 유저 락을 잡고 버전을 선점하여, 낙관적 갱신과 순서를 정한다
+ */
+class OptimisticWriteStrategy implements PointWriteStrategy {
+
+    private static final Logger log = LoggerFactory.getLogger(OptimisticWriteStrategy.class);
+    private static final long OPTIMISTIC_BACKOFF_NANOS = 10_000;
+
+    private final PointProcessor processor;
+    private final PointVersions versions;
+    private final int maxRetries;
+    private final PointMetrics metrics;
+
+    OptimisticWriteStrategy(PointProcessor processor, int stripes, int maxRetries, PointMetrics metrics) {
+        this.processor = processor;
+        this.versions = new PointVersions(stripes);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public UserPoint execute(long id, TransactionType type, long amount, PointDeadline deadline) {
+        for (int attempt = 0; attempt <= maxRetries; attempt++) {
+            UserPoint userPoint = tryOptimistic(id, type, amount, deadline);
+            if (userPoint != null) {
+                return userPoint;
+            }
+            metrics.optimisticRetry();
+            // 충돌이 반복될수록 조금 더 기다렸다가 다시 시도
+            LockSupport.parkNanos(OPTIMISTIC_BACKOFF_NANOS << attempt);
+        }
+        metrics.optimisticFallback();
+        // 경합이 심한 유저는 락으로 순서를 정하고, 락을 잡은 요청은 버전을 선점하여 낙관적 갱신에 밀리지 않고 처리
+        return exclusive(id, type, deadline, () -> processor.process(id, type, amount, deadline));
+    }
+
+    @Override
+    public void runExclusive(long id, Runnable task) {
+        exclusive(id, EXPIRE, PointDeadline.NONE, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    // 유저 락을 잡고 버전을 선점한 뒤 실행 (선점 중에는 새 낙관적 갱신이 시작되지 않는다)
+    private <T> T exclusive(long id, TransactionType type, PointDeadline deadline, Supplier<T> task) {
+        UserLock lock = processor.lock(id, type, deadline);
+        try {
+            long version = versions.claimExclusive(id);
+            try {
+                return task.get();
+            } finally {
+                versions.release(id, version);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 버전 충돌 시 null
+    private UserPoint tryOptimistic(long id, TransactionType type, long amount, PointDeadline deadline) {
+        processor.checkDeadline(deadline, PointDeadline.Stage.BEFORE_READ);
+        long version = versions.read(id);
+        if (version < 0) {
+            return null;
+        }
+        long baseAmount = processor.balance(id);
+        long updateAmount;
+        try {
+            updateAmount = PointPolicy.apply(type, baseAmount, amount);
+        } catch (IllegalArgumentException e) {
+            // 조회한 잔고가 그 사이 바뀌지 않은 경우에만 정책 위반으로 확정
+            if (!versions.isCurrent(id, version)) {
+                return null;
+            }
+            metrics.rejected(type);
+            throw e;
+        }
+        processor.checkDeadline(deadline, PointDeadline.Stage.BEFORE_WRITE);
+        if (!versions.claim(id, version)) {
+            return null;
+        }
+        try {
+            UserPoint userPoint = processor.write(id, type, amount, baseAmount, updateAmount);
+            log.info("남은 포인트 : " + updateAmount);
+            return userPoint;
+        } finally {
+            versions.release(id, version);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.history.PointHistoryStore;
+import io.hhplus.tdd.point.store.UserPointStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 충전/사용 내역 저장과 잔고 갱신을 동시에 수행
+ * - 두 쓰기는 서로 독립적이므로, 유저 락을 잡고 있는 시간이 두 지연의 합이 아닌 더 느린 쪽의 지연이 된다
+ * - 한쪽만 실패한 경우
+ *   - 내역 저장 실패 : 잔고를 기존 값으로 복구한 뒤 실패한 예외를 그대로 던진다
+ *   - 잔고 갱신 실패 : 내역은 삭제할 수 없으므로 잔고 갱신을 BALANCE_RETRIES 번까지 다시 시도하여 내역에 맞춘다
+ *     (반대 방향의 보상 내역은 집계/충전 묶음/내보내기에 실제 거래로 반영되므로 추가하지 않는다)
+ */
+class ParallelPointWriter implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ParallelPointWriter.class);
+    private static final int BALANCE_RETRIES = 3;
+    private static final long BALANCE_RETRY_BACKOFF_MILLIS = 10;
+
+    private final UserPointStore userPointStore;
+    private final PointHistoryStore pointHistoryStore;
+    private final ExecutorService executor;
+
+    ParallelPointWriter(UserPointStore userPointStore, PointHistoryStore pointHistoryStore, ExecutorService executor) {
+        this.userPointStore = userPointStore;
+        this.pointHistoryStore = pointHistoryStore;
+        this.executor = executor;
+    }
+
+    /**
+     * 유저 락을 보유한 상태에서 호출해야 한다
+     */
+    UserPoint write(long id, TransactionType type, long amount, long baseAmount, long updateAmount) {
+        long updateMillis = System.currentTimeMillis();
+        // 내역 저장은 별도 스레드에서, 잔고 갱신은 현재 스레드에서 수행
+        CompletableFuture<PointHistory> history = CompletableFuture.supplyAsync(
+                () -> pointHistoryStore.insert(id, amount, type, updateMillis), executor);
+
+        UserPoint userPoint = null;
+        RuntimeException balanceError = null;
+        try {
+            userPoint = userPointStore.insertOrUpdate(id, updateAmount);
+        } catch (RuntimeException e) {
+            balanceError = e;
+        }
+
+        RuntimeException historyError = null;
+        try {
+            history.join();
+        } catch (CompletionException e) {
+            historyError = e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+
+        if (balanceError == null && historyError == null) {
+            return userPoint;
+        }
+        if (balanceError != null && historyError != null) {
+            balanceError.addSuppressed(historyError);
+            throw balanceError;
+        }
+        if (historyError != null) {
+            compensate(historyError, () -> userPointStore.insertOrUpdate(id, baseAmount));
+            throw historyError;
+        }
+        return retryBalance(id, updateAmount, history.join(), balanceError);
+    }
+
+    /**
+     * 내역 저장 스레드 종료
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    // 이미 저장된 내역에 맞춰 잔고 갱신을 다시 시도하고, 끝내 실패하면 처음 실패한 예외를 던진다
+    private UserPoint retryBalance(long id, long updateAmount, PointHistory pointHistory, RuntimeException cause) {
+        for (int attempt = 1; attempt <= BALANCE_RETRIES; attempt++) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(BALANCE_RETRY_BACKOFF_MILLIS * attempt));
+            try {
+                return userPointStore.insertOrUpdate(id, updateAmount);
+            } catch (RuntimeException e) {
+                cause.addSuppressed(e);
+            }
+        }
+        log.error("잔고 갱신 재시도 실패, 저장된 내역이 잔고에 반영되지 않았습니다 : " + pointHistory, cause);
+        throw cause;
+    }
+
+    private void compensate(RuntimeException cause, Runnable compensation) {
+        try {
+            compensation.run();
+        } catch (RuntimeException e) {
+            log.error("포인트 보상 처리 실패", e);
+            cause.addSuppressed(e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * PARTITIONED : 유저의 파티션 전용 스레드에서 락 없이 처리
+ */
+class PartitionedWriteStrategy implements PointWriteStrategy {
+
+    private final PointProcessor processor;
+    private final PointPartitions partitions;
+
+    PartitionedWriteStrategy(PointProcessor processor, int partitions, PointMetrics metrics) {
+        this.processor = processor;
+        this.partitions = new PointPartitions(partitions, metrics);
+        metrics.gauge("point.partitions.queued", this.partitions, PointPartitions::queued);
+    }
+
+    @Override
+    public UserPoint execute(long id, TransactionType type, long amount, PointDeadline deadline) {
+        // 대기열에서 기한이 지난 요청은 실행하지 않는다
+        return partitions.execute(id, deadline, () -> {
+            processor.checkDeadline(deadline, PointDeadline.Stage.QUEUE);
+            return processor.process(id, type, amount, deadline);
+        });
+    }
+
+    @Override
+    public void runExclusive(long id, Runnable task) {
+        partitions.execute(id, PointDeadline.NONE, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    @Override
+    public void close() {
+        partitions.close();
+    }
+}
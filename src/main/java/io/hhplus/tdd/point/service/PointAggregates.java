@@ -0,0 +1,184 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.history.PointHistoryQuery;
+import io.hhplus.tdd.point.history.PointHistoryStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+
+/**
+ * 유저별 포인트 누적 집계
+ * - 내역이 저장될 때마다 합계/건수/일자별 합계를 갱신하여 조회 시 내역을 다시 읽지 않는다
+ * - 일자별 합계는 유저의 가장 최근 내역 일자 기준 retentionDays 일만 보관한다
+ */
+class PointAggregates {
+
+    private static final Logger log = LoggerFactory.getLogger(PointAggregates.class);
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final ZoneId zone;
+    private final int retentionDays;
+    private final Map<Long, UserAggregate> aggregates = new ConcurrentHashMap<>();
+
+    PointAggregates(ZoneId zone, int retentionDays) {
+        this.zone = zone;
+        this.retentionDays = Math.max(1, retentionDays);
+    }
+
+    /**
+     * 저장되는 내역을 집계에 반영하는 저장소를 반환
+     */
+    PointHistoryStore tracking(PointHistoryStore delegate) {
+        return new TrackingStore(delegate);
+    }
+
+    /**
+     * 이미 저장되어 있는 내역으로 집계를 채운다 (원장 복구 등으로 기동 시점에 내역이 있는 경우)
+     */
+    void seed(PointHistoryStore store) {
+        long[] seeded = {0, 0};
+        store.userIds().forEach(userId -> {
+            UserAggregate aggregate = recompute(userId, store.selectAllByUserId(userId));
+            aggregates.put(userId, aggregate);
+            seeded[0]++;
+            seeded[1] += aggregate.count();
+        });
+        if (seeded[0] > 0) {
+            log.info("누적 집계 초기화 완료 : 유저 {}명, 내역 {}건", seeded[0], seeded[1]);
+        }
+    }
+
+    PointSummary summary(long userId) {
+        UserAggregate aggregate = aggregates.get(userId);
+        return aggregate == null ? new UserAggregate().toSummary(userId) : aggregate.toSummary(userId);
+    }
+
+    /**
+     * 전체 내역을 다시 합산한 집계
+     */
+    PointSummary recompute(long userId, PointHistoryStore store) {
+        return recompute(userId, store.selectAllByUserId(userId)).toSummary(userId);
+    }
+
+    /**
+     * 집계가 바뀐 횟수 (정합성 검사 중 동시에 저장된 내역이 있는지 확인하는 용도)
+     */
+    long version(long userId) {
+        UserAggregate aggregate = aggregates.get(userId);
+        return aggregate == null ? 0 : aggregate.count();
+    }
+
+    int size() {
+        return aggregates.size();
+    }
+
+    private void record(long userId, long amount, TransactionType type, long updateMillis) {
+        aggregates.computeIfAbsent(userId, k -> new UserAggregate()).add(amount, type, epochDay(updateMillis));
+    }
+
+    private UserAggregate recompute(long userId, List<PointHistory> histories) {
+        UserAggregate aggregate = new UserAggregate();
+        for (PointHistory pointHistory : histories) {
+            aggregate.add(pointHistory.amount(), pointHistory.type(), epochDay(pointHistory.updateMillis()));
+        }
+        return aggregate;
+    }
+
+    private long epochDay(long updateMillis) {
+        return Instant.ofEpochMilli(updateMillis).atZone(zone).toLocalDate().toEpochDay();
+    }
+
+    private class UserAggregate {
+
+        private final long[] totals = new long[TYPES.length];
+        private final long[] counts = new long[TYPES.length];
+        // epochDay -> 거래 종류별 합계
+        private final TreeMap<Long, long[]> daily = new TreeMap<>();
+
+        synchronized void add(long amount, TransactionType type, long epochDay) {
+            totals[type.ordinal()] += amount;
+            counts[type.ordinal()]++;
+            // 보관 기간이 지난 일자는 다시 만들지 않으므로 내역 반영 순서와 무관하게 같은 결과가 된다
+            long oldestDay = (daily.isEmpty() ? epochDay : Math.max(daily.lastKey(), epochDay)) - retentionDays + 1;
+            if (epochDay >= oldestDay) {
+                daily.computeIfAbsent(epochDay, k -> new long[TYPES.length])[type.ordinal()] += amount;
+            }
+            daily.headMap(oldestDay).clear();
+        }
+
+        synchronized long count() {
+            return LongStream.of(counts).sum();
+        }
+
+        synchronized PointSummary toSummary(long userId) {
+            Map<TransactionType, Long> countsByType = new EnumMap<>(TransactionType.class);
+            for (TransactionType type : TYPES) {
+                countsByType.put(type, counts[type.ordinal()]);
+            }
+            List<PointSummary.Daily> days = new ArrayList<>(daily.size());
+            daily.forEach((epochDay, sums) -> days.add(new PointSummary.Daily(
+                    LocalDate.ofEpochDay(epochDay), sums[TransactionType.CHARGE.ordinal()], sums[TransactionType.USE.ordinal()],
+                    sums[TransactionType.EXPIRE.ordinal()])));
+            return new PointSummary(userId, totals[TransactionType.CHARGE.ordinal()], totals[TransactionType.USE.ordinal()],
+                    totals[TransactionType.EXPIRE.ordinal()], countsByType, days);
+        }
+    }
+
+    private class TrackingStore implements PointHistoryStore {
+
+        private final PointHistoryStore delegate;
+
+        TrackingStore(PointHistoryStore delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            PointHistory pointHistory = delegate.insert(userId, amount, type, updateMillis);
+            record(userId, amount, type, updateMillis);
+            return pointHistory;
+        }
+
+        @Override
+        public List<PointHistory> selectAllByUserId(long userId) {
+            return delegate.selectAllByUserId(userId);
+        }
+
+        @Override
+        public void load(List<PointHistory> histories) {
+            delegate.load(histories);
+            for (PointHistory pointHistory : histories) {
+                record(pointHistory.userId(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+            }
+        }
+
+        @Override
+        public PointHistoryPage selectPage(long userId, PointHistoryQuery query) {
+            return delegate.selectPage(userId, query);
+        }
+
+        @Override
+        public long lastId() {
+            return delegate.lastId();
+        }
+
+        @Override
+        public LongStream userIds() {
+            return delegate.userIds();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.DeadlineExceededException;
+import io.hhplus.tdd.point.PointBatchRequest;
+import io.hhplus.tdd.point.PointBatchResult;
+import io.hhplus.tdd.point.TooManyRequestsException;
+import io.hhplus.tdd.point.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 여러 유저의 충전/사용 요청을 일괄 처리하는 기능
+ * - 유저별로 요청을 묶어 유저 간에는 병렬로, 같은 유저의 요청은 요청 순서대로 처리
+ * - 검증과 동시성 제어는 PointService 의 charge / use 를 그대로 사용
+ * - 건별 실패 사유 : 검증/처리량 제한/처리 기한 초과/저장소 일시 사용 불가는 예외 메시지 그대로, 그 외 오류는 "에러가 발생했습니다."
+ */
+@Service
+public class PointBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointBatchService.class);
+
+    public static final int MAX_BATCH_SIZE = 10_000;
+
+    private final PointService pointService;
+    private final ExecutorService executor;
+
+    @Autowired
+    public PointBatchService(PointService pointService, PointServiceProperties properties,
+                             @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this(pointService, PointExecutors.newFixedThreadPool("point-batch-", properties.getBatchParallelism(), virtualThreads));
+    }
+
+    PointBatchService(PointService pointService, ExecutorService executor) {
+        this.pointService = pointService;
+        this.executor = executor;
+    }
+
+    public List<PointBatchResult> process(List<PointBatchRequest> requests) {
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("일괄 처리 요청은 " + MAX_BATCH_SIZE + "건을 넘을 수 없습니다.");
+        }
+        // 요청 순서를 유지한 채 유저별로 묶는다
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            indexesByUser.computeIfAbsent(requests.get(i).userId(), k -> new ArrayList<>()).add(i);
+        }
+
+        PointBatchResult[] results = new PointBatchResult[requests.size()];
+        CompletableFuture<?>[] futures = indexesByUser.values().stream()
+                .map(indexes -> CompletableFuture.runAsync(() -> {
+                    for (int index : indexes) {
+                        results[index] = processOne(requests.get(index));
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+        return List.of(results);
+    }
+
+    private PointBatchResult processOne(PointBatchRequest request) {
+        try {
+            if (request.type() == null) {
+                throw new IllegalArgumentException("트랜잭션 종류가 없습니다.");
+            }
+            UserPoint userPoint = switch (request.type()) {
+                case CHARGE -> pointService.charge(request.userId(), request.amount());
+                case USE -> pointService.use(request.userId(), request.amount());
+                case EXPIRE -> throw new IllegalArgumentException("만료는 요청할 수 없습니다.");
+            };
+            return PointBatchResult.success(request, userPoint);
+        } catch (IllegalArgumentException | TooManyRequestsException | DeadlineExceededException e) {
+            return PointBatchResult.failure(request, e.getMessage());
+        } catch (IllegalStateException e) {
+            // 비동기 내역 저장 지연처럼 저장소가 일시적으로 쓰기를 거절한 경우 : 원인은 저장소가 이미 error 로 기록한다
+            log.warn("일괄 처리 실패 : " + request + " - " + e.getMessage());
+            return PointBatchResult.failure(request, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("일괄 처리 실패 : " + request, e);
+            return PointBatchResult.failure(request, "에러가 발생했습니다.");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,55 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.DeadlineExceededException;
+
+import java.time.Duration;
+
+/**
+ * 요청 처리 기한 (System.nanoTime 기준)
+ * - 요청이 들어온 시점에 만들어 충전/사용 처리 단계마다 남은 시간을 확인한다
+ * - NONE 은 기한이 없는 요청 (기존 동작과 동일하게 끝까지 대기)
+ */
+public record PointDeadline(long expiresAtNanos) {
+
+    public static final PointDeadline NONE = new PointDeadline(Long.MAX_VALUE);
+
+    static final String MESSAGE = "요청 처리 기한이 지났습니다.";
+    private static final Duration MAX_TIMEOUT = Duration.ofDays(1);
+
+    /**
+     * 하루 이상의 제한 시간은 nanoTime 계산이 넘치지 않도록 기한 없음으로 처리
+     */
+    public static PointDeadline after(Duration timeout) {
+        if (timeout.compareTo(MAX_TIMEOUT) >= 0) {
+            return NONE;
+        }
+        return new PointDeadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    public boolean isNone() {
+        return expiresAtNanos == Long.MAX_VALUE;
+    }
+
+    public long remainingNanos() {
+        return isNone() ? Long.MAX_VALUE : expiresAtNanos - System.nanoTime();
+    }
+
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    static DeadlineExceededException exceeded() {
+        return new DeadlineExceededException(MESSAGE);
+    }
+
+    /**
+     * 기한이 지난 요청이 건너뛴 처리 단계
+     * - QUEUE : 처리 시작 전 (대기열/파티션/그룹 커밋 대기 중 만료)
+     * - LOCK_WAIT : 유저 락 대기 중 만료
+     * - BEFORE_READ : 락 획득 후 잔고 조회 전
+     * - BEFORE_WRITE : 잔고 조회/검증 후 내역 저장 전
+     */
+    public enum Stage {
+        QUEUE, LOCK_WAIT, BEFORE_READ, BEFORE_WRITE
+    }
+}
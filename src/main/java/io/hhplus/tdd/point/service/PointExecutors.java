@@ -0,0 +1,34 @@
+package io.hhplus.tdd.point.service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 유저를 병렬로 처리하는 기능(다건 조회, 일괄 처리)이 함께 쓰는 스레드 풀
+ */
+final class PointExecutors {
+
+    private PointExecutors() {
+    }
+
+    /**
+     * 동시에 처리할 유저 수를 parallelism 으로 제한하는 스레드 풀 (스레드 이름 : prefix + 순번)
+     * - 가상 스레드 모드에서는 테이블 지연(sleep) 동안 캐리어 스레드를 점유하지 않도록 가상 스레드로 실행
+     */
+    static ExecutorService newFixedThreadPool(String prefix, int parallelism, boolean virtualThreads) {
+        ThreadFactory threadFactory;
+        if (virtualThreads) {
+            threadFactory = Thread.ofVirtual().name(prefix, 1).factory();
+        } else {
+            AtomicInteger sequence = new AtomicInteger();
+            threadFactory = r -> {
+                Thread thread = new Thread(r, prefix + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+        return Executors.newFixedThreadPool(parallelism, threadFactory);
+    }
+}
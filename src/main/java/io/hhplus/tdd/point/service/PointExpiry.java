@@ -0,0 +1,237 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.history.PointHistoryQuery;
+import io.hhplus.tdd.point.history.PointHistoryStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 충전 포인트 만료
+ * - 저장되는 내역으로 유저별 충전 묶음을 관리하고 (충전 : 묶음 추가, 사용/만료 : 오래된 묶음부터 차감)
+ *   충전 내역의 updateMillis + expireAfter 시각을 타이밍 휠에 예약한다
+ * - 틱마다 만료 시각이 지난 예약을 한번에 꺼내고, 유저별로 만료된 묶음을 모아 한번씩 만료 처리를 요청한다
+ * - 만료 전에 모두 사용된 묶음의 예약은 취소하지 않고, 만료 처리 시 남은 만료분이 없으면 건너뛴다
+ */
+class PointExpiry implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PointExpiry.class);
+    private static final int WHEEL_SIZE = 64;
+
+    /**
+     * 유저 단위 순차 실행을 보장한 상태에서 nowMillis 까지 만료된 묶음을 처리
+     */
+    interface Expirer {
+        void expire(long userId, long nowMillis);
+    }
+
+    private final long expireAfterMillis;
+    private final long tickMillis;
+    private final HierarchicalTimingWheel<Long> wheel;
+    private final Map<Long, PointLots> lots = new ConcurrentHashMap<>();
+    private final PointMetrics metrics;
+    private ScheduledExecutorService ticker;
+    private ExecutorService workers;
+
+    PointExpiry(Duration expireAfter, Duration tick, PointMetrics metrics) {
+        this.expireAfterMillis = expireAfter.toMillis();
+        this.tickMillis = Math.max(1, tick.toMillis());
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, WHEEL_SIZE, System.currentTimeMillis());
+        this.metrics = metrics;
+    }
+
+    /**
+     * 저장되는 내역을 충전 묶음에 반영하는 저장소를 반환
+     */
+    PointHistoryStore tracking(PointHistoryStore delegate) {
+        return new TrackingStore(delegate);
+    }
+
+    /**
+     * 이미 저장되어 있는 내역을 순서대로 재생하여 충전 묶음을 채운다 (기동 전에 만료된 묶음은 첫 틱에 만료된다)
+     */
+    void seed(PointHistoryStore store) {
+        long[] seeded = {0};
+        store.userIds().forEach(userId -> {
+            for (PointHistory pointHistory : store.selectAllByUserId(userId)) {
+                record(userId, pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+            }
+            seeded[0]++;
+        });
+        if (seeded[0] > 0) {
+            log.info("충전 묶음 초기화 완료 : 유저 {}명, 만료 예약 {}건", seeded[0], wheel.size());
+        }
+    }
+
+    /**
+     * tick 간격으로 만료 처리를 시작
+     */
+    void start(Expirer expirer) {
+        this.workers = Executors.newVirtualThreadPerTaskExecutor();
+        this.ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "point-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(() -> {
+            try {
+                expire(System.currentTimeMillis(), expirer);
+            } catch (RuntimeException e) {
+                log.error("포인트 만료 처리 실패", e);
+            }
+        }, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * nowMillis 까지 만료 시각이 지난 예약을 꺼내 유저별로 한번씩 만료 처리하고, 모두 끝날 때까지 기다린다
+     * - 만료 처리에 실패한 유저는 다음 틱에 다시 시도한다
+     * - 시작하지 않은 경우(테스트) 호출한 스레드에서 순서대로 처리한다
+     */
+    synchronized void expire(long nowMillis, Expirer expirer) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        wheel.advance(nowMillis, userIds::add);
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Executor executor = workers == null ? Runnable::run : workers;
+        List<CompletableFuture<Void>> futures = new ArrayList<>(userIds.size());
+        for (long userId : userIds) {
+            if (due(userId, nowMillis) == 0) {
+                // 만료 전에 모두 사용된 묶음
+                continue;
+            }
+            Runnable task = () -> {
+                try {
+                    expirer.expire(userId, nowMillis);
+                } catch (RuntimeException e) {
+                    log.warn("포인트 만료 실패, 다음 틱에 다시 시도 : userId={}", userId, e);
+                    wheel.schedule(userId, nowMillis + tickMillis);
+                }
+            };
+            futures.add(CompletableFuture.runAsync(task, executor));
+        }
+        metrics.recordExpiryBatch(futures.size());
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    /**
+     * nowMillis 까지 만료된 충전분 중 아직 사용되지 않은 합계
+     */
+    long due(long userId, long nowMillis) {
+        PointLots userLots = lots.get(userId);
+        return userLots == null ? 0 : userLots.due(nowMillis);
+    }
+
+    /**
+     * 잔고가 부족해 차감하지 못한 만료분 제거
+     */
+    void discardDue(long userId, long nowMillis) {
+        lots.computeIfPresent(userId, (k, userLots) -> {
+            userLots.discardDue(nowMillis);
+            return userLots.isEmpty() ? null : userLots;
+        });
+    }
+
+    /**
+     * 만료되지 않은 충전분 합계
+     */
+    long remaining(long userId) {
+        PointLots userLots = lots.get(userId);
+        return userLots == null ? 0 : userLots.total();
+    }
+
+    /**
+     * 아직 처리되지 않은 만료 예약 수
+     */
+    long scheduled() {
+        return wheel.size();
+    }
+
+    int users() {
+        return lots.size();
+    }
+
+    @Override
+    public void close() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            workers.shutdown();
+        }
+    }
+
+    private void record(long userId, long amount, TransactionType type, long updateMillis) {
+        switch (type) {
+            case CHARGE -> {
+                long expiresAt = updateMillis + expireAfterMillis;
+                lots.computeIfAbsent(userId, k -> new PointLots()).add(amount, expiresAt);
+                wheel.schedule(userId, expiresAt);
+            }
+            // 만료 처리는 만료된 묶음의 합계만큼 기록하므로 오래된 묶음부터 차감하면 만료된 묶음이 제거된다
+            case USE, EXPIRE -> lots.computeIfPresent(userId, (k, userLots) -> {
+                userLots.consume(amount);
+                return userLots.isEmpty() ? null : userLots;
+            });
+        }
+    }
+
+    private class TrackingStore implements PointHistoryStore {
+
+        private final PointHistoryStore delegate;
+
+        TrackingStore(PointHistoryStore delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            PointHistory pointHistory = delegate.insert(userId, amount, type, updateMillis);
+            record(userId, amount, type, updateMillis);
+            return pointHistory;
+        }
+
+        @Override
+        public List<PointHistory> selectAllByUserId(long userId) {
+            return delegate.selectAllByUserId(userId);
+        }
+
+        @Override
+        public void load(List<PointHistory> histories) {
+            delegate.load(histories);
+            for (PointHistory pointHistory : histories) {
+                record(pointHistory.userId(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+            }
+        }
+
+        @Override
+        public PointHistoryPage selectPage(long userId, PointHistoryQuery query) {
+            return delegate.selectPage(userId, query);
+        }
+
+        @Override
+        public long lastId() {
+            return delegate.lastId();
+        }
+
+        @Override
+        public LongStream userIds() {
+            return delegate.userIds();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 유저별 충전/사용 요청을 모아서 한번에 처리하는 그룹 커밋
+ * - 요청을 유저별 대기열에 넣고, 처리중인 리더가 없으면 요청 스레드가 리더가 되어 대기중인 요청을 최대 maxBatch 건 처리
+ * - 리더는 한 묶음만 처리하고 내려오며, 남은 요청이 있으면 가장 앞선 요청의 스레드를 깨워 다음 리더를 맡긴다
+ *   (자신의 요청보다 앞선 요청만 처리하므로 뒤이어 들어오는 요청 때문에 호출자가 계속 붙잡히지 않는다)
+ * - 나머지 스레드는 리더가 자신의 결과(혹은 예외)를 채워줄 때까지 처리 기한만큼만 대기하며,
+ *   묶음에 포함되기 전에 기한이 지나면 대기열에서 빠지고 DeadlineExceededException
+ * - 대기열은 비어있고 처리중인 리더가 없으면 제거한다
+ */
+class PointGroupCommitter {
+
+    private final Map<Long, UserQueue> queues = new ConcurrentHashMap<>();
+    private final BatchApplier batchApplier;
+    private final int maxBatch;
+    private final PointMetrics metrics;
+
+    PointGroupCommitter(BatchApplier batchApplier, int maxBatch, PointMetrics metrics) {
+        this.batchApplier = batchApplier;
+        this.maxBatch = Math.max(1, maxBatch);
+        this.metrics = metrics;
+    }
+
+    UserPoint submit(long id, TransactionType type, long amount, PointDeadline deadline) {
+        PendingRequest request = new PendingRequest(type, amount, deadline, new CompletableFuture<>(), Thread.currentThread());
+        // 대기열 제거와 겹치지 않도록 대기열 조회와 요청 추가를 한번에 수행
+        UserQueue queue = queues.compute(id, (k, current) -> {
+            UserQueue target = current == null ? new UserQueue() : current;
+            target.pending.add(request);
+            return target;
+        });
+        await(id, queue, request);
+        try {
+            return request.result().join();
+        } catch (CompletionException e) {
+            // 각 요청의 검증 실패는 원래 예외 그대로 호출자에게 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 대기열이 남아있는 유저 수
+     */
+    int size() {
+        return queues.size();
+    }
+
+    // 자신의 결과가 채워질 때까지 리더가 없으면 한 묶음씩 처리하고, 그 외에는 처리 기한까지 대기
+    private void await(long id, UserQueue queue, PendingRequest request) {
+        while (!request.result().isDone()) {
+            if (!queue.pending.isEmpty() && queue.draining.compareAndSet(false, true)) {
+                drain(id, queue);
+                continue;
+            }
+            if (request.deadline().isNone()) {
+                LockSupport.park(this);
+                continue;
+            }
+            long remainingNanos = request.deadline().remainingNanos();
+            if (remainingNanos > 0) {
+                LockSupport.parkNanos(this, remainingNanos);
+                continue;
+            }
+            if (queue.pending.remove(request)) {
+                // 묶음에 포함되기 전에 기한이 지난 요청은 처리하지 않는다
+                metrics.deadlineExpired(PointDeadline.Stage.QUEUE);
+                handOff(id, queue);
+                throw PointDeadline.exceeded();
+            }
+            // 이미 묶음에 포함되어 적용 중이면 결과가 채워질 때까지 기다린다
+            LockSupport.park(this);
+        }
+    }
+
+    private void drain(long id, UserQueue queue) {
+        try {
+            List<PendingRequest> batch = new ArrayList<>();
+            PendingRequest next;
+            while (batch.size() < maxBatch && (next = queue.pending.poll()) != null) {
+                batch.add(next);
+            }
+            if (!batch.isEmpty()) {
+                apply(id, batch);
+            }
+        } finally {
+            queue.draining.set(false);
+        }
+        handOff(id, queue);
+    }
+
+    // 남은 요청이 있으면 가장 앞선 요청의 스레드를 깨워 리더를 맡기고, 없으면 대기열을 제거
+    private void handOff(long id, UserQueue queue) {
+        PendingRequest head = queue.pending.peek();
+        if (head != null) {
+            LockSupport.unpark(head.waiter());
+            return;
+        }
+        queues.computeIfPresent(id, (k, current) -> current.pending.isEmpty() && !current.draining.get() ? null : current);
+    }
+
+    private void apply(long id, List<PendingRequest> batch) {
+        try {
+            batchApplier.apply(id, batch);
+        } catch (RuntimeException e) {
+            batch.forEach(request -> request.result().completeExceptionally(e));
+        } finally {
+            batch.forEach(request -> LockSupport.unpark(request.waiter()));
+        }
+    }
+
+    /**
+     * 한 유저에 대해 모인 요청을 순서대로 적용하고 각 요청의 결과를 채운다
+     */
+    @FunctionalInterface
+    interface BatchApplier {
+        void apply(long id, List<PendingRequest> batch);
+    }
+
+    record PendingRequest(TransactionType type, long amount, PointDeadline deadline, CompletableFuture<UserPoint> result,
+                          Thread waiter) {
+    }
+
+    private static class UserQueue {
+        private final Queue<PendingRequest> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+    }
+}
@@ -0,0 +1,70 @@
+package io.hhplus.tdd.point.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.history.PointHistoryQuery;
+import io.hhplus.tdd.point.history.PointHistoryStore;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
+
+/**
+ * 포인트 내역을 NDJSON (한 줄에 하나의 JSON) 형태로 내보내는 기능
+ * - 유저 내역 전체를 목록으로 만들지 않고, 커서 페이지 단위로 읽어서 바로 출력하므로 메모리 사용량이 일정하다
+ */
+@Component
+public class PointHistoryExporter {
+
+    static final int CHUNK_SIZE = 500;
+    private static final int NEW_LINE = '\n';
+
+    private final PointHistoryStore pointHistoryStore;
+    private final ObjectMapper objectMapper;
+
+    public PointHistoryExporter(PointHistoryStore pointHistoryStore, ObjectMapper objectMapper) {
+        this.pointHistoryStore = pointHistoryStore;
+        this.objectMapper = objectMapper;
+    }
+
+    public void export(LongStream userIds, OutputStream out) throws IOException {
+        PrimitiveIterator.OfLong iterator = userIds.iterator();
+        while (iterator.hasNext()) {
+            exportUser(iterator.nextLong(), out);
+        }
+        out.flush();
+    }
+
+    /**
+     * 내역이 있는 전체 유저의 내역을 내보낸다 (배치 작업용)
+     */
+    public void exportAll(OutputStream out) throws IOException {
+        export(pointHistoryStore.userIds(), out);
+    }
+
+    private void exportUser(long userId, OutputStream out) throws IOException {
+        Long cursor = null;
+        do {
+            PointHistoryPage page = pointHistoryStore.selectPage(userId, new PointHistoryQuery(cursor, CHUNK_SIZE, null, null, null));
+            for (PointHistory pointHistory : page.items()) {
+                writeLine(pointHistory, out);
+            }
+            // 페이지 단위로 flush 하여 응답을 chunk 로 내려보낸다
+            out.flush();
+            cursor = page.nextCursor();
+        } while (cursor != null);
+    }
+
+    private void writeLine(PointHistory pointHistory, OutputStream out) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(pointHistory));
+            out.write(NEW_LINE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
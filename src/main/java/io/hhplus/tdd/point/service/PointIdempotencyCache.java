@@ -0,0 +1,113 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 별 충전/사용 결과 캐시
+ * - 처음 들어온 키만 요청을 처리하고, 같은 키로 다시 들어온 요청은 저장된 UserPoint 를 그대로 반환 (락/테이블 접근 없음)
+ * - 처리 중인 키로 들어온 요청은 처음 요청의 결과를 기다린다
+ * - 실패한 요청은 결과를 저장하지 않으므로 같은 키로 다시 시도할 수 있다
+ * - ttl 이 지난 키는 제거되며, 최대 maxSize 개의 키만 유지한다 (오래된 키부터 제거)
+ */
+class PointIdempotencyCache {
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final PointMetrics metrics;
+    // 저장 순서 = 만료 순서이므로 앞에서부터 만료된 키를 제거한다
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    PointIdempotencyCache(int maxSize, Duration ttl, PointMetrics metrics) {
+        this.maxSize = Math.max(1, maxSize);
+        this.ttlMillis = ttl.toMillis();
+        this.metrics = metrics;
+    }
+
+    UserPoint execute(String key, long userId, TransactionType type, long amount, Supplier<UserPoint> operation) {
+        if (key == null) {
+            return operation.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 는 1자 이상 " + MAX_KEY_LENGTH + "자 이하이어야 합니다.");
+        }
+        Entry entry;
+        boolean first = false;
+        synchronized (entries) {
+            long now = System.currentTimeMillis();
+            evictExpired(now);
+            entry = entries.get(key);
+            if (entry == null) {
+                entry = new Entry(userId, type, amount, now, new CompletableFuture<>());
+                entries.put(key, entry);
+                first = true;
+                if (entries.size() > maxSize) {
+                    Iterator<Entry> eldest = entries.values().iterator();
+                    eldest.next();
+                    eldest.remove();
+                }
+            }
+        }
+        if (!entry.isSameRequest(userId, type, amount)) {
+            throw new IllegalArgumentException("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+        }
+        if (!first) {
+            metrics.idempotencyHit();
+            return await(entry.result());
+        }
+        metrics.idempotencyMiss();
+        try {
+            UserPoint userPoint = operation.get();
+            entry.result().complete(userPoint);
+            return userPoint;
+        } catch (RuntimeException e) {
+            synchronized (entries) {
+                entries.remove(key, entry);
+            }
+            entry.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext() && now - iterator.next().createdMillis() >= ttlMillis) {
+            iterator.remove();
+        }
+    }
+
+    private static UserPoint await(CompletableFuture<UserPoint> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            // 처음 요청의 예외를 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry(long userId, TransactionType type, long amount, long createdMillis, CompletableFuture<UserPoint> result) {
+
+        boolean isSameRequest(long userId, TransactionType type, long amount) {
+            return this.userId == userId && this.type == type && this.amount == amount;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.UserPoint;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 여러 유저의 잔고를 한번에 조회하는 기능
+ * - 캐시/메모리 저장소에 있는 잔고는 호출 스레드에서 바로 응답
+ * - 나머지 유저는 동시에 최대 lookupParallelism 명까지 병렬로 조회하여, 전체 응답 시간이 조회 한번의 지연에 가깝도록 한다
+ */
+@Service
+public class PointLookupService {
+
+    public static final int MAX_LOOKUP_SIZE = 1_000;
+
+    private final PointService pointService;
+    private final PointMetrics metrics;
+    private final ExecutorService executor;
+
+    @Autowired
+    public PointLookupService(PointService pointService, PointServiceProperties properties, PointMetrics metrics,
+                              @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this(pointService, metrics, PointExecutors.newFixedThreadPool("point-lookup-", properties.getLookupParallelism(), virtualThreads));
+    }
+
+    PointLookupService(PointService pointService, PointMetrics metrics, ExecutorService executor) {
+        this.pointService = pointService;
+        this.metrics = metrics;
+        this.executor = executor;
+    }
+
+    /**
+     * 요청한 유저 순서대로 userId -> 잔고 (중복 id 는 한번만 조회)
+     */
+    public Map<Long, UserPoint> select(List<Long> ids) {
+        if (ids.size() > MAX_LOOKUP_SIZE) {
+            throw new IllegalArgumentException("한번에 조회할 수 있는 유저는 " + MAX_LOOKUP_SIZE + "명 이하입니다.");
+        }
+        Map<Long, UserPoint> points = new LinkedHashMap<>();
+        List<Long> missIds = new ArrayList<>();
+        List<CompletableFuture<UserPoint>> misses = new ArrayList<>();
+        for (Long id : ids) {
+            if (points.containsKey(id)) {
+                continue;
+            }
+            UserPoint cached = pointService.selectCached(id);
+            // 응답 순서를 유지하기 위해 조회 전인 유저도 자리를 먼저 만든다
+            points.put(id, cached);
+            if (cached == null) {
+                missIds.add(id);
+                misses.add(CompletableFuture.supplyAsync(() -> pointService.select(id), executor));
+            }
+        }
+        CompletableFuture.allOf(misses.toArray(CompletableFuture[]::new)).join();
+        for (int i = 0; i < misses.size(); i++) {
+            points.put(missIds.get(i), misses.get(i).join());
+        }
+        metrics.lookup(points.size() - misses.size(), misses.size());
+        return points;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
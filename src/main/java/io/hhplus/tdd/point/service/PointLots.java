@@ -0,0 +1,97 @@
+package io.hhplus.tdd.point.service;
+
+/**
+ * 한 유저의 만료되지 않은 충전분 (충전 순서대로 보관)
+ * - 충전 1건이 하나의 묶음(lot)이 되고, 사용/만료는 가장 오래된 묶음부터 차감한다
+ * - 충전 순서와 만료 시각 순서가 같으므로 만료 대상은 항상 앞쪽에 모여있다
+ */
+class PointLots {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    // 원형 배열 : head 부터 size 개가 남은 묶음
+    private long[] amounts = new long[INITIAL_CAPACITY];
+    private long[] expiresAt = new long[INITIAL_CAPACITY];
+    private int head;
+    private int size;
+
+    synchronized void add(long amount, long expiresAtMillis) {
+        if (size == amounts.length) {
+            grow();
+        }
+        // 시계가 되돌아가도 만료 시각 순서가 유지되도록 직전 묶음보다 앞서지 않게 한다
+        long last = size == 0 ? Long.MIN_VALUE : expiresAt[slot(size - 1)];
+        int tail = slot(size);
+        amounts[tail] = amount;
+        expiresAt[tail] = Math.max(last, expiresAtMillis);
+        size++;
+    }
+
+    /**
+     * 가장 오래된 묶음부터 amount 만큼 차감 (남은 묶음보다 많으면 모두 차감)
+     */
+    synchronized void consume(long amount) {
+        while (amount > 0 && size > 0) {
+            int first = slot(0);
+            long taken = Math.min(amount, amounts[first]);
+            amounts[first] -= taken;
+            amount -= taken;
+            if (amounts[first] == 0) {
+                removeFirst();
+            }
+        }
+    }
+
+    /**
+     * nowMillis 까지 만료된 묶음의 남은 합계
+     */
+    synchronized long due(long nowMillis) {
+        long due = 0;
+        for (int i = 0; i < size && expiresAt[slot(i)] <= nowMillis; i++) {
+            due += amounts[slot(i)];
+        }
+        return due;
+    }
+
+    /**
+     * nowMillis 까지 만료된 묶음을 차감 없이 제거
+     */
+    synchronized void discardDue(long nowMillis) {
+        while (size > 0 && expiresAt[slot(0)] <= nowMillis) {
+            removeFirst();
+        }
+    }
+
+    synchronized long total() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += amounts[slot(i)];
+        }
+        return total;
+    }
+
+    synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void removeFirst() {
+        head = slot(1);
+        size--;
+    }
+
+    private int slot(int offset) {
+        return (head + offset) % amounts.length;
+    }
+
+    private void grow() {
+        long[] grownAmounts = new long[amounts.length * 2];
+        long[] grownExpiresAt = new long[amounts.length * 2];
+        for (int i = 0; i < size; i++) {
+            grownAmounts[i] = amounts[slot(i)];
+            grownExpiresAt[i] = expiresAt[slot(i)];
+        }
+        amounts = grownAmounts;
+        expiresAt = grownExpiresAt;
+        head = 0;
+    }
+}
@@ -0,0 +1,212 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 포인트 서비스 계측 (/actuator/prometheus 로 노출)
+ * - 요청 경로의 부담을 줄이기 위해 모든 Meter 는 생성 시점에 미리 등록해두고 호출 시에는 기록만 한다
+ */
+@Component
+public class PointMetrics {
+
+    private final MeterRegistry registry;
+    private final Timer chargeLockWait;
+    private final Timer useLockWait;
+    private final Timer expireLockWait;
+    private final Counter maxPointRejected;
+    private final Counter insufficientPointRejected;
+    private final Counter invalidAmountRejected;
+    private final DistributionSummary groupCommitBatchSize;
+    private final Counter idempotencyHit;
+    private final Counter idempotencyMiss;
+    private final Counter optimisticRetries;
+    private final Counter optimisticFallbacks;
+    private final Counter summaryMismatches;
+    private final Counter lookupCached;
+    private final Counter lookupLoaded;
+    private final Counter userRateRejected;
+    private final Counter globalRateRejected;
+    private final Counter lockQueueRejected;
+    private final Counter expiredPoints;
+    private final DistributionSummary expiryBatchSize;
+    private final Map<PointDeadline.Stage, Counter> deadlineExpired = new EnumMap<>(PointDeadline.Stage.class);
+
+    public PointMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.chargeLockWait = lockWaitTimer("charge");
+        this.useLockWait = lockWaitTimer("use");
+        this.expireLockWait = lockWaitTimer("expire");
+        this.maxPointRejected = rejectedCounter("max_point");
+        this.insufficientPointRejected = rejectedCounter("insufficient_point");
+        this.invalidAmountRejected = rejectedCounter("invalid_amount");
+        this.groupCommitBatchSize = DistributionSummary.builder("point.group_commit.batch.size")
+                .description("그룹 커밋 한번에 처리한 요청 수")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.idempotencyHit = idempotencyCounter("hit");
+        this.idempotencyMiss = idempotencyCounter("miss");
+        this.optimisticRetries = Counter.builder("point.optimistic.retries")
+                .description("낙관적 갱신 충돌로 다시 시도한 횟수")
+                .register(registry);
+        this.optimisticFallbacks = Counter.builder("point.optimistic.fallbacks")
+                .description("낙관적 갱신 재시도를 모두 실패하여 유저 락으로 처리한 요청 수")
+                .register(registry);
+        this.userRateRejected = admissionCounter("user_rate");
+        this.globalRateRejected = admissionCounter("global_rate");
+        this.lockQueueRejected = admissionCounter("lock_queue");
+        for (PointDeadline.Stage stage : PointDeadline.Stage.values()) {
+            deadlineExpired.put(stage, Counter.builder("point.deadline.expired")
+                    .description("처리 기한이 지나 남은 작업을 수행하지 않은 충전/사용 요청 수")
+                    .tag("stage", stage.name().toLowerCase())
+                    .register(registry));
+        }
+        this.lookupCached = lookupCounter("cache");
+        this.lookupLoaded = lookupCounter("store");
+        this.summaryMismatches = Counter.builder("point.summary.mismatch")
+                .description("누적 집계와 전체 내역 재합산 결과가 다른 정합성 검사 수")
+                .register(registry);
+        this.expiredPoints = Counter.builder("point.expiry.expired")
+                .description("유효기간이 지나 잔고에서 차감한 포인트")
+                .register(registry);
+        this.expiryBatchSize = DistributionSummary.builder("point.expiry.batch")
+                .description("만료 처리 한번에 처리한 유저 수")
+                .register(registry);
+    }
+
+    /**
+     * 아무것도 기록하지 않는 계측 (테스트, 벤치마크용)
+     */
+    public static PointMetrics noop() {
+        return new PointMetrics(new CompositeMeterRegistry());
+    }
+
+    public void recordLockWait(TransactionType type, long nanos) {
+        Timer timer = switch (type) {
+            case CHARGE -> chargeLockWait;
+            case USE -> useLockWait;
+            case EXPIRE -> expireLockWait;
+        };
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 정책 위반으로 거절된 요청
+     * - 충전은 최대 잔고 초과, 사용은 잔고 부족으로만 거절된다
+     */
+    public void rejected(TransactionType type) {
+        (type == TransactionType.CHARGE ? maxPointRejected : insufficientPointRejected).increment();
+    }
+
+    public void invalidAmount() {
+        invalidAmountRejected.increment();
+    }
+
+    public void recordGroupCommitBatch(int size) {
+        groupCommitBatchSize.record(size);
+    }
+
+    public void idempotencyHit() {
+        idempotencyHit.increment();
+    }
+
+    public void idempotencyMiss() {
+        idempotencyMiss.increment();
+    }
+
+    public void optimisticRetry() {
+        optimisticRetries.increment();
+    }
+
+    public void optimisticFallback() {
+        optimisticFallbacks.increment();
+    }
+
+    public void summaryMismatch() {
+        summaryMismatches.increment();
+    }
+
+    public void userRateLimited() {
+        userRateRejected.increment();
+    }
+
+    public void globalRateLimited() {
+        globalRateRejected.increment();
+    }
+
+    public void lockQueueFull() {
+        lockQueueRejected.increment();
+    }
+
+    public void deadlineExpired(PointDeadline.Stage stage) {
+        deadlineExpired.get(stage).increment();
+    }
+
+    public void expired(long amount) {
+        expiredPoints.increment(amount);
+    }
+
+    public void recordExpiryBatch(int users) {
+        expiryBatchSize.record(users);
+    }
+
+    public void lookup(int cached, int loaded) {
+        lookupCached.increment(cached);
+        lookupLoaded.increment(loaded);
+    }
+
+    public <T> void gauge(String name, T target, ToDoubleFunction<T> valueFunction) {
+        Gauge.builder(name, target, valueFunction).register(registry);
+    }
+
+    public MeterRegistry registry() {
+        return registry;
+    }
+
+    private Timer lockWaitTimer(String operation) {
+        return Timer.builder("point.lock.wait")
+                .description("유저 락 획득 대기 시간")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private Counter rejectedCounter(String reason) {
+        return Counter.builder("point.rejected")
+                .description("정책 위반으로 거절된 충전/사용 요청 수")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    private Counter admissionCounter(String reason) {
+        return Counter.builder("point.admission.rejected")
+                .description("처리량 제한 또는 락 대기열 초과로 바로 거절된 충전/사용 요청 수")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    private Counter lookupCounter(String source) {
+        return Counter.builder("point.lookup")
+                .description("여러 유저 잔고 조회에서 캐시/저장소로 응답한 유저 수")
+                .tag("source", source)
+                .register(registry);
+    }
+
+    private Counter idempotencyCounter(String result) {
+        return Counter.builder("point.idempotency")
+                .description("Idempotency-Key 결과 캐시 조회 결과")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,145 @@
+package io.hhplus.tdd.point.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * userId 해시로 나눈 파티션마다 하나의 전용 스레드가 해당 유저들의 충전/사용을 모두 처리하는 single-writer 실행기
+ * - 한 유저의 요청은 항상 같은 스레드에서 도착 순서대로 실행되므로 유저 락 없이 순차 처리가 보장된다
+ * - 경합 시 락 대기/해제(park, handoff) 대신 파티션 대기열에 요청을 넣고 결과만 기다린다
+ * - 같은 파티션의 다른 유저 요청도 순서대로 처리되므로, 테이블 지연이 큰 경우 파티션 수를 늘려야 한다
+ * - 처리 기한이 있는 요청은 남은 시간만큼만 기다리고, 그때까지 시작하지 못한 작업은 대기열에서 빼고 DeadlineExceededException
+ */
+class PointPartitions implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PointPartitions.class);
+    private static final long CLOSE_TIMEOUT_SECONDS = 30;
+
+    private final ThreadPoolExecutor[] executors;
+    private final PointMetrics metrics;
+
+    PointPartitions(int partitions, PointMetrics metrics) {
+        this.metrics = metrics;
+        this.executors = new ThreadPoolExecutor[Math.max(1, partitions)];
+        for (int i = 0; i < executors.length; i++) {
+            String name = "point-partition-" + i;
+            executors[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), r -> {
+                Thread thread = new Thread(r, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * 유저의 파티션 스레드에서 작업을 실행하고 처리 기한까지 결과를 기다린다 (작업의 예외는 그대로 전달)
+     * - 기한 안에 시작하지 못한 작업은 실행하지 않고, 이미 시작한 작업은 되돌릴 수 없으므로 끝날 때까지 기다린다
+     */
+    <T> T execute(long userId, PointDeadline deadline, Supplier<T> task) {
+        ThreadPoolExecutor executor = executors[partition(userId)];
+        PartitionTask<T> partitionTask = new PartitionTask<>(task);
+        executor.execute(partitionTask);
+        boolean interrupted = false;
+        boolean started = false;
+        try {
+            while (true) {
+                try {
+                    return started || deadline.isNone()
+                            ? partitionTask.get()
+                            : partitionTask.get(deadline.remainingNanos(), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException | InterruptedException e) {
+                    interrupted |= e instanceof InterruptedException;
+                    if (partitionTask.withdraw()) {
+                        executor.remove(partitionTask);
+                        if (interrupted) {
+                            throw new IllegalStateException("파티션 대기 중 인터럽트되어 요청을 처리하지 않았습니다.");
+                        }
+                        metrics.deadlineExpired(PointDeadline.Stage.QUEUE);
+                        throw PointDeadline.exceeded();
+                    }
+                    started = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    int partition(long userId) {
+        // 연속된 유저 id 가 고르게 나뉘도록 해시를 섞는다
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return (int) Math.floorMod(hash ^ (hash >>> 32), (long) executors.length);
+    }
+
+    /**
+     * 모든 파티션 대기열에 쌓인 요청 수
+     */
+    int queued() {
+        int queued = 0;
+        for (ThreadPoolExecutor executor : executors) {
+            queued += executor.getQueue().size();
+        }
+        return queued;
+    }
+
+    /**
+     * 대기열에 남은 요청을 모두 처리한 뒤 파티션 스레드를 종료 (저장소를 닫기 전에 호출)
+     */
+    @Override
+    public void close() {
+        for (ThreadPoolExecutor executor : executors) {
+            executor.shutdown();
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(CLOSE_TIMEOUT_SECONDS);
+        try {
+            for (ThreadPoolExecutor executor : executors) {
+                if (!executor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    log.warn("파티션 종료 대기 시간 초과 - 처리하지 못한 요청 {}건", queued());
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 파티션 스레드와 기한이 지난 호출자 중 먼저 차지한 쪽만 작업을 진행한다
+     * - 파티션 스레드가 먼저 차지하면 작업을 실행하고, 호출자가 먼저 차지하면 작업은 실행되지 않는다
+     */
+    private static class PartitionTask<T> extends FutureTask<T> {
+
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        PartitionTask(Supplier<T> task) {
+            super(task::get);
+        }
+
+        @Override
+        public void run() {
+            if (claimed.compareAndSet(false, true)) {
+                super.run();
+            }
+        }
+
+        boolean withdraw() {
+            return claimed.compareAndSet(false, true) && cancel(false);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 포인트 충전/사용 정책
+ * - 충전/사용 금액은 0보다 커야 한다
+ * - 충전 후 잔고는 MAX_POINT 를 넘을 수 없다
+ * - 사용 금액은 보유한 포인트보다 클 수 없다
+ */
+public final class PointPolicy {
+
+    public final static long MAX_POINT = 10000L; // Max 포인트 지정
+
+    private PointPolicy() {
+    }
+
+    public static void validateAmount(TransactionType type, long amount) {
+        if (amount > 0) {
+            return;
+        }
+        switch (type) {
+            case CHARGE -> throw new IllegalArgumentException("충전 금액은 0보다 커야 합니다.");
+            case USE -> throw new IllegalArgumentException("사용 금액은 0보다 커야 합니다.");
+            case EXPIRE -> throw new IllegalArgumentException("만료 금액은 0보다 커야 합니다.");
+        }
+    }
+
+    /**
+     * 기존 잔고에 트랜잭션을 적용한 잔고를 반환
+     */
+    public static long apply(TransactionType type, long baseAmount, long amount) {
+        return switch (type) {
+            case CHARGE -> charge(baseAmount, amount);
+            case USE, EXPIRE -> use(baseAmount, amount);
+        };
+    }
+
+    public static long charge(long baseAmount, long amount) {
+        long updateAmount = baseAmount + amount;
+        if (updateAmount > MAX_POINT) {
+            throw new IllegalArgumentException("최대 잔고 이상으로 충전할 수 없습니다.");
+        }
+        return updateAmount;
+    }
+
+    public static long use(long baseAmount, long amount) {
+        if (baseAmount < amount) {
+            throw new IllegalArgumentException("사용하고자하는 포인트가 보유한 포인트보다 많습니다.");
+        }
+        return baseAmount - amount;
+    }
+}
@@ -0,0 +1,136 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TooManyRequestsException;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.history.PointHistoryStore;
+import io.hhplus.tdd.point.lock.UserLockRegistry;
+import io.hhplus.tdd.point.lock.UserLockRegistry.UserLock;
+import io.hhplus.tdd.point.store.UserPointStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.TransactionType.USE;
+
+/**
+ * 충전/사용/만료 한 건을 처리하는 공통 단계 (잔고 조회 → 정책 적용 → 내역 저장 → 잔고 갱신) 와 유저 락
+ * - 유저 단위 순차 실행은 이 단계를 호출하는 쓰기 방식(PointWriteStrategy)이 보장한다
+ */
+class PointProcessor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PointProcessor.class);
+
+    private final UserPointStore userPointStore;
+    private final PointHistoryStore pointHistoryStore;
+    private final UserLockRegistry locks;
+    private final AtomicInteger lockWaiters = new AtomicInteger();
+    private final ParallelPointWriter parallelWriter;
+    private final PointMetrics metrics;
+
+    PointProcessor(UserPointStore userPointStore, PointHistoryStore pointHistoryStore, PointServiceProperties properties, PointMetrics metrics) {
+        this.userPointStore = userPointStore;
+        this.pointHistoryStore = pointHistoryStore;
+        this.metrics = metrics;
+        this.locks = UserLockRegistry.create(properties.getLockRegistry(), properties.getLockStripes(), properties.getLockMaxWaiters());
+        metrics.gauge("point.locks.size", locks, UserLockRegistry::size);
+        metrics.gauge("point.lock.queued", lockWaiters, AtomicInteger::get);
+        // 쓰기 스레드는 테이블 지연 동안 대기만 하므로 가상 스레드로 실행
+        this.parallelWriter = properties.isParallelWrites()
+                ? new ParallelPointWriter(userPointStore, pointHistoryStore, Executors.newVirtualThreadPerTaskExecutor())
+                : null;
+    }
+
+    /**
+     * 기존 포인트 양을 조회하여 정책을 적용한 뒤 내역 저장 및 잔고 갱신
+     * - 호출자가 유저 락 또는 파티션 스레드로 유저 단위 순차 실행을 보장해야 한다
+     */
+    UserPoint process(long id, TransactionType type, long amount, PointDeadline deadline) {
+        checkDeadline(deadline, PointDeadline.Stage.BEFORE_READ);
+        long baseAmount = balance(id);
+        long updateAmount = applyPolicy(type, baseAmount, amount);
+        // 내역 저장과 잔고 갱신은 둘 다 수행되어야 하므로 시작 전에만 확인한다
+        checkDeadline(deadline, PointDeadline.Stage.BEFORE_WRITE);
+        awaitWritable(id, deadline);
+        UserPoint userPoint = write(id, type, amount, baseAmount, updateAmount);
+        log.info("남은 포인트 : " + updateAmount);
+        return userPoint;
+    }
+
+    // 내역 저장 후 잔고 갱신 (parallelWrites 설정 시 두 쓰기를 동시에 수행)
+    UserPoint write(long id, TransactionType type, long amount, long baseAmount, long updateAmount) {
+        if (parallelWriter != null) {
+            return parallelWriter.write(id, type, amount, baseAmount, updateAmount);
+        }
+        PointHistory insertPoint = insertHistory(id, type, amount);
+        log.info("포인트 " + (type == CHARGE ? "충전" : type == USE ? "사용" : "만료") + " 완료 : " + insertPoint);
+        return saveBalance(id, updateAmount);
+    }
+
+    long balance(long id) {
+        return userPointStore.selectById(id).point();
+    }
+
+    PointHistory insertHistory(long id, TransactionType type, long amount) {
+        return pointHistoryStore.insert(id, amount, type, System.currentTimeMillis());
+    }
+
+    UserPoint saveBalance(long id, long balance) {
+        return userPointStore.insertOrUpdate(id, balance);
+    }
+
+    // 유저 락을 획득하고 획득까지 대기한 시간을 기록 (처리 기한이 있으면 남은 시간만큼만 대기)
+    UserLock lock(long id, TransactionType type, PointDeadline deadline) {
+        long start = System.nanoTime();
+        lockWaiters.incrementAndGet();
+        try {
+            UserLock lock = deadline.isNone() ? locks.acquire(id) : locks.tryAcquire(id, deadline.remainingNanos());
+            if (lock == null) {
+                metrics.deadlineExpired(PointDeadline.Stage.LOCK_WAIT);
+                throw PointDeadline.exceeded();
+            }
+            metrics.recordLockWait(type, System.nanoTime() - start);
+            return lock;
+        } catch (TooManyRequestsException e) {
+            metrics.lockQueueFull();
+            throw e;
+        } finally {
+            lockWaiters.decrementAndGet();
+        }
+    }
+
+    // 잔고 저장소가 새 변경을 받을 수 있을 때까지 처리 기한만큼만 대기 (내역만 저장되지 않도록 내역 저장 전에 확인)
+    void awaitWritable(long id, PointDeadline deadline) {
+        if (!userPointStore.awaitWritable(id, deadline.remainingNanos())) {
+            metrics.deadlineExpired(PointDeadline.Stage.BEFORE_WRITE);
+            throw PointDeadline.exceeded();
+        }
+    }
+
+    void checkDeadline(PointDeadline deadline, PointDeadline.Stage stage) {
+        if (deadline.isExpired()) {
+            metrics.deadlineExpired(stage);
+            throw PointDeadline.exceeded();
+        }
+    }
+
+    long applyPolicy(TransactionType type, long baseAmount, long amount) {
+        try {
+            return PointPolicy.apply(type, baseAmount, amount);
+        } catch (IllegalArgumentException e) {
+            metrics.rejected(type);
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (parallelWriter != null) {
+            parallelWriter.close();
+        }
+    }
+}
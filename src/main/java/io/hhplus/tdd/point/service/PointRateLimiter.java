@@ -0,0 +1,156 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.TooManyRequestsException;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 충전/사용 요청 처리량 제한 (토큰 버킷)
+ * - 유저별 버킷과 전체 버킷에서 모두 토큰을 얻은 요청만 처리하고, 나머지는 대기 없이 바로 거절
+ * - 유저 버킷을 먼저 확인하므로 한 유저의 과도한 요청이 전체 버킷의 토큰을 소모하지 않는다
+ * - 초당 허용량이 0 이하인 버킷은 사용하지 않는다
+ * - 유저 버킷은 최대 보관 수를 넘지 않도록 마지막으로 채운 시점이 가장 오래된 버킷부터 제거한다
+ */
+class PointRateLimiter {
+
+    static final String MESSAGE = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final double userRate;
+    private final int userBurst;
+    private final int maxTrackedUsers;
+    private final TokenBucket global;
+    private final LongSupplier nanoTime;
+    private final PointMetrics metrics;
+    private final Map<Long, TokenBucket> userBuckets;
+
+    PointRateLimiter(PointServiceProperties properties, PointMetrics metrics) {
+        this(properties, metrics, System::nanoTime);
+    }
+
+    PointRateLimiter(PointServiceProperties properties, PointMetrics metrics, LongSupplier nanoTime) {
+        this.userRate = properties.getRateLimitPerUser();
+        this.userBurst = Math.max(1, properties.getRateLimitPerUserBurst());
+        this.maxTrackedUsers = Math.max(1, properties.getRateLimitMaxUsers());
+        // accessOrder = true 로 설정하여 조회 순서 = 마지막으로 토큰을 채운 순서로 유지
+        this.userBuckets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, TokenBucket> eldest) {
+                return size() > maxTrackedUsers;
+            }
+        };
+        this.nanoTime = nanoTime;
+        this.metrics = metrics;
+        this.global = properties.getRateLimitGlobal() > 0
+                ? new TokenBucket(properties.getRateLimitGlobal(), Math.max(1, properties.getRateLimitGlobalBurst()), nanoTime.getAsLong())
+                : null;
+    }
+
+    boolean isEnabled() {
+        return userRate > 0 || global != null;
+    }
+
+    /**
+     * 토큰을 얻지 못하면 TooManyRequestsException
+     */
+    void acquire(long userId) {
+        TokenBucket user = null;
+        if (userRate > 0) {
+            user = userBucket(userId);
+            long waitNanos = user.tryAcquire(nanoTime.getAsLong());
+            if (waitNanos > 0) {
+                metrics.userRateLimited();
+                throw new TooManyRequestsException(MESSAGE, TimeUnit.NANOSECONDS.toMillis(waitNanos) + 1);
+            }
+        }
+        if (global != null) {
+            long waitNanos = global.tryAcquire(nanoTime.getAsLong());
+            if (waitNanos > 0) {
+                // 처리하지 않은 요청이 유저의 허용량을 소모하지 않도록 되돌린다
+                if (user != null) {
+                    user.refund();
+                }
+                metrics.globalRateLimited();
+                throw new TooManyRequestsException(MESSAGE, TimeUnit.NANOSECONDS.toMillis(waitNanos) + 1);
+            }
+        }
+    }
+
+    int trackedUsers() {
+        synchronized (userBuckets) {
+            return userBuckets.size();
+        }
+    }
+
+    private TokenBucket userBucket(long userId) {
+        synchronized (userBuckets) {
+            TokenBucket bucket = userBuckets.get(userId);
+            if (bucket != null) {
+                return bucket;
+            }
+            long now = nanoTime.getAsLong();
+            evictFull(now);
+            // 가득 차지 않은 버킷만 남아 있어도 최대 보관 수를 넘으면 removeEldestEntry 가 가장 오래된 버킷을 제거한다
+            bucket = new TokenBucket(userRate, userBurst, now);
+            userBuckets.put(userId, bucket);
+            return bucket;
+        }
+    }
+
+    /**
+     * 가득 찬 버킷은 새로 만든 버킷과 같으므로 제거해도 제한이 느슨해지지 않는다
+     * - 오래전에 채운 버킷부터 확인하고, 가득 차지 않은 버킷을 만나면 멈춰 요청마다 전체 버킷을 훑지 않는다
+     */
+    private void evictFull(long now) {
+        Iterator<TokenBucket> iterator = userBuckets.values().iterator();
+        while (iterator.hasNext() && iterator.next().isFull(now)) {
+            iterator.remove();
+        }
+    }
+
+    private static class TokenBucket {
+
+        private final double permitsPerNano;
+        private final int capacity;
+        private double tokens;
+        private long refilledAt;
+
+        TokenBucket(double permitsPerSecond, int capacity, long now) {
+            this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = capacity;
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        /**
+         * 토큰을 하나 얻으면 0, 얻지 못하면 다음 토큰까지 남은 시간(ns)
+         */
+        synchronized long tryAcquire(long now) {
+            refill(now);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / permitsPerNano);
+        }
+
+        synchronized void refund() {
+            tokens = Math.min(capacity, tokens + 1);
+        }
+
+        synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            if (now > refilledAt) {
+                tokens = Math.min(capacity, tokens + (now - refilledAt) * permitsPerNano);
+                refilledAt = now;
+            }
+        }
+    }
+}
@@ -1,96 +1,242 @@
 package io.hhplus.tdd.point.service;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
 import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.PointSummaryCheck;
+import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.history.PointHistoryQuery;
+import io.hhplus.tdd.point.history.PointHistoryStore;
+import io.hhplus.tdd.point.store.UserPointStore;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.TransactionType.EXPIRE;
 import static io.hhplus.tdd.point.TransactionType.USE;
 
 @Service
 public class PointService {
 
     private static final Logger log = LoggerFactory.getLogger(PointService.class);
+    private static final int SUMMARY_CHECK_ATTEMPTS = 3;
 
-    private final static Long MAX_POINT = 10000L; // Max 포인트 지정
-    private final UserPointTable userPointTable;
-    private final PointHistoryTable pointHistoryTable;
-    private final Map<Long, ReentrantLock> locks = new ConcurrentHashMap<>();
+    private final UserPointStore userPointStore;
+    private final PointHistoryStore pointHistoryStore;
+    private final PointProcessor processor;
+    private final PointWriteStrategy writeStrategy;
+    private final PointRateLimiter rateLimiter;
+    private final Duration defaultTimeout;
+    private final PointMetrics metrics;
+    private final PointIdempotencyCache idempotency;
+    private final PointAggregates aggregates;
+    private final PointExpiry expiry;
 
     @Autowired
-    public PointService(UserPointTable userPointTable, PointHistoryTable pointHistoryTable) {
-        this.userPointTable = userPointTable;
-        this.pointHistoryTable = pointHistoryTable;
+    public PointService(UserPointStore userPointStore, PointHistoryStore pointHistoryStore, PointServiceProperties properties, PointMetrics metrics) {
+        this.userPointStore = userPointStore;
+        this.metrics = metrics;
+        // 이후 저장되는 모든 내역을 누적 집계에 반영
+        this.aggregates = new PointAggregates(properties.getSummaryZone(), properties.getSummaryRetentionDays());
+        aggregates.seed(pointHistoryStore);
+        metrics.gauge("point.summary.users", aggregates, PointAggregates::size);
+        // 충전 내역으로 만료될 충전분을 관리하고, 사용/만료 내역은 오래된 충전분부터 차감
+        this.expiry = !properties.getExpireAfter().isZero() && !properties.getExpireAfter().isNegative()
+                ? new PointExpiry(properties.getExpireAfter(), properties.getExpiryTick(), metrics)
+                : null;
+        if (expiry != null) {
+            expiry.seed(pointHistoryStore);
+            pointHistoryStore = expiry.tracking(pointHistoryStore);
+            metrics.gauge("point.expiry.scheduled", expiry, PointExpiry::scheduled);
+            metrics.gauge("point.expiry.users", expiry, PointExpiry::users);
+        }
+        this.pointHistoryStore = aggregates.tracking(pointHistoryStore);
+        this.processor = new PointProcessor(userPointStore, this.pointHistoryStore, properties, metrics);
+        this.writeStrategy = PointWriteStrategy.create(properties, processor, metrics);
+        PointRateLimiter limiter = new PointRateLimiter(properties, metrics);
+        this.rateLimiter = limiter.isEnabled() ? limiter : null;
+        if (rateLimiter != null) {
+            metrics.gauge("point.rate_limit.users", rateLimiter, PointRateLimiter::trackedUsers);
+        }
+        this.idempotency = new PointIdempotencyCache(properties.getIdempotencyMaxSize(), properties.getIdempotencyTtl(), metrics);
+        metrics.gauge("point.idempotency.size", idempotency, PointIdempotencyCache::size);
+        this.defaultTimeout = properties.getRequestTimeout();
+        if (expiry != null) {
+            expiry.start(this::expire);
+        }
     }
 
     public UserPoint charge(long id, long amount) {
-        if (amount <= 0) {
-            throw new IllegalArgumentException("충전 금액은 0보다 커야 합니다.");
-        }
-        // ReentrantLock을 사용하여 유저별 락 생성 및 반환
-        Lock lock = locks.computeIfAbsent(id, k -> new ReentrantLock(true)); // 공정성 설정. 락을 대기한 순서대로 스레드가 락을 획득
-        lock.lock();
-        try{
-            // 기존 포인트 양 조회
-            Long baseAmount = userPointTable.selectById(id).point();
-            long updateAmount = baseAmount + amount;
-            if(updateAmount > MAX_POINT){
-                throw new IllegalArgumentException("최대 잔고 이상으로 충전할 수 없습니다.");
-            }
-            // 포인트 충전 내역 저장
-            PointHistory insertPoint = pointHistoryTable.insert(id, amount, CHARGE, System.currentTimeMillis());
-            log.info("포인트 충전 완료 : " + insertPoint);
-            log.info("남은 포인트 : " + updateAmount);
-
-            return userPointTable.insertOrUpdate(id, updateAmount);
-        } finally {
-            lock.unlock();
-        }
+        return execute(id, CHARGE, amount, PointDeadline.NONE);
+    }
+
+    /**
+     * Idempotency-Key 가 있으면 같은 키로 처리된 결과를 반환하고, 없으면 충전 후 결과를 저장
+     */
+    public UserPoint charge(long id, long amount, String idempotencyKey) {
+        return charge(id, amount, idempotencyKey, PointDeadline.NONE);
+    }
+
+    /**
+     * 처리 기한이 지나면 남은 작업(락 대기, 테이블 호출)을 수행하지 않고 DeadlineExceededException
+     */
+    public UserPoint charge(long id, long amount, String idempotencyKey, PointDeadline deadline) {
+        return idempotency.execute(idempotencyKey, id, CHARGE, amount, () -> execute(id, CHARGE, amount, deadline));
     }
 
     public UserPoint select(long id) {
-        return userPointTable.selectById(id);
+        return userPointStore.selectById(id);
+    }
+
+    /**
+     * 테이블 조회 없이 바로 제공할 수 있는 잔고 (캐시/메모리 저장소에 없으면 null)
+     */
+    public UserPoint selectCached(long id) {
+        return userPointStore.selectCached(id);
     }
 
     public UserPoint use(long id, long amount) {
-        if (amount <= 0) {
-            throw new IllegalArgumentException("사용 금액은 0보다 커야 합니다.");
+        return execute(id, USE, amount, PointDeadline.NONE);
+    }
+
+    /**
+     * Idempotency-Key 가 있으면 같은 키로 처리된 결과를 반환하고, 없으면 사용 후 결과를 저장
+     */
+    public UserPoint use(long id, long amount, String idempotencyKey) {
+        return use(id, amount, idempotencyKey, PointDeadline.NONE);
+    }
+
+    /**
+     * 처리 기한이 지나면 남은 작업(락 대기, 테이블 호출)을 수행하지 않고 DeadlineExceededException
+     */
+    public UserPoint use(long id, long amount, String idempotencyKey, PointDeadline deadline) {
+        return idempotency.execute(idempotencyKey, id, USE, amount, () -> execute(id, USE, amount, deadline));
+    }
+
+    /**
+     * 요청 헤더로 받은 제한 시간(ms), 없으면 기본 제한 시간으로 처리 기한을 만든다
+     */
+    public PointDeadline deadline(Long timeoutMillis) {
+        if (timeoutMillis != null) {
+            return PointDeadline.after(Duration.ofMillis(timeoutMillis));
         }
-        // ReentrantLock을 사용하여 유저별 락 생성 및 반환
-        Lock lock = locks.computeIfAbsent(id, k -> new ReentrantLock(true)); // 공정성 설정. 락을 대기한 순서대로 스레드가 락을 획득
-        lock.lock();
-        try{
-            // 기존 포인트 양 조회
-            Long baseAmount = userPointTable.selectById(id).point();
-            if(baseAmount < amount) {
-                throw new IllegalArgumentException("사용하고자하는 포인트가 보유한 포인트보다 많습니다.");
-            }
-            long updateAmount = baseAmount - amount;
+        return defaultTimeout.isZero() || defaultTimeout.isNegative() ? PointDeadline.NONE : PointDeadline.after(defaultTimeout);
+    }
 
-            // 포인트 충전 내역 저장
-            PointHistory insertPoint = pointHistoryTable.insert(id, amount, USE, System.currentTimeMillis());
-            log.info("포인트 사용 완료 : " + insertPoint);
-            log.info("남은 포인트 : " + updateAmount);
+    private UserPoint execute(long id, TransactionType type, long amount, PointDeadline deadline) {
+        validateAmount(type, amount);
+        admit(id);
+        processor.checkDeadline(deadline, PointDeadline.Stage.QUEUE);
+        return writeStrategy.execute(id, type, amount, deadline);
+    }
 
-            return userPointTable.insertOrUpdate(id, updateAmount);
-        } finally {
-            lock.unlock();
+    @PreDestroy
+    public void shutdown() {
+        writeStrategy.close();
+        if (expiry != null) {
+            expiry.close();
         }
+        processor.close();
     }
 
     public List<PointHistory> selectPointHistory(Long userId) {
-        return pointHistoryTable.selectAllByUserId(userId);
+        return pointHistoryStore.selectAllByUserId(userId);
+    }
+
+    public PointHistoryPage selectPointHistoryPage(long userId, PointHistoryQuery query) {
+        return pointHistoryStore.selectPage(userId, query);
     }
-}
 
+    /**
+     * 누적 집계 조회 (내역을 다시 읽지 않는다)
+     */
+    public PointSummary summary(long id) {
+        return aggregates.summary(id);
+    }
+
+    /**
+     * 누적 집계를 전체 내역 재합산 결과와 비교
+     * - 비교 중 새 내역이 저장되면 다시 비교하고, 끝내 달라지지 않는 집계를 얻지 못하면 마지막 비교 결과를 반환
+     */
+    public PointSummaryCheck checkSummary(long id) {
+        PointSummaryCheck check = null;
+        for (int attempt = 0; attempt < SUMMARY_CHECK_ATTEMPTS; attempt++) {
+            long version = aggregates.version(id);
+            PointSummary recomputed = aggregates.recompute(id, pointHistoryStore);
+            PointSummary maintained = aggregates.summary(id);
+            check = new PointSummaryCheck(maintained.equals(recomputed), maintained, recomputed);
+            if (check.consistent() || aggregates.version(id) == version) {
+                break;
+            }
+        }
+        if (!check.consistent()) {
+            metrics.summaryMismatch();
+            log.warn("누적 집계 불일치 : " + check);
+        }
+        return check;
+    }
+
+    /**
+     * nowMillis 까지 만료 시각이 지난 충전분을 모두 만료 처리 (만료 주기를 기다리지 않고 바로 처리)
+     */
+    void expirePoints(long nowMillis) {
+        if (expiry != null) {
+            expiry.expire(nowMillis, this::expire);
+        }
+    }
+
+    /**
+     * 만료되지 않은 충전분 합계 (만료 기능을 사용하지 않으면 0)
+     */
+    long unexpiredPoint(long id) {
+        return expiry == null ? 0 : expiry.remaining(id);
+    }
+
+    /**
+     * 만료된 충전분을 잔고에서 차감하고 EXPIRE 내역으로 기록
+     * - 충전/사용과 같은 쓰기 방식(유저 락, 파티션 스레드, 잔고 버전 선점)으로 유저 단위 순차 실행을 보장한다
+     */
+    private void expire(long id, long nowMillis) {
+        writeStrategy.runExclusive(id, () -> expireDue(id, nowMillis));
+    }
+
+    private void expireDue(long id, long nowMillis) {
+        long due = expiry.due(id, nowMillis);
+        if (due == 0) {
+            return;
+        }
+        long baseAmount = processor.balance(id);
+        // 충전분보다 잔고가 적은 경우(잔고 복구 등)에는 남은 잔고까지만 만료
+        long expired = Math.min(due, baseAmount);
+        if (expired > 0) {
+            processor.awaitWritable(id, PointDeadline.NONE);
+            processor.write(id, EXPIRE, expired, baseAmount, PointPolicy.apply(EXPIRE, baseAmount, expired));
+            metrics.expired(expired);
+            log.info("만료 포인트 : " + expired + ", 남은 포인트 : " + (baseAmount - expired));
+        }
+        expiry.discardDue(id, nowMillis);
+    }
+
+    // 처리량 제한을 넘은 요청은 락을 기다리지 않고 바로 거절
+    private void admit(long id) {
+        if (rateLimiter != null) {
+            rateLimiter.acquire(id);
+        }
+    }
+
+    private void validateAmount(TransactionType type, long amount) {
+        try {
+            PointPolicy.validateAmount(type, amount);
+        } catch (IllegalArgumentException e) {
+            metrics.invalidAmount();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package io.hhplus.tdd.point.service;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PointServiceProperties.class)
+public class PointServiceConfig {
+}
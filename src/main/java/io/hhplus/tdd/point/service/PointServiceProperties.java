@@ -0,0 +1,55 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.lock.UserLockRegistry.LockRegistryType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+/**
+ * 포인트 서비스 설정 (point.service.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.service")
+public class PointServiceProperties {
+
+    private WriteMode writeMode = WriteMode.LOCK; // 충전/사용 처리 방식
+    private int groupCommitMaxBatch = 64;         // 그룹 커밋 시 한번에 처리할 최대 요청 수
+    private int partitions = 16;                  // PARTITIONED 방식의 파티션(전용 스레드) 수
+    private int optimisticMaxRetries = 3;         // OPTIMISTIC 방식에서 락으로 전환하기 전 최대 재시도 횟수
+    private int optimisticStripes = 4096;         // OPTIMISTIC 방식의 잔고 버전 개수
+    private int batchParallelism = 16;            // 일괄 처리 시 동시에 처리할 유저 수
+    private int lookupParallelism = 32;           // 여러 유저 잔고 조회 시 동시에 조회할 유저 수
+    private LockRegistryType lockRegistry = LockRegistryType.REF_COUNTED; // 유저 락 관리 방식
+    private int lockStripes = 1024;               // STRIPED 방식의 락 개수
+    private int lockMaxWaiters = 0;               // 유저 락별 최대 대기 요청 수, 초과 시 429 (0 : 제한 없음)
+    private double rateLimitPerUser = 0;          // 유저별 초당 충전/사용 허용 수, 초과 시 429 (0 : 제한 없음)
+    private int rateLimitPerUserBurst = 20;       // 유저별로 순간적으로 허용하는 최대 요청 수
+    private double rateLimitGlobal = 0;           // 전체 초당 충전/사용 허용 수, 초과 시 429 (0 : 제한 없음)
+    private int rateLimitGlobalBurst = 1000;      // 전체에서 순간적으로 허용하는 최대 요청 수
+    private int rateLimitMaxUsers = 100_000;      // 처리량 제한을 위해 보관할 최대 유저 버킷 수
+    private boolean parallelWrites = false;       // 내역 저장과 잔고 갱신을 동시에 수행
+    private int reactiveThreadCap = 64;           // WebFlux 모드에서 블로킹 호출을 실행할 최대 스레드 수
+    private int reactiveQueueCap = 10_000;        // WebFlux 모드에서 대기할 수 있는 최대 작업 수
+    private Duration idempotencyTtl = Duration.ofMinutes(10); // Idempotency-Key 결과를 보관하는 시간
+    private int idempotencyMaxSize = 100_000;     // 보관할 최대 Idempotency-Key 수
+    private Duration requestTimeout = Duration.ZERO; // X-Request-Timeout 헤더가 없는 충전/사용 요청의 처리 기한 (0 : 기한 없음)
+    private ZoneId summaryZone = ZoneId.of("Asia/Seoul"); // 누적 집계의 일자 기준 시간대
+    private int summaryRetentionDays = 90;        // 누적 집계에서 일자별 합계를 보관하는 일수
+    private Duration expireAfter = Duration.ZERO; // 충전 후 포인트가 만료되기까지의 기간 (0 : 만료 없음)
+    private Duration expiryTick = Duration.ofSeconds(1); // 만료 처리 주기 (만료 시각은 이 단위로 처리된다)
+
+    /**
+     * 충전/사용 처리 방식
+     * - LOCK : 요청마다 유저 락을 획득하여 순차 처리
+     * - GROUP_COMMIT : 같은 유저에게 대기중인 요청을 모아 한번의 조회/저장으로 순서대로 처리
+     * - PARTITIONED : userId 해시로 정해진 파티션의 전용 스레드가 락 없이 순서대로 처리
+     * - OPTIMISTIC : 락 없이 조회/검증 후 버전 compare-and-set 으로 갱신하고, 재시도가 반복되면 유저 락으로 처리
+     */
+    public enum WriteMode {
+        LOCK, GROUP_COMMIT, PARTITIONED, OPTIMISTIC
+    }
+}
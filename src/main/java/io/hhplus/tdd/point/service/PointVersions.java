@@ -0,0 +1,80 @@
+package io.hhplus.tdd.point.service;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 낙관적 갱신에 사용하는 잔고 버전 (seqlock 방식)
+ * - 짝수 : 갱신 중이 아님, 홀수 : 누군가 갱신 중
+ * - 조회 시점의 버전을 compare-and-set 으로 홀수로 바꾼 요청만 갱신할 수 있고, 갱신이 끝나면 다음 짝수로 바꾼다
+ * - 유저별로 버전을 보관하지 않고 고정 개수로 나누어 사용하므로 메모리가 유저 수와 무관하다
+ *   (같은 버전을 공유하는 유저끼리는 불필요한 재시도가 생길 수 있다)
+ * - 선점을 기다리는 요청이 있는 버전은 낙관적 갱신이 새로 갱신 권한을 얻지 못하므로, 선점 요청이 계속 밀리지 않는다
+ */
+class PointVersions {
+
+    private static final long CLAIM_WAIT_NANOS = 10_000;
+
+    private final AtomicLongArray versions;
+    private final AtomicIntegerArray exclusiveWaiters;
+    private final int mask;
+
+    PointVersions(int stripes) {
+        // 해시를 비트 연산으로 나누기 위해 2의 거듭제곱으로 맞춘다
+        int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.versions = new AtomicLongArray(size);
+        this.exclusiveWaiters = new AtomicIntegerArray(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 현재 버전 (갱신 중이거나 선점을 기다리는 요청이 있으면 -1)
+     */
+    long read(long id) {
+        int index = index(id);
+        long version = versions.get(index);
+        return (version & 1) == 0 && exclusiveWaiters.get(index) == 0 ? version : -1;
+    }
+
+    boolean isCurrent(long id, long version) {
+        return versions.get(index(id)) == version;
+    }
+
+    /**
+     * 조회 이후 다른 갱신이 없었던 경우에만 갱신 권한을 얻는다
+     */
+    boolean claim(long id, long version) {
+        int index = index(id);
+        return exclusiveWaiters.get(index) == 0 && versions.compareAndSet(index, version, version + 1);
+    }
+
+    /**
+     * 조회 시점과 무관하게 진행 중인 갱신이 끝나는 대로 갱신 권한을 얻고, 얻은 버전을 반환한다
+     * - 기다리는 동안 새 낙관적 갱신은 권한을 얻지 못하므로 이미 진행 중인 갱신만 기다린다
+     */
+    long claimExclusive(long id) {
+        int index = index(id);
+        exclusiveWaiters.incrementAndGet(index);
+        try {
+            while (true) {
+                long version = versions.get(index);
+                if ((version & 1) == 0 && versions.compareAndSet(index, version, version + 1)) {
+                    return version;
+                }
+                LockSupport.parkNanos(CLAIM_WAIT_NANOS);
+            }
+        } finally {
+            exclusiveWaiters.decrementAndGet(index);
+        }
+    }
+
+    void release(long id, long version) {
+        versions.set(index(id), version + 2);
+    }
+
+    private int index(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
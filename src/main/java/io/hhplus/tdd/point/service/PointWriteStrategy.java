@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 충전/사용/만료를 유저 단위로 순차 실행하는 쓰기 방식 (point.service.write-mode)
+ * - 금액 검증, 처리량 제한, 멱등성 처리는 PointService 가 먼저 수행하고, 쓰기 방식은 순서 보장과 처리만 담당한다
+ */
+interface PointWriteStrategy extends AutoCloseable {
+
+    /**
+     * 충전/사용 요청을 처리하고 갱신된 잔고를 반환
+     */
+    UserPoint execute(long id, TransactionType type, long amount, PointDeadline deadline);
+
+    /**
+     * 충전/사용과 같은 순서 보장 아래에서 작업을 실행 (만료 처리용)
+     */
+    void runExclusive(long id, Runnable task);
+
+    @Override
+    default void close() {
+    }
+
+    static PointWriteStrategy create(PointServiceProperties properties, PointProcessor processor, PointMetrics metrics) {
+        return switch (properties.getWriteMode()) {
+            case LOCK -> new LockWriteStrategy(processor);
+            case GROUP_COMMIT -> new GroupCommitWriteStrategy(processor, properties.getGroupCommitMaxBatch(), metrics);
+            case PARTITIONED -> new PartitionedWriteStrategy(processor, properties.getPartitions(), metrics);
+            case OPTIMISTIC -> new OptimisticWriteStrategy(processor, properties.getOptimisticStripes(),
+                    properties.getOptimisticMaxRetries(), metrics);
+        };
+    }
+}
@@ -0,0 +1,117 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.PointBatchRequest;
+import io.hhplus.tdd.point.PointBatchResult;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.PointSummaryCheck;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.history.PointHistoryQuery;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PointService 의 논블로킹 어댑터
+ * - 테이블 호출은 블로킹(sleep)이므로 이벤트 루프가 아닌 크기가 제한된 전용 스케줄러에서 실행
+ * - 내역 스트림은 커서 페이지 단위로 구독자의 요청(demand)만큼만 조회한다 (backpressure)
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePointService {
+
+    static final int PAGE_SIZE = 100;
+
+    private final PointService pointService;
+    private final PointBatchService pointBatchService;
+    private final PointLookupService pointLookupService;
+    private final Scheduler scheduler;
+
+    @Autowired
+    public ReactivePointService(PointService pointService, PointBatchService pointBatchService,
+                                PointLookupService pointLookupService, PointServiceProperties properties) {
+        this(pointService, pointBatchService, pointLookupService,
+                Schedulers.newBoundedElastic(properties.getReactiveThreadCap(), properties.getReactiveQueueCap(), "point-reactive"));
+    }
+
+    ReactivePointService(PointService pointService, PointBatchService pointBatchService,
+                         PointLookupService pointLookupService, Scheduler scheduler) {
+        this.pointService = pointService;
+        this.pointBatchService = pointBatchService;
+        this.pointLookupService = pointLookupService;
+        this.scheduler = scheduler;
+    }
+
+    public Mono<UserPoint> select(long id) {
+        return Mono.fromCallable(() -> pointService.select(id)).subscribeOn(scheduler);
+    }
+
+    public Mono<Map<Long, UserPoint>> select(List<Long> ids) {
+        return Mono.fromCallable(() -> pointLookupService.select(ids)).subscribeOn(scheduler);
+    }
+
+    /**
+     * 처리 기한은 스케줄러 대기 시간도 포함하도록 요청 시점에 정한다
+     */
+    public Mono<UserPoint> charge(long id, long amount, String idempotencyKey, Long timeoutMillis) {
+        PointDeadline deadline = pointService.deadline(timeoutMillis);
+        return Mono.fromCallable(() -> pointService.charge(id, amount, idempotencyKey, deadline)).subscribeOn(scheduler);
+    }
+
+    /**
+     * 처리 기한은 스케줄러 대기 시간도 포함하도록 요청 시점에 정한다
+     */
+    public Mono<UserPoint> use(long id, long amount, String idempotencyKey, Long timeoutMillis) {
+        PointDeadline deadline = pointService.deadline(timeoutMillis);
+        return Mono.fromCallable(() -> pointService.use(id, amount, idempotencyKey, deadline)).subscribeOn(scheduler);
+    }
+
+    /**
+     * 누적 집계는 메모리에서 바로 조회하므로 스케줄러로 넘기지 않는다
+     */
+    public Mono<PointSummary> summary(long id) {
+        return Mono.fromSupplier(() -> pointService.summary(id));
+    }
+
+    public Mono<PointSummaryCheck> checkSummary(long id) {
+        return Mono.fromCallable(() -> pointService.checkSummary(id)).subscribeOn(scheduler);
+    }
+
+    public Mono<PointHistoryPage> selectPointHistoryPage(long userId, PointHistoryQuery query) {
+        return Mono.fromCallable(() -> pointService.selectPointHistoryPage(userId, query)).subscribeOn(scheduler);
+    }
+
+    /**
+     * 유저의 전체 내역 스트림
+     * - 다음 페이지는 이전 페이지의 내역이 소비되어 추가 요청이 들어왔을 때 조회한다
+     */
+    public Flux<PointHistory> selectPointHistory(long userId) {
+        return selectPointHistoryPage(userId, new PointHistoryQuery(null, PAGE_SIZE, null, null, null))
+                .expand(page -> page.nextCursor() == null
+                        ? Mono.empty()
+                        : selectPointHistoryPage(userId, new PointHistoryQuery(page.nextCursor(), PAGE_SIZE, null, null, null)))
+                .concatMapIterable(PointHistoryPage::items, 1);
+    }
+
+    public Flux<PointHistory> selectPointHistories(List<Long> userIds) {
+        return Flux.fromIterable(userIds).concatMap(this::selectPointHistory);
+    }
+
+    public Mono<List<PointBatchResult>> batch(List<PointBatchRequest> requests) {
+        return Mono.fromCallable(() -> pointBatchService.process(requests)).subscribeOn(scheduler);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.dispose();
+    }
+}
@@ -0,0 +1,278 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 잔고를 메모리에서 제공하고 변경분은 비동기로 원본 저장소에 반영하는 write-behind 캐시
+ * - 캐시 크기는 maxSize 로 제한되며 가장 오래 사용되지 않은 유저부터 제거 (LRU)
+ * - ttl 이 지난 항목은 다시 원본 저장소에서 읽는다
+ * - 아직 반영되지 않은 변경분(pendingWrites)은 캐시에서 제거되더라도 flush 전까지 유지된다
+ * - 반영 대기 유저 수가 maxPending 에 도달하면 바로 flush 를 요청하고, 새 유저의 변경은 awaitWritable 에서 자리가 생길 때까지 호출자의 처리 기한만큼 대기시킨다
+ *   (이미 대기 중인 유저의 변경은 덮어쓰므로 대기하지 않는다)
+ * - insertOrUpdate 는 내역 저장 뒤에 호출되므로 대기하지 않으며, awaitWritable 을 동시에 통과한 쓰기만큼 maxPending 을 넘을 수 있다
+ */
+public class CachedUserPointStore implements UserPointStore {
+
+    private static final Logger log = LoggerFactory.getLogger(CachedUserPointStore.class);
+
+    private final UserPointStore delegate;
+    private final long ttlMillis;
+    private final Map<Long, CacheEntry> entries;
+    private final int maxPending;
+    // 조회는 락 없이 하고, 추가/제거는 pendingLock 을 잡고 수행하여 maxPending 을 지킨다
+    private final Map<Long, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+    private final ReentrantLock pendingLock = new ReentrantLock();
+    private final Condition pendingNotFull = pendingLock.newCondition();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final AtomicLong writeSequence = new AtomicLong();
+    private final ScheduledExecutorService flusher;
+
+    public CachedUserPointStore(UserPointStore delegate, UserPointCacheProperties properties) {
+        this.delegate = delegate;
+        this.ttlMillis = properties.getTtl().toMillis();
+        int maxSize = properties.getMaxSize();
+        this.maxPending = Math.max(1, properties.getMaxPending());
+        // accessOrder = true 로 설정하여 조회 순서 기준 LRU 로 동작
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CacheEntry> eldest) {
+                return size() > maxSize;
+            }
+        };
+        long flushMillis = properties.getFlushInterval().toMillis();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "user-point-cache-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            CacheEntry entry = entries.get(id);
+            if (entry != null) {
+                if (!entry.isExpired(now, ttlMillis)) {
+                    return entry.userPoint();
+                }
+                entries.remove(id);
+            }
+        }
+        // 캐시 미스 : 반영 대기중인 변경분 -> 원본 저장소 순서로 조회
+        long sequence = writeSequence.get();
+        PendingWrite pending = pendingWrites.get(id);
+        UserPoint userPoint = pending != null ? pending.userPoint() : delegate.selectById(id);
+        synchronized (entries) {
+            // 조회 도중 쓰기가 있었다면 오래된 값으로 캐시를 덮어쓰지 않도록 캐싱하지 않는다
+            if (writeSequence.get() == sequence) {
+                entries.putIfAbsent(id, new CacheEntry(userPoint, now));
+            }
+        }
+        return userPoint;
+    }
+
+    /**
+     * 만료되지 않은 캐시 항목 또는 반영 대기중인 변경분
+     */
+    @Override
+    public UserPoint selectCached(long id) {
+        synchronized (entries) {
+            CacheEntry entry = entries.get(id);
+            if (entry != null && !entry.isExpired(System.currentTimeMillis(), ttlMillis)) {
+                return entry.userPoint();
+            }
+        }
+        PendingWrite pending = pendingWrites.get(id);
+        return pending != null ? pending.userPoint() : null;
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        addPending(userPoint);
+        synchronized (entries) {
+            writeSequence.incrementAndGet();
+            entries.put(id, new CacheEntry(userPoint, userPoint.updateMillis()));
+        }
+        return userPoint;
+    }
+
+    /**
+     * 반영 대기 유저 수가 maxPending 보다 적어지거나 해당 유저의 변경분이 이미 대기 중일 때까지 최대 timeoutNanos 대기
+     */
+    @Override
+    public boolean awaitWritable(long id, long timeoutNanos) {
+        if (hasPendingSlot(id)) {
+            return true;
+        }
+        pendingLock.lock();
+        try {
+            long remainingNanos = timeoutNanos;
+            while (!hasPendingSlot(id)) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                requestFlush();
+                remainingNanos = pendingNotFull.awaitNanos(remainingNanos);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    /**
+     * 반영 대기 없이 원본 저장소에 바로 적재하고, 적재 전에 조회로 캐싱된 잔고는 버린다
+     */
+    @Override
+    public void load(List<UserPoint> userPoints) {
+        if (writeSequence.get() > 0) {
+            throw new IllegalStateException("이미 잔고가 저장된 저장소에는 잔고를 적재할 수 없습니다.");
+        }
+        delegate.load(userPoints);
+        synchronized (entries) {
+            userPoints.forEach(userPoint -> entries.remove(userPoint.id()));
+        }
+    }
+
+    /**
+     * 반영 대기중인 변경분을 원본 저장소에 기록
+     */
+    public void flush() {
+        for (Map.Entry<Long, PendingWrite> pending : pendingWrites.entrySet()) {
+            PendingWrite write = pending.getValue();
+            delegate.insertOrUpdate(write.userPoint().id(), write.userPoint().point());
+            // 기록하는 사이 새로운 변경분이 들어왔다면 다음 flush 에서 반영
+            removePending(pending.getKey(), write);
+        }
+        // 덮어쓰기로 남은 변경분 때문에 자리가 나지 않았더라도 대기 중인 요청이 다시 flush 를 요청하도록 깨운다
+        signalPendingNotFull();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public int pendingSize() {
+        return pendingWrites.size();
+    }
+
+    /**
+     * 가장 오래 반영되지 않은 변경분이 대기한 시간(ms), 대기 중인 변경분이 없으면 0
+     */
+    public long flushLagMillis() {
+        long oldest = Long.MAX_VALUE;
+        for (PendingWrite pending : pendingWrites.values()) {
+            oldest = Math.min(oldest, pending.pendingSince());
+        }
+        return oldest == Long.MAX_VALUE ? 0 : Math.max(0, System.currentTimeMillis() - oldest);
+    }
+
+    private boolean hasPendingSlot(long id) {
+        return pendingWrites.size() < maxPending || pendingWrites.containsKey(id);
+    }
+
+    // 자리 확인은 awaitWritable 에서 끝났으므로 대기하지 않고, 한도에 도달하면 바로 flush 를 요청
+    private void addPending(UserPoint userPoint) {
+        pendingLock.lock();
+        try {
+            PendingWrite previous = pendingWrites.get(userPoint.id());
+            // 덮어써도 처음 대기를 시작한 시점은 유지하여 flush 지연을 그대로 보여준다
+            long pendingSince = previous != null ? previous.pendingSince() : userPoint.updateMillis();
+            pendingWrites.put(userPoint.id(), new PendingWrite(userPoint, pendingSince));
+        } finally {
+            pendingLock.unlock();
+        }
+        if (pendingWrites.size() >= maxPending) {
+            requestFlush();
+        }
+    }
+
+    private void removePending(long id, PendingWrite write) {
+        pendingLock.lock();
+        try {
+            if (pendingWrites.remove(id, write)) {
+                pendingNotFull.signalAll();
+            }
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    private void signalPendingNotFull() {
+        pendingLock.lock();
+        try {
+            pendingNotFull.signalAll();
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    // 이미 요청된 flush 가 시작되기 전이면 다시 요청하지 않는다
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flusher.execute(() -> {
+                flushRequested.set(false);
+                flushQuietly();
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중에는 close 의 flush 가 남은 변경분을 반영한다
+            flushRequested.set(false);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("포인트 캐시 flush 실패", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 전 남은 변경분을 모두 반영하여 원본 저장소를 최신 상태로 유지
+        flush();
+        delegate.close();
+    }
+
+    private record PendingWrite(UserPoint userPoint, long pendingSince) {
+    }
+
+    private record CacheEntry(UserPoint userPoint, long cachedAt) {
+        boolean isExpired(long now, long ttlMillis) {
+            return now - cachedAt >= ttlMillis;
+        }
+    }
+}
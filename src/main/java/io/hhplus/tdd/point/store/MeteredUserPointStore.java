@@ -0,0 +1,76 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔고 저장소 호출 시간을 기록하는 저장소 (point.store.calls)
+ */
+public class MeteredUserPointStore implements UserPointStore {
+
+    private final UserPointStore delegate;
+    private final Timer selectTimer;
+    private final Timer updateTimer;
+
+    public MeteredUserPointStore(UserPointStore delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.selectTimer = timer(registry, "select");
+        this.updateTimer = timer(registry, "insert_or_update");
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        long start = System.nanoTime();
+        try {
+            return delegate.selectById(id);
+        } finally {
+            selectTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public UserPoint selectCached(long id) {
+        return delegate.selectCached(id);
+    }
+
+    @Override
+    public boolean awaitWritable(long id, long timeoutNanos) {
+        return delegate.awaitWritable(id, timeoutNanos);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        long start = System.nanoTime();
+        try {
+            return delegate.insertOrUpdate(id, amount);
+        } finally {
+            updateTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 일괄 적재는 테이블을 거치지 않으므로 호출 시간을 기록하지 않는다
+     */
+    @Override
+    public void load(List<UserPoint> userPoints) {
+        delegate.load(userPoints);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private static Timer timer(MeterRegistry registry, String operation) {
+        return Timer.builder("point.store.calls")
+                .description("포인트 테이블 호출 시간")
+                .tag("store", "user_point")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -0,0 +1,263 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 잔고를 힙 밖(direct ByteBuffer)의 open addressing 해시 테이블에 저장하는 저장소
+ * - 유저 한명당 24 byte 슬롯 (key, point, updateMillis) 만 사용하며, Long 키와 UserPoint 객체를 보관하지 않아 GC 대상이 없다
+ * - 충돌은 선형 탐사(linear probing)로 처리하고, 사용률이 75% 를 넘으면 두 배 크기의 버퍼로 옮긴다
+ * - 유저 id 해시로 나눈 분할(segment)마다 락과 버퍼를 가지며, 조회는 StampedLock 의 낙관적 읽기로 락 없이 수행
+ * - UserPointTable 과 같이 없는 유저는 0 포인트로 조회된다
+ */
+public class OffHeapUserPointStore implements UserPointStore {
+
+    static final int SLOT_BYTES = 24;
+    // ByteBuffer 는 int 로 색인하므로 분할 하나의 버퍼는 2GB 를 넘을 수 없다 (2^26 * 24 = 1.5GB)
+    private static final int MAX_SEGMENT_SLOTS = 1 << 26;
+    private static final int MIN_SEGMENT_SLOTS = 16;
+
+    private final Segment[] segments;
+    private final int segmentMask;
+    private volatile boolean updated;
+
+    public OffHeapUserPointStore(UserPointStoreProperties properties) {
+        this(properties.getSegments(), properties.getInitialCapacity());
+    }
+
+    public OffHeapUserPointStore(int segments, long initialCapacity) {
+        int segmentCount = (int) powerOfTwo(segments);
+        // 초기 유저 수를 사용률 75% 이하로 담을 수 있는 크기
+        long perSegment = (long) Math.ceil(initialCapacity / (double) segmentCount / 0.75);
+        int slots = (int) Math.min(MAX_SEGMENT_SLOTS, Math.max(MIN_SEGMENT_SLOTS, powerOfTwo(perSegment)));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            this.segments[i] = new Segment(slots);
+        }
+        this.segmentMask = segmentCount - 1;
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        long hash = hash(id);
+        UserPoint userPoint = segment(hash).get(id, hash);
+        return userPoint == null ? UserPoint.empty(id) : userPoint;
+    }
+
+    /**
+     * 모든 잔고를 메모리에 보관하므로 조회와 같다
+     */
+    @Override
+    public UserPoint selectCached(long id) {
+        return selectById(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        updated = true;
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        long hash = hash(id);
+        segment(hash).put(id, hash, amount, userPoint.updateMillis());
+        return userPoint;
+    }
+
+    @Override
+    public synchronized void load(List<UserPoint> userPoints) {
+        if (updated) {
+            throw new IllegalStateException("이미 잔고가 저장된 저장소에는 잔고를 적재할 수 없습니다.");
+        }
+        for (UserPoint userPoint : userPoints) {
+            long hash = hash(userPoint.id());
+            segment(hash).put(userPoint.id(), hash, userPoint.point(), userPoint.updateMillis());
+        }
+    }
+
+    /**
+     * 저장된 유저 수
+     */
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * 힙 밖에 할당된 버퍼 크기 (byte)
+     */
+    public long offHeapBytes() {
+        long bytes = 0;
+        for (Segment segment : segments) {
+            bytes += segment.capacity() * (long) SLOT_BYTES;
+        }
+        return bytes;
+    }
+
+    private Segment segment(long hash) {
+        // 상위 32bit 로 분할을, 하위 bit 로 슬롯을 고른다
+        return segments[(int) (hash >>> 32) & segmentMask];
+    }
+
+    // n 이상인 가장 작은 2의 거듭제곱
+    private static long powerOfTwo(long n) {
+        return n <= 1 ? 1 : Long.highestOneBit(n - 1) << 1;
+    }
+
+    // murmur3 fmix64 : 연속된 유저 id 도 모든 bit 에 고르게 퍼지도록 섞는다
+    private static long hash(long id) {
+        long h = id;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // 버퍼는 0 으로 초기화되므로 key 를 id ^ Long.MIN_VALUE 로 저장하여 0 을 빈 슬롯으로 사용한다
+    private static long encodeKey(long id) {
+        return id ^ Long.MIN_VALUE;
+    }
+
+    private static final class Segment {
+
+        private final StampedLock lock = new StampedLock();
+        private volatile Slots slots;
+        // id 가 Long.MIN_VALUE 인 유저는 빈 슬롯 표시와 겹치므로 따로 보관
+        private volatile UserPoint minKeyPoint;
+        private int size;
+
+        Segment(int capacity) {
+            this.slots = new Slots(capacity);
+        }
+
+        UserPoint get(long id, long hash) {
+            if (id == Long.MIN_VALUE) {
+                return minKeyPoint;
+            }
+            long stamp = lock.tryOptimisticRead();
+            UserPoint userPoint = slots.find(id, hash);
+            if (lock.validate(stamp)) {
+                return userPoint;
+            }
+            // 읽는 도중 쓰기가 있었다면 읽기 락으로 다시 조회
+            stamp = lock.readLock();
+            try {
+                return slots.find(id, hash);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        void put(long id, long hash, long point, long updateMillis) {
+            if (id == Long.MIN_VALUE) {
+                minKeyPoint = new UserPoint(id, point, updateMillis);
+                return;
+            }
+            long stamp = lock.writeLock();
+            try {
+                if (slots.put(id, hash, point, updateMillis) && ++size > slots.capacity * 3L / 4) {
+                    resize();
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        int size() {
+            long stamp = lock.readLock();
+            try {
+                return size + (minKeyPoint == null ? 0 : 1);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        int capacity() {
+            return slots.capacity;
+        }
+
+        private void resize() {
+            Slots current = slots;
+            if (current.capacity >= MAX_SEGMENT_SLOTS) {
+                throw new IllegalStateException("잔고 저장소 분할의 최대 크기를 초과했습니다. segments 설정을 늘려야 합니다.");
+            }
+            Slots resized = new Slots(current.capacity << 1);
+            for (int slot = 0; slot < current.capacity; slot++) {
+                long key = current.key(slot);
+                if (key != 0) {
+                    long id = key ^ Long.MIN_VALUE;
+                    resized.put(id, hash(id), current.point(slot), current.updateMillis(slot));
+                }
+            }
+            slots = resized;
+        }
+    }
+
+    /**
+     * 한 분할의 슬롯 버퍼. 버퍼와 크기를 함께 교체하여 낙관적 읽기가 항상 일관된 쌍을 보도록 한다
+     */
+    private static final class Slots {
+
+        private final ByteBuffer buffer;
+        private final int capacity;
+        private final int mask;
+
+        Slots(int capacity) {
+            this.buffer = ByteBuffer.allocateDirect(capacity * SLOT_BYTES).order(ByteOrder.nativeOrder());
+            this.capacity = capacity;
+            this.mask = capacity - 1;
+        }
+
+        UserPoint find(long id, long hash) {
+            long key = encodeKey(id);
+            int slot = (int) hash & mask;
+            // 낙관적 읽기 도중 값이 바뀌어도 탐사가 끝나도록 최대 capacity 번만 확인
+            for (int probe = 0; probe < capacity; probe++) {
+                long stored = key(slot);
+                if (stored == 0) {
+                    return null;
+                }
+                if (stored == key) {
+                    return new UserPoint(id, point(slot), updateMillis(slot));
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        // 새 유저가 추가되었으면 true
+        boolean put(long id, long hash, long point, long updateMillis) {
+            long key = encodeKey(id);
+            int slot = (int) hash & mask;
+            while (true) {
+                long stored = key(slot);
+                if (stored == 0 || stored == key) {
+                    int offset = slot * SLOT_BYTES;
+                    buffer.putLong(offset + 8, point);
+                    buffer.putLong(offset + 16, updateMillis);
+                    buffer.putLong(offset, key);
+                    return stored == 0;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        long key(int slot) {
+            return buffer.getLong(slot * SLOT_BYTES);
+        }
+
+        long point(int slot) {
+            return buffer.getLong(slot * SLOT_BYTES + 8);
+        }
+
+        long updateMillis(int slot) {
+            return buffer.getLong(slot * SLOT_BYTES + 16);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * UserPointTable 을 그대로 사용하는 기본 저장소
+ * - 원장에서 적재한 잔고는 테이블 밖에 보관하고, 해당 유저의 잔고가 테이블에 저장되면 테이블 값을 사용한다
+ */
+public class TableUserPointStore implements UserPointStore {
+
+    private final UserPointTable userPointTable;
+    private final Map<Long, UserPoint> loaded = new ConcurrentHashMap<>();
+    private volatile boolean updated;
+
+    public TableUserPointStore(UserPointTable userPointTable) {
+        this.userPointTable = userPointTable;
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        UserPoint userPoint = loaded.get(id);
+        return userPoint != null ? userPoint : userPointTable.selectById(id);
+    }
+
+    /**
+     * 적재한 잔고는 테이블 조회 없이 제공한다
+     */
+    @Override
+    public UserPoint selectCached(long id) {
+        return loaded.get(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        updated = true;
+        UserPoint userPoint = userPointTable.insertOrUpdate(id, amount);
+        // 테이블에 저장한 뒤 제거하므로 조회는 적재한 잔고 또는 더 최신인 테이블 잔고를 본다
+        loaded.remove(id);
+        return userPoint;
+    }
+
+    @Override
+    public synchronized void load(List<UserPoint> userPoints) {
+        if (updated) {
+            throw new IllegalStateException("이미 잔고가 저장된 저장소에는 잔고를 적재할 수 없습니다.");
+        }
+        for (UserPoint userPoint : userPoints) {
+            loaded.put(userPoint.id(), userPoint);
+        }
+    }
+}
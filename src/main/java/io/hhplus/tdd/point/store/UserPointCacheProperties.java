@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.store;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 잔고 캐시 설정 (point.cache.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.cache")
+public class UserPointCacheProperties {
+
+    private boolean enabled = false;          // 캐시 사용 여부
+    private int maxSize = 10_000;             // 캐시에 유지할 최대 유저 수 (LRU)
+    private Duration ttl = Duration.ofMinutes(5);            // 캐시 항목 유지 시간
+    private Duration flushInterval = Duration.ofMillis(500); // 변경분을 테이블에 반영하는 주기
+    private int maxPending = 10_000;          // 반영 대기 최대 유저 수 (도달하면 바로 flush 하고 새 유저의 변경은 대기)
+}
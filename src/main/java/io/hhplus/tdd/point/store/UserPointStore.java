@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.List;
+
+/**
+ * 유저 포인트 잔고 저장소
+ * - UserPointTable 과 동일한 selectById / insertOrUpdate 계약을 가진다.
+ */
+public interface UserPointStore extends AutoCloseable {
+
+    UserPoint selectById(long id);
+
+    UserPoint insertOrUpdate(long id, long amount);
+
+    /**
+     * 원장 복구용 일괄 적재 : 잔고를 테이블 지연(throttle) 없이 메모리에만 적재한다
+     * - 이미 insertOrUpdate 로 저장된 잔고가 있으면 적재한 잔고가 더 최신 잔고를 가릴 수 있으므로 IllegalStateException
+     */
+    void load(List<UserPoint> userPoints);
+
+    /**
+     * 새 잔고 변경을 받을 수 있을 때까지 최대 timeoutNanos 대기 (시간 안에 자리가 나지 않거나 인터럽트되면 false)
+     * - 반영 대기 한도가 있는 저장소는 내역 저장 전에 이 메서드로 자리를 확인하고, insertOrUpdate 는 대기하지 않는다
+     */
+    default boolean awaitWritable(long id, long timeoutNanos) {
+        return true;
+    }
+
+    /**
+     * 원본 저장소를 거치지 않고 메모리에서 바로 제공할 수 있는 잔고 (없으면 null)
+     */
+    default UserPoint selectCached(long id) {
+        return null;
+    }
+
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.ledger.LedgerUserPointStore;
+import io.hhplus.tdd.point.ledger.PointLedgerSnapshotter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({UserPointCacheProperties.class, UserPointStoreProperties.class})
+public class UserPointStoreConfig {
+
+    @Bean
+    public UserPointStore userPointStore(UserPointTable userPointTable, UserPointStoreProperties storeProperties, UserPointCacheProperties cacheProperties,
+                                         ObjectProvider<PointLedgerSnapshotter> ledgerSnapshotter, MeterRegistry meterRegistry) {
+        UserPointStore userPointStore = baseStore(userPointTable, storeProperties, cacheProperties, meterRegistry);
+        // 원장 사용 시 기동 시점에 스냅샷과 원장 꼬리로 잔고를 복구하고, 캐시 여부와 관계없이 모든 갱신을 즉시 원장에 기록
+        PointLedgerSnapshotter snapshotter = ledgerSnapshotter.getIfAvailable();
+        return snapshotter == null ? userPointStore : LedgerUserPointStore.restore(userPointStore, snapshotter);
+    }
+
+    private UserPointStore baseStore(UserPointTable userPointTable, UserPointStoreProperties storeProperties,
+                                     UserPointCacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        UserPointStore sourceStore = switch (storeProperties.getStore()) {
+            case TABLE -> new TableUserPointStore(userPointTable);
+            case OFF_HEAP -> {
+                OffHeapUserPointStore offHeapStore = new OffHeapUserPointStore(storeProperties);
+                meterRegistry.gauge("point.balance.off_heap.bytes", offHeapStore, OffHeapUserPointStore::offHeapBytes);
+                meterRegistry.gauge("point.balance.users", offHeapStore, OffHeapUserPointStore::size);
+                yield offHeapStore;
+            }
+        };
+        // 테이블 호출 시간만 기록되도록 테이블 바로 앞에 계측을 둔다
+        UserPointStore tableStore = new MeteredUserPointStore(sourceStore, meterRegistry);
+        if (!cacheProperties.isEnabled()) {
+            return tableStore;
+        }
+        // 캐시 사용 시 UserPointTable 앞단에 write-behind 캐시를 둔다
+        CachedUserPointStore cachedStore = new CachedUserPointStore(tableStore, cacheProperties);
+        meterRegistry.gauge("point.cache.size", cachedStore, CachedUserPointStore::size);
+        meterRegistry.gauge("point.cache.pending", cachedStore, CachedUserPointStore::pendingSize);
+        meterRegistry.gauge("point.cache.flush.lag", cachedStore, CachedUserPointStore::flushLagMillis);
+        return cachedStore;
+    }
+}
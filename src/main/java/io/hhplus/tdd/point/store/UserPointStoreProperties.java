@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.store;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 잔고 저장소 설정 (point.balance.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.balance")
+public class UserPointStoreProperties {
+
+    private StoreType store = StoreType.TABLE;  // 잔고 저장소 종류
+    private int segments = 16;                   // off_heap 저장소의 분할 수 (분할마다 락과 버퍼를 가진다)
+    private long initialCapacity = 1 << 16;      // off_heap 저장소의 초기 유저 수 (부족하면 2배씩 늘린다)
+
+    public enum StoreType {
+        TABLE,      // UserPointTable (Long 키 HashMap + UserPoint 객체)
+        OFF_HEAP    // long 키 open addressing 해시 테이블을 direct ByteBuffer 에 저장
+    }
+}
@@ -2,6 +2,11 @@ package io.hhplus.tdd.point;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.history.PointHistoryQuery;
+import io.hhplus.tdd.point.service.PointBatchService;
+import io.hhplus.tdd.point.service.PointDeadline;
+import io.hhplus.tdd.point.service.PointHistoryExporter;
+import io.hhplus.tdd.point.service.PointLookupService;
 import io.hhplus.tdd.point.service.PointService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,15 +15,30 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
 
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
 import static io.hhplus.tdd.point.TransactionType.USE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = PointController.class)
@@ -36,6 +56,68 @@ class PointControllerTest {
     @MockBean
     private PointHistoryTable pointHistoryTable;
 
+    @MockBean
+    private PointHistoryExporter pointHistoryExporter;
+
+    @MockBean
+    private PointBatchService pointBatchService;
+
+    @MockBean
+    private PointLookupService pointLookupService;
+
+    @Test
+    @DisplayName("PATCH 처리량 제한을 넘은 충전 요청은 429 와 Retry-After 로 응답")
+    void chargeRateLimitedTest() throws Exception{
+        // Given
+        long id = 1L;
+        when(pointService.charge(eq(id), eq(100L), any(), any()))
+                .thenThrow(new TooManyRequestsException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", 1500L));
+
+        // When & Then
+        mockMvc.perform(patch("/point/{id}/charge", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("100"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.code").value("429"));
+    }
+
+    @Test
+    @DisplayName("PATCH X-Request-Timeout 헤더로 처리 기한을 전달하고, 기한이 지나면 504 로 응답")
+    void chargeDeadlineExceededTest() throws Exception{
+        // Given
+        long id = 1L;
+        PointDeadline deadline = PointDeadline.after(Duration.ofMillis(200));
+        when(pointService.deadline(200L)).thenReturn(deadline);
+        when(pointService.charge(id, 100L, null, deadline))
+                .thenThrow(new DeadlineExceededException("요청 처리 기한이 지났습니다."));
+
+        // When & Then
+        mockMvc.perform(patch("/point/{id}/charge", id)
+                        .header("X-Request-Timeout", "200")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("100"))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.code").value("504"))
+                .andExpect(jsonPath("$.message").value("요청 처리 기한이 지났습니다."));
+    }
+
+    @Test
+    @DisplayName("GET 여러 유저의 포인트 조회 요청 성공")
+    void selectPointsSuccessTest() throws Exception{
+        // Given
+        Map<Long, UserPoint> points = new LinkedHashMap<>();
+        points.put(2L, new UserPoint(2L, 200L, System.currentTimeMillis()));
+        points.put(1L, new UserPoint(1L, 100L, System.currentTimeMillis()));
+        when(pointLookupService.select(List.of(2L, 1L))).thenReturn(points);
+
+        // When & Then : 요청한 유저 순서대로 userId -> 포인트 형태로 응답
+        mockMvc.perform(get("/point").param("ids", "2,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.2.point").value(200L))
+                .andExpect(jsonPath("$.1.point").value(100L));
+    }
+
     @Test
     @DisplayName("GET 포인트 충전/이용 내역을 조회 요청 성공")
     void selectPointHistorySuccessTest() throws Exception{
@@ -56,6 +138,87 @@ class PointControllerTest {
                 .andExpect(jsonPath("$").isArray());
     }
 
+    @Test
+    @DisplayName("GET 포인트 누적 집계 조회 요청 성공")
+    void selectSummarySuccessTest() throws Exception{
+        // Given
+        long id = 1L;
+        PointSummary summary = new PointSummary(id, 300L, 100L, 0L, Map.of(CHARGE, 2L, USE, 1L),
+                List.of(new PointSummary.Daily(LocalDate.of(2024, 3, 1), 300L, 100L, 0L)));
+        when(pointService.summary(id)).thenReturn(summary);
+
+        // When & Then
+        mockMvc.perform(get("/point/{id}/summary", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCharged").value(300L))
+                .andExpect(jsonPath("$.totalUsed").value(100L))
+                .andExpect(jsonPath("$.counts.CHARGE").value(2L))
+                .andExpect(jsonPath("$.daily[0].date").value("2024-03-01"));
+    }
+
+    @Test
+    @DisplayName("GET 포인트 충전/이용 내역을 페이지 단위로 조회 요청 성공")
+    void selectPointHistoryPageSuccessTest() throws Exception{
+        // Given
+        long id = 1L;
+        PointHistoryPage page = new PointHistoryPage(
+                List.of(new PointHistory(3L, id, 100L, USE, System.currentTimeMillis())), 3L);
+        when(pointService.selectPointHistoryPage(eq(id), any(PointHistoryQuery.class))).thenReturn(page);
+
+        // When & Then : limit 파라미터가 있으면 페이지 형태로 응답
+        mockMvc.perform(get("/point/{id}/histories", id)
+                        .param("cursor", "2")
+                        .param("limit", "1")
+                        .param("type", "USE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isArray())
+                .andExpect(jsonPath("$.items[0].id").value(3L))
+                .andExpect(jsonPath("$.nextCursor").value(3L));
+    }
+
+    @Test
+    @DisplayName("GET 포인트 충전/이용 내역을 limit 없이 필터로 조회하면 기본 크기로 페이지 조회")
+    void selectPointHistoryPageWithoutLimitTest() throws Exception{
+        // Given
+        long id = 1L;
+        when(pointService.selectPointHistoryPage(eq(id), any(PointHistoryQuery.class)))
+                .thenReturn(new PointHistoryPage(List.of(), null));
+
+        // When
+        mockMvc.perform(get("/point/{id}/histories", id)
+                        .param("from", "1000")
+                        .param("type", "USE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isArray());
+
+        // Then : 전체 목록이 아닌 기본 크기의 페이지로 필터를 적용하여 조회
+        verify(pointService).selectPointHistoryPage(id, new PointHistoryQuery(null, PointHistoryQuery.DEFAULT_LIMIT, 1000L, null, USE));
+        verify(pointService, never()).selectPointHistory(anyLong());
+    }
+
+    @Test
+    @DisplayName("GET 포인트 충전/이용 내역 NDJSON 내보내기 요청 성공")
+    void exportPointHistorySuccessTest() throws Exception{
+        // Given
+        long id = 1L;
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"id\":1}\n{\"id\":2}\n".getBytes());
+            return null;
+        }).when(pointHistoryExporter).export(any(LongStream.class), any(OutputStream.class));
+
+        // When : 스트리밍 응답은 비동기로 처리되므로 asyncDispatch 로 결과 확인
+        MvcResult result = mockMvc.perform(get("/point/{id}/histories/export", id))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
     @Test
     @DisplayName("PATCH 포인트 사용 요청 성공")
     void usePointSuccessTest() throws Exception{
@@ -63,7 +226,7 @@ class PointControllerTest {
         long id = 1L;
         long amount = 50L;
         UserPoint mockUserPoint = new UserPoint(id, amount, System.currentTimeMillis());
-        when(pointService.use(anyLong(), anyLong())).thenReturn(mockUserPoint);
+        when(pointService.use(anyLong(), anyLong(), any(), any())).thenReturn(mockUserPoint);
         // 사용 포인트를 json 으로 변환
         String jsonContent = objectMapper.writeValueAsString(amount);
 
@@ -98,7 +261,7 @@ class PointControllerTest {
         Long id = 1L;
         Long amount = 50L;
         UserPoint mockUserPoint = new UserPoint(id, amount, System.currentTimeMillis());
-        when(pointService.charge(anyLong(), anyLong())).thenReturn(mockUserPoint);
+        when(pointService.charge(anyLong(), anyLong(), any(), any())).thenReturn(mockUserPoint);
         // 충전 포인트를 json 으로 변환
         String jsonContent = objectMapper.writeValueAsString(amount);
 
@@ -111,4 +274,46 @@ class PointControllerTest {
                 .andExpect(jsonPath("$.id").value(id))
                 .andExpect(jsonPath("$.point").value(amount));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("PATCH 포인트 충전 요청의 Idempotency-Key 헤더를 서비스에 전달")
+    void chargeWithIdempotencyKeyTest() throws Exception{
+        // Given
+        long id = 1L;
+        long amount = 50L;
+        when(pointService.charge(eq(id), eq(amount), eq("retry-key"), any())).thenReturn(new UserPoint(id, amount, System.currentTimeMillis()));
+
+        // When & Then
+        mockMvc.perform(patch("/point/{id}/charge", id)
+                        .header("Idempotency-Key", "retry-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(amount)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.point").value(amount));
+        verify(pointService).charge(eq(id), eq(amount), eq("retry-key"), any());
+    }
+
+    @Test
+    @DisplayName("POST 포인트 일괄 충전/사용 요청 성공")
+    void batchSuccessTest() throws Exception{
+        // Given
+        List<PointBatchRequest> requests = List.of(
+                new PointBatchRequest(1L, CHARGE, 100L),
+                new PointBatchRequest(1L, USE, 500L)
+        );
+        when(pointBatchService.process(anyList())).thenReturn(List.of(
+                PointBatchResult.success(requests.get(0), new UserPoint(1L, 100L, System.currentTimeMillis())),
+                PointBatchResult.failure(requests.get(1), "사용하고자하는 포인트가 보유한 포인트보다 많습니다.")
+        ));
+
+        // When & Then : 건별 결과를 요청 순서대로 반환
+        mockMvc.perform(post("/point/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].success").value(true))
+                .andExpect(jsonPath("$[0].userPoint.point").value(100L))
+                .andExpect(jsonPath("$[1].success").value(false))
+                .andExpect(jsonPath("$[1].error").value("사용하고자하는 포인트가 보유한 포인트보다 많습니다."));
+    }
+}
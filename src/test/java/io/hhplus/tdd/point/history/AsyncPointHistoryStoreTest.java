@@ -0,0 +1,276 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class AsyncPointHistoryStoreTest {
+
+    private PointHistoryStore delegate;
+    private SimpleMeterRegistry registry;
+    private AsyncPointHistoryStore historyStore;
+
+    @BeforeEach
+    void setUp() {
+        delegate = spy(new IndexedPointHistoryStore(new PointHistoryTable()));
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        historyStore.close();
+    }
+
+    @Test
+    @DisplayName("조회 시 대기 중인 내역을 먼저 저장하여 저장 순서대로 조회한다")
+    void flushBeforeSelect() {
+        // Given
+        historyStore = new AsyncPointHistoryStore(delegate, 16, 4, registry);
+        long now = System.currentTimeMillis();
+
+        // When
+        historyStore.insert(1L, 100L, CHARGE, now);
+        historyStore.insert(2L, 200L, CHARGE, now);
+        historyStore.insert(1L, 30L, USE, now);
+        List<PointHistory> histories = historyStore.selectAllByUserId(1L);
+
+        // Then
+        assertThat(histories).extracting(PointHistory::amount).containsExactly(100L, 30L);
+        assertThat(histories).extracting(PointHistory::id).doesNotContain(0L);
+        assertThat(registry.get("point.history.async.drain.latency").timer().count()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("저장이 지연되어도 insert 는 버퍼에 기록만 하고 바로 반환한다")
+    void insertDoesNotWaitForDelegate() {
+        // Given : 위임 저장소가 막혀 있는 상황
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return invocation.callRealMethod();
+        }).when(delegate).insert(anyLong(), anyLong(), any(), anyLong());
+        historyStore = new AsyncPointHistoryStore(delegate, 16, 4, registry);
+
+        // When
+        PointHistory pointHistory = historyStore.insert(1L, 100L, CHARGE, System.currentTimeMillis());
+        historyStore.insert(1L, 50L, CHARGE, System.currentTimeMillis());
+
+        // Then : 위임 저장소가 발급할 id 를 미리 반환
+        assertThat(pointHistory.id()).isEqualTo(1L);
+        assertThat(historyStore.depth()).isEqualTo(2);
+        assertThat(registry.get("point.history.async.depth").gauge().value()).isEqualTo(2);
+        release.countDown();
+        assertThat(historyStore.selectAllByUserId(1L)).extracting(PointHistory::id).containsExactly(1L, 2L);
+        assertThat(historyStore.depth()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 내역이 없는 유저는 바로 반환하고, 대기 내역이 있는 유저는 앞선 다른 유저의 내역 저장까지 기다린다")
+    void flushWaitsForEarlierRows() throws Exception {
+        // Given : 유저 1 의 내역 저장이 막혀 있고, 그 뒤에 유저 2 의 내역이 대기 중인 상황
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            if (invocation.<Long>getArgument(0) == 1L) {
+                release.await();
+            }
+            return invocation.callRealMethod();
+        }).when(delegate).insert(anyLong(), anyLong(), any(), anyLong());
+        historyStore = new AsyncPointHistoryStore(delegate, 16, 4, registry);
+        historyStore.insert(1L, 100L, CHARGE, 0L);
+        historyStore.insert(2L, 200L, CHARGE, 0L);
+
+        // When
+        historyStore.flush(3L);
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(() -> historyStore.flush(2L));
+
+        // Then : 유저 2 의 flush 는 앞선 유저 1 의 내역이 저장될 때까지 끝나지 않는다
+        assertThat(flush).isNotDone();
+        Thread.sleep(100);
+        assertThat(flush).isNotDone();
+        release.countDown();
+        flush.get(5, TimeUnit.SECONDS);
+        assertThat(delegate.selectAllByUserId(1L)).hasSize(1);
+        assertThat(delegate.selectAllByUserId(2L)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 빈 자리가 생길 때까지 insert 가 대기한다")
+    void blockWhenBufferFull() throws Exception {
+        // Given : 버퍼 크기 2, 위임 저장소가 막혀 있는 상황
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return invocation.callRealMethod();
+        }).when(delegate).insert(anyLong(), anyLong(), any(), anyLong());
+        historyStore = new AsyncPointHistoryStore(delegate, 2, 4, registry);
+        historyStore.insert(1L, 1L, CHARGE, 0L);
+        historyStore.insert(1L, 2L, CHARGE, 0L);
+
+        // When
+        CompletableFuture<PointHistory> third = CompletableFuture.supplyAsync(() -> historyStore.insert(1L, 3L, CHARGE, 0L));
+
+        // Then
+        assertThat(third).isNotDone();
+        release.countDown();
+        third.get(5, TimeUnit.SECONDS);
+        assertThat(historyStore.selectAllByUserId(1L)).extracting(PointHistory::amount).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("버퍼에 쌓인 내역을 최대 묶음 크기만큼 insertAll 한번으로 저장한다")
+    void insertAllInBatches() throws InterruptedException {
+        // Given : 첫 저장이 막혀 있는 동안 내역이 쌓이는 상황
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return invocation.callRealMethod();
+        }).doCallRealMethod().when(delegate).insertAll(any());
+        historyStore = new AsyncPointHistoryStore(delegate, 16, 4, registry);
+        historyStore.insert(1L, 0L, CHARGE, 0L);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        for (int i = 1; i <= 8; i++) {
+            historyStore.insert(1L, i, CHARGE, 0L);
+        }
+        release.countDown();
+
+        // Then : 첫 묶음 이후 쌓인 8건은 4건씩 두번에 저장
+        assertThat(historyStore.selectAllByUserId(1L)).extracting(PointHistory::id).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+        verify(delegate, times(3)).insertAll(any());
+        assertThat(registry.get("point.history.async.batch").summary().max()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("종료 시 대기 중인 내역을 모두 저장한다")
+    void drainOnClose() {
+        // Given
+        historyStore = new AsyncPointHistoryStore(delegate, 16, 4, registry);
+        for (int i = 1; i <= 10; i++) {
+            historyStore.insert(1L, i, CHARGE, 0L);
+        }
+
+        // When
+        historyStore.close();
+
+        // Then
+        verify(delegate, times(10)).insert(anyLong(), anyLong(), any(), anyLong());
+        assertThat(delegate.selectAllByUserId(1L)).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("저장이 일시적으로 실패하면 다시 시도하여 저장한다")
+    void retryTransientFailure() {
+        // Given : 첫 저장만 실패하는 위임 저장소
+        doThrow(new IllegalStateException("일시적 실패")).doCallRealMethod()
+                .when(delegate).insert(anyLong(), anyLong(), any(), anyLong());
+        historyStore = new AsyncPointHistoryStore(delegate, 16, 4, registry);
+
+        // When
+        PointHistory pointHistory = historyStore.insert(1L, 100L, CHARGE, 0L);
+
+        // Then
+        assertThat(historyStore.selectAllByUserId(1L)).containsExactly(pointHistory);
+        assertThat(registry.get("point.history.async.failures").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장이 계속 실패하면 지연 상태가 되어 새 내역을 거부하고, 대기 내역이 없는 유저는 그대로 조회한다")
+    void stallWhileDelegateFails() throws InterruptedException {
+        // Given : 유저 2 의 내역을 저장한 뒤 위임 저장소가 실패하는 상황
+        AtomicBoolean broken = new AtomicBoolean();
+        doAnswer(invocation -> {
+            if (broken.get()) {
+                throw new IllegalStateException("저장 실패");
+            }
+            return invocation.callRealMethod();
+        }).when(delegate).insert(anyLong(), anyLong(), any(), anyLong());
+        historyStore = new AsyncPointHistoryStore(delegate, 16, 4, registry);
+        historyStore.insert(2L, 10L, CHARGE, 0L);
+        historyStore.flush(2L);
+        broken.set(true);
+
+        // When
+        historyStore.insert(1L, 50L, USE, 0L);
+        awaitStalled(true);
+
+        // Then : 실패한 내역 이후만 영향을 받는다
+        assertThat(registry.get("point.history.async.stalled").gauge().value()).isEqualTo(1);
+        assertThatThrownBy(() -> historyStore.insert(1L, 10L, CHARGE, 0L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("저장 실패");
+        assertThatThrownBy(() -> historyStore.selectAllByUserId(1L)).isInstanceOf(IllegalStateException.class);
+        assertThat(historyStore.selectAllByUserId(2L)).extracting(PointHistory::amount).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("위임 저장소가 복구되면 대기 내역을 이어서 저장하고 지연 상태를 해제한다")
+    void recoverAfterStall() throws InterruptedException {
+        // Given : 저장 지연 상태
+        AtomicBoolean broken = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            if (broken.get()) {
+                throw new IllegalStateException("저장 실패");
+            }
+            return invocation.callRealMethod();
+        }).when(delegate).insert(anyLong(), anyLong(), any(), anyLong());
+        historyStore = new AsyncPointHistoryStore(delegate, 16, 4, registry);
+        historyStore.insert(1L, 100L, CHARGE, 0L);
+        awaitStalled(true);
+
+        // When
+        broken.set(false);
+        awaitStalled(false);
+
+        // Then : 대기 내역이 유실되지 않고, 이후 내역도 이어지는 id 로 저장된다
+        assertThat(historyStore.selectAllByUserId(1L)).extracting(PointHistory::id).containsExactly(1L);
+        assertThat(historyStore.insert(1L, 30L, USE, 0L).id()).isEqualTo(2L);
+        assertThat(historyStore.selectAllByUserId(1L)).extracting(PointHistory::amount).containsExactly(100L, 30L);
+        assertThat(registry.get("point.history.async.failures").counter().count()).isZero();
+        assertThat(registry.get("point.history.async.stalled").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("위임 저장소가 발급한 id 가 어긋나면 이후 내역은 저장하지 않고 조회와 저장이 실패한다")
+    void failOnIdMismatch() {
+        // Given : 다른 곳에서 위임 저장소에 내역을 저장하여 id 가 밀린 상황
+        historyStore = new AsyncPointHistoryStore(delegate, 16, 4, registry);
+        delegate.insert(9L, 1L, CHARGE, 0L);
+
+        // When
+        historyStore.insert(1L, 50L, USE, 0L);
+
+        // Then
+        assertThatThrownBy(() -> historyStore.selectAllByUserId(1L)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> historyStore.insert(1L, 10L, CHARGE, 0L)).isInstanceOf(IllegalStateException.class);
+        assertThat(registry.get("point.history.async.failures").counter().count()).isEqualTo(1);
+    }
+
+    private void awaitStalled(boolean stalled) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (historyStore.isStalled() != stalled && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(historyStore.isStalled()).isEqualTo(stalled);
+    }
+}
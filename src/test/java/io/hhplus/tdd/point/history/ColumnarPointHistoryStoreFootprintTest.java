@@ -0,0 +1,87 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.fixture.UnthrottledPointHistoryTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.Reference;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내역 저장소 메모리 사용량 비교 (./gradlew footprintTest 로만 실행)
+ * - columnar 는 내역당 비용이 작지만 유저마다 고정 비용(객체 + 초기 용량 8건 배열)이 있으므로, 유저당 내역 수에 따라 결과가 달라진다
+ */
+@Tag("footprint")
+class ColumnarPointHistoryStoreFootprintTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnarPointHistoryStoreFootprintTest.class);
+
+    private static final int ROWS = 1_000_000;
+
+    @Test
+    @DisplayName("유저당 내역이 많으면 내역당 메모리 사용량이 내역 객체로 보관할 때(indexed)보다 몇 배 작다")
+    void memoryFootprintWithManyRowsPerUser() {
+        // Given : 유저 1000명, 유저당 내역 1000건
+        int users = 1_000;
+        long indexedBytes = measure(new IndexedPointHistoryStore(new UnthrottledPointHistoryTable()), users);
+
+        // When
+        ColumnarPointHistoryStore columnarStore = new ColumnarPointHistoryStore();
+        long columnarBytes = measure(columnarStore, users);
+        report(users, columnarBytes, indexedBytes);
+
+        // Then
+        ColumnarPointHistoryStore.ColumnStats stats = columnarStore.stats();
+        assertThat(stats.users()).isEqualTo(users);
+        assertThat(stats.rows()).isEqualTo(ROWS);
+        assertThat(columnarBytes * 3).isLessThan(indexedBytes);
+    }
+
+    @Test
+    @DisplayName("유저당 내역이 1건이면 유저별 고정 비용 때문에 indexed 보다 메모리를 더 사용한다")
+    void memoryFootprintWithFewRowsPerUser() {
+        // Given : 유저 100만명, 유저당 내역 1건
+        int users = ROWS;
+        long indexedBytes = measure(new IndexedPointHistoryStore(new UnthrottledPointHistoryTable()), users);
+
+        // When
+        ColumnarPointHistoryStore columnarStore = new ColumnarPointHistoryStore();
+        long columnarBytes = measure(columnarStore, users);
+        report(users, columnarBytes, indexedBytes);
+
+        // Then : 측정치(compressed oops)는 유저당 약 370 byte 로 indexed(약 190 byte)의 2배 정도이며, 추정치도 같은 수준이다
+        assertThat(columnarBytes).isGreaterThan(indexedBytes);
+        assertThat(columnarBytes / users).isLessThan(512);
+        assertThat(columnarStore.stats().estimatedBytes()).isBetween(columnarBytes / 2, columnarBytes * 2);
+    }
+
+    private static void report(int users, long columnarBytes, long indexedBytes) {
+        log.info("유저 {}명, 내역 {}건 - columnar : {}MB (내역당 {} byte), indexed : {}MB (내역당 {} byte)",
+                users, ROWS, columnarBytes >> 20, columnarBytes / ROWS, indexedBytes >> 20, indexedBytes / ROWS);
+    }
+
+    // 저장소를 채운 뒤 늘어난 힙 사용량
+    private static long measure(PointHistoryStore historyStore, int users) {
+        long heapBefore = usedHeap();
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < ROWS; i++) {
+            historyStore.insert(i % users + 1, 100L, i % 2 == 0 ? CHARGE : USE, now + i);
+        }
+        long heapBytes = usedHeap() - heapBefore;
+        // 측정이 끝나기 전에 저장소가 GC 되지 않도록 유지
+        Reference.reachabilityFence(historyStore);
+        return heapBytes;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
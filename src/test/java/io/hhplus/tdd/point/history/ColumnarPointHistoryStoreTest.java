@@ -0,0 +1,115 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColumnarPointHistoryStoreTest {
+
+    private ColumnarPointHistoryStore historyStore;
+
+    @BeforeEach
+    void setUp() {
+        historyStore = new ColumnarPointHistoryStore();
+    }
+
+    @Test
+    @DisplayName("1 부터 순서대로 id 를 발급하고 해당 유저의 내역만 저장 순서대로 조회한다")
+    void selectOnlyUserRows() {
+        long now = System.currentTimeMillis();
+        PointHistory first = historyStore.insert(1L, 100L, CHARGE, now);
+        historyStore.insert(2L, 200L, CHARGE, now);
+        PointHistory second = historyStore.insert(1L, 50L, USE, now + 1);
+
+        List<PointHistory> histories = historyStore.selectAllByUserId(1L);
+
+        assertThat(first.id()).isEqualTo(1L);
+        assertThat(histories).containsExactly(first, second);
+    }
+
+    @Test
+    @DisplayName("여러 내역을 한번에 저장하면 이어지는 id 를 순서대로 발급한다")
+    void insertAllInOrder() {
+        PointHistory first = historyStore.insert(1L, 100L, CHARGE, 0L);
+
+        List<PointHistory> stored = historyStore.insertAll(List.of(
+                new PointHistoryStore.NewHistory(2L, 200L, CHARGE, 1L),
+                new PointHistoryStore.NewHistory(1L, 50L, USE, 2L)));
+
+        assertThat(stored).extracting(PointHistory::id).containsExactly(2L, 3L);
+        assertThat(historyStore.lastId()).isEqualTo(3L);
+        assertThat(historyStore.selectAllByUserId(1L)).containsExactly(first, stored.get(1));
+        assertThat(historyStore.selectAllByUserId(2L)).containsExactly(stored.get(0));
+    }
+
+    @Test
+    @DisplayName("내역이 없는 유저는 빈 목록을 반환한다")
+    void selectUnknownUser() {
+        assertThat(historyStore.selectAllByUserId(99L)).isEmpty();
+        assertThat(historyStore.selectPage(99L, new PointHistoryQuery(null, 10, null, null, null)).items()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("int 범위를 벗어나는 금액과 시각도 그대로 조회된다")
+    void storeWideValues() {
+        PointHistory small = historyStore.insert(1L, 10L, CHARGE, 1_000L);
+        PointHistory wide = historyStore.insert(1L, Long.MAX_VALUE, USE, Long.MAX_VALUE);
+        PointHistory negative = historyStore.insert(1L, Long.MIN_VALUE, CHARGE, -1L);
+
+        assertThat(historyStore.selectAllByUserId(1L)).containsExactly(small, wide, negative);
+    }
+
+    @Test
+    @DisplayName("커서 기반으로 페이지를 나누어 조회한다")
+    void selectPagesByCursor() {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) {
+            historyStore.insert(1L, 10L, CHARGE, now);
+        }
+
+        PointHistoryPage first = historyStore.selectPage(1L, new PointHistoryQuery(null, 2, null, null, null));
+        PointHistoryPage second = historyStore.selectPage(1L, new PointHistoryQuery(first.nextCursor(), 2, null, null, null));
+        PointHistoryPage last = historyStore.selectPage(1L, new PointHistoryQuery(second.nextCursor(), 2, null, null, null));
+
+        assertThat(first.items()).extracting(PointHistory::id).containsExactly(1L, 2L);
+        assertThat(second.items()).extracting(PointHistory::id).containsExactly(3L, 4L);
+        assertThat(last.items()).extracting(PointHistory::id).containsExactly(5L);
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("기간과 트랜잭션 종류로 내역을 필터링한다")
+    void selectPageWithFilter() {
+        historyStore.insert(1L, 100L, CHARGE, 1_000L);
+        PointHistory use = historyStore.insert(1L, 10L, USE, 2_000L);
+        historyStore.insert(1L, 20L, USE, 3_000L);
+
+        PointHistoryPage page = historyStore.selectPage(1L, new PointHistoryQuery(null, 10, 1_500L, 3_000L, USE));
+
+        assertThat(page.items()).containsExactly(use);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("기간 조회는 from 이후의 내역부터 읽고 to 를 지나면 다음 커서 없이 끝난다")
+    void selectPagesInRange() {
+        for (int i = 1; i <= 10; i++) {
+            historyStore.insert(1L, 10L, CHARGE, i * 1_000L);
+        }
+
+        PointHistoryPage first = historyStore.selectPage(1L, new PointHistoryQuery(null, 2, 3_000L, 6_000L, null));
+        PointHistoryPage last = historyStore.selectPage(1L, new PointHistoryQuery(first.nextCursor(), 2, 3_000L, 6_000L, null));
+
+        assertThat(first.items()).extracting(PointHistory::updateMillis).containsExactly(3_000L, 4_000L);
+        assertThat(last.items()).extracting(PointHistory::updateMillis).containsExactly(5_000L);
+        assertThat(last.nextCursor()).isNull();
+    }
+}
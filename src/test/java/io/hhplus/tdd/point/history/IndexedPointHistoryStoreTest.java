@@ -0,0 +1,119 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class IndexedPointHistoryStoreTest {
+
+    private PointHistoryTable pointHistoryTable;
+    private IndexedPointHistoryStore historyStore;
+
+    @BeforeEach
+    void setUp() {
+        pointHistoryTable = spy(new PointHistoryTable());
+        historyStore = new IndexedPointHistoryStore(pointHistoryTable);
+    }
+
+    @Test
+    @DisplayName("유저별 인덱스로 해당 유저의 내역만 저장 순서대로 조회한다")
+    void selectOnlyUserRows() {
+        long now = System.currentTimeMillis();
+        PointHistory first = historyStore.insert(1L, 100L, CHARGE, now);
+        historyStore.insert(2L, 200L, CHARGE, now);
+        PointHistory second = historyStore.insert(1L, 50L, USE, now);
+
+        List<PointHistory> histories = historyStore.selectAllByUserId(1L);
+
+        assertThat(histories).containsExactly(first, second);
+        // 조회 시 테이블 전체를 탐색하지 않는다
+        verify(pointHistoryTable, never()).selectAllByUserId(anyLong());
+    }
+
+    @Test
+    @DisplayName("내역이 없는 유저는 빈 목록을 반환한다")
+    void selectUnknownUser() {
+        assertThat(historyStore.selectAllByUserId(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인덱스의 유저 수, 내역 수와 추가 메모리 사용량을 보고한다")
+    void reportIndexStats() {
+        long now = System.currentTimeMillis();
+        historyStore.insert(1L, 100L, CHARGE, now);
+        historyStore.insert(1L, 100L, CHARGE, now);
+        historyStore.insert(2L, 100L, CHARGE, now);
+
+        IndexedPointHistoryStore.IndexStats stats = historyStore.stats();
+
+        assertThat(stats.users()).isEqualTo(2);
+        assertThat(stats.rows()).isEqualTo(3);
+        assertThat(stats.estimatedBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("커서 기반으로 페이지를 나누어 조회한다")
+    void selectPagesByCursor() {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) {
+            historyStore.insert(1L, 10L, CHARGE, now);
+        }
+
+        PointHistoryPage first = historyStore.selectPage(1L, new PointHistoryQuery(null, 2, null, null, null));
+        PointHistoryPage second = historyStore.selectPage(1L, new PointHistoryQuery(first.nextCursor(), 2, null, null, null));
+        PointHistoryPage last = historyStore.selectPage(1L, new PointHistoryQuery(second.nextCursor(), 2, null, null, null));
+
+        assertThat(first.items()).hasSize(2);
+        assertThat(second.items()).hasSize(2);
+        assertThat(last.items()).hasSize(1);
+        assertThat(last.nextCursor()).isNull();
+        assertThat(second.items().get(0).id()).isGreaterThan(first.nextCursor());
+    }
+
+    @Test
+    @DisplayName("기간과 트랜잭션 종류로 내역을 필터링한다")
+    void selectPageWithFilter() {
+        historyStore.insert(1L, 100L, CHARGE, 1_000L);
+        PointHistory use = historyStore.insert(1L, 10L, USE, 2_000L);
+        historyStore.insert(1L, 20L, USE, 3_000L);
+
+        PointHistoryPage page = historyStore.selectPage(1L, new PointHistoryQuery(null, 10, 1_500L, 3_000L, USE));
+
+        assertThat(page.items()).containsExactly(use);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("기간 조회는 from 이후의 내역부터 읽고 to 를 지나면 다음 커서 없이 끝난다")
+    void selectPagesInRange() {
+        for (int i = 1; i <= 10; i++) {
+            historyStore.insert(1L, 10L, CHARGE, i * 1_000L);
+        }
+
+        PointHistoryPage first = historyStore.selectPage(1L, new PointHistoryQuery(null, 2, 3_000L, 6_000L, null));
+        PointHistoryPage last = historyStore.selectPage(1L, new PointHistoryQuery(first.nextCursor(), 2, 3_000L, 6_000L, null));
+
+        assertThat(first.items()).extracting(PointHistory::updateMillis).containsExactly(3_000L, 4_000L);
+        assertThat(last.items()).extracting(PointHistory::updateMillis).containsExactly(5_000L);
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 범위를 벗어나면 예외가 발생한다")
+    void invalidLimit() {
+        assertThatThrownBy(() -> new PointHistoryQuery(null, 0, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
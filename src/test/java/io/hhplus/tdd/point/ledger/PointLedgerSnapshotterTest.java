@@ -0,0 +1,132 @@
+package io.hhplus.tdd.point.ledger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointLedgerSnapshotterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("스냅샷 이후의 원장 꼬리만 재생하여 잔고를 복구한다")
+    void recoverFromSnapshotAndTail() {
+        // 비정상 종료를 가정하여 종료 시 스냅샷을 기록하지 않도록 snapshotter 는 닫지 않는다
+        try (PointLedger ledger = open()) {
+            PointLedgerSnapshotter snapshotter = new PointLedgerSnapshotter(ledger, 0);
+            ledger.append(LedgerRecord.history(1L, 1L, 100L, CHARGE, 1L));
+            ledger.append(LedgerRecord.balance(1L, 100L, 1L));
+            ledger.append(LedgerRecord.balance(2L, 50L, 1L));
+            assertThat(snapshotter.snapshot()).isPositive();
+            // 스냅샷 이후 기록
+            ledger.append(LedgerRecord.balance(1L, 70L, 2L));
+            ledger.append(LedgerRecord.balance(3L, 10L, 2L));
+        }
+
+        try (PointLedger ledger = open(); PointLedgerSnapshotter snapshotter = new PointLedgerSnapshotter(ledger, 0)) {
+            assertThat(recoverBalances(snapshotter)).isEqualTo(Map.of(1L, 70L, 2L, 50L, 3L, 10L));
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷에는 잔고와 함께 마지막 내역 id, 내역 이미지 길이, 원장 위치가 기록된다")
+    void snapshotContents() throws IOException {
+        try (PointLedger ledger = open(); PointLedgerSnapshotter snapshotter = new PointLedgerSnapshotter(ledger, 0)) {
+            ledger.append(LedgerRecord.history(7L, 1L, 100L, CHARGE, 1L));
+            ledger.append(LedgerRecord.balance(1L, 100L, 1L));
+            snapshotter.snapshot();
+
+            BalanceSnapshot snapshot = BalanceSnapshot.read(directory.resolve(PointLedgerSnapshotter.SNAPSHOT_FILE));
+            assertThat(snapshot.lastHistoryId()).isEqualTo(7L);
+            assertThat(snapshot.historyBytes()).isEqualTo(PointLedger.RECORD_BYTES);
+            assertThat(snapshot.position()).isEqualTo(ledger.position());
+            assertThat(snapshot.balances()).isEqualTo(Map.of(1L, 100L));
+        }
+    }
+
+    @Test
+    @DisplayName("손상된 스냅샷은 무시하고 원장 처음부터 재생한다")
+    void ignoreCorruptedSnapshot() throws IOException {
+        Path snapshotPath = directory.resolve(PointLedgerSnapshotter.SNAPSHOT_FILE);
+        try (PointLedger ledger = open(); PointLedgerSnapshotter snapshotter = new PointLedgerSnapshotter(ledger, 0)) {
+            ledger.append(LedgerRecord.balance(1L, 100L, 1L));
+        }
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        bytes[bytes.length - 20] ^= 0x7F;
+        Files.write(snapshotPath, bytes);
+
+        try (PointLedger ledger = open(); PointLedgerSnapshotter snapshotter = new PointLedgerSnapshotter(ledger, 0)) {
+            assertThat(recoverBalances(snapshotter)).isEqualTo(Map.of(1L, 100L));
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷에 반영된 세그먼트는 삭제하고, 내역은 내역 이미지와 이후 원장 꼬리로 복구한다")
+    void recoverHistoriesAfterDeletingSegments() throws IOException {
+        // 세그먼트당 레코드 2건
+        try (PointLedger ledger = open(PointLedger.RECORD_BYTES * 2)) {
+            PointLedgerSnapshotter snapshotter = new PointLedgerSnapshotter(ledger, 0);
+            for (long id = 1; id <= 5; id++) {
+                ledger.append(LedgerRecord.history(id, 1L, id * 10, CHARGE, id));
+            }
+            snapshotter.snapshot();
+            ledger.append(LedgerRecord.history(6L, 1L, 60L, CHARGE, 6L));
+            ledger.append(LedgerRecord.history(7L, 1L, 70L, CHARGE, 7L));
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.map(path -> path.getFileName().toString()).filter(name -> name.endsWith(".wal")))
+                    .containsExactlyInAnyOrder("ledger-00000003.wal", "ledger-00000004.wal");
+        }
+        try (PointLedger ledger = open(PointLedger.RECORD_BYTES * 2);
+             PointLedgerSnapshotter snapshotter = new PointLedgerSnapshotter(ledger, 0)) {
+            List<LedgerRecord> histories = new ArrayList<>();
+            snapshotter.recoverHistories(histories::add);
+            assertThat(histories).extracting(LedgerRecord::id).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        }
+    }
+
+    @Test
+    @DisplayName("앞 세그먼트가 삭제된 뒤 스냅샷이 손상되면 복구할 수 없으므로 기동하지 않는다")
+    void failWithoutSnapshotAfterDeletingSegments() throws IOException {
+        try (PointLedger ledger = open(PointLedger.RECORD_BYTES * 2);
+             PointLedgerSnapshotter snapshotter = new PointLedgerSnapshotter(ledger, 0)) {
+            for (long id = 1; id <= 5; id++) {
+                ledger.append(LedgerRecord.history(id, 1L, id * 10, CHARGE, id));
+            }
+        }
+        Files.write(directory.resolve(PointLedgerSnapshotter.SNAPSHOT_FILE), new byte[]{1, 2, 3});
+
+        try (PointLedger ledger = open(PointLedger.RECORD_BYTES * 2)) {
+            assertThatThrownBy(() -> new PointLedgerSnapshotter(ledger, 0)).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private PointLedger open() {
+        return open(PointLedger.RECORD_BYTES * 100);
+    }
+
+    private PointLedger open(int segmentBytes) {
+        return new PointLedger(directory, segmentBytes, 10, 256);
+    }
+
+    private static Map<Long, Long> recoverBalances(PointLedgerSnapshotter snapshotter) {
+        Map<Long, Long> balances = new HashMap<>();
+        snapshotter.recoverBalances(chunk -> chunk.forEach(userPoint -> balances.put(userPoint.id(), userPoint.point())));
+        return balances;
+    }
+}
@@ -0,0 +1,202 @@
+package io.hhplus.tdd.point.ledger;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.history.ColumnarPointHistoryStore;
+import io.hhplus.tdd.point.history.PointHistoryStore;
+import io.hhplus.tdd.point.history.TablePointHistoryStore;
+import io.hhplus.tdd.point.store.TableUserPointStore;
+import io.hhplus.tdd.point.store.UserPointStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PointLedgerTest {
+
+    private static final int RECORD = PointLedger.RECORD_BYTES;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("원장을 다시 열면 기록된 레코드를 기록 순서대로 읽는다")
+    void replayAfterReopen() {
+        try (PointLedger ledger = open(RECORD * 100)) {
+            ledger.append(LedgerRecord.history(1L, 1L, 100L, CHARGE, 10L));
+            ledger.append(LedgerRecord.balance(1L, 100L, 11L));
+            ledger.append(LedgerRecord.history(2L, 1L, 30L, USE, 12L));
+        }
+
+        try (PointLedger ledger = open(RECORD * 100)) {
+            assertThat(replay(ledger)).containsExactly(
+                    LedgerRecord.history(1L, 1L, 100L, CHARGE, 10L),
+                    LedgerRecord.balance(1L, 100L, 11L),
+                    LedgerRecord.history(2L, 1L, 30L, USE, 12L));
+        }
+    }
+
+    @Test
+    @DisplayName("세그먼트가 가득 차면 다음 세그먼트에 이어서 기록한다")
+    void rollSegments() throws IOException {
+        try (PointLedger ledger = open(RECORD * 3)) {
+            for (long i = 1; i <= 7; i++) {
+                ledger.append(LedgerRecord.balance(i, i * 10, i));
+            }
+        }
+
+        try (Stream<Path> files = Files.list(directory); PointLedger ledger = open(RECORD * 3)) {
+            assertThat(files.count()).isEqualTo(3);
+            assertThat(replay(ledger)).extracting(LedgerRecord::userId).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        }
+    }
+
+    @Test
+    @DisplayName("깨진 마지막 레코드는 버리고 그 위치부터 다시 기록한다")
+    void truncateTornTail() throws IOException {
+        try (PointLedger ledger = open(RECORD * 100)) {
+            for (long i = 1; i <= 3; i++) {
+                ledger.append(LedgerRecord.balance(i, i * 10, i));
+            }
+        }
+        // 세번째 레코드의 잔고 값 일부를 손상
+        try (FileChannel channel = FileChannel.open(directory.resolve("ledger-00000001.wal"), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), RECORD * 2L + 24);
+        }
+
+        try (PointLedger ledger = open(RECORD * 100)) {
+            assertThat(replay(ledger)).extracting(LedgerRecord::userId).containsExactly(1L, 2L);
+            ledger.append(LedgerRecord.balance(9L, 90L, 9L));
+        }
+        try (PointLedger ledger = open(RECORD * 100)) {
+            assertThat(replay(ledger)).extracting(LedgerRecord::userId).containsExactly(1L, 2L, 9L);
+        }
+    }
+
+    @Test
+    @DisplayName("잔고는 유저별 마지막 기록으로, 내역은 원장의 id 그대로 복구하고 이후 id 는 그 다음부터 발급한다")
+    void restoreStores() {
+        try (PointLedger ledger = open(RECORD * 100)) {
+            ledger.append(LedgerRecord.history(1L, 1L, 100L, CHARGE, 10L));
+            ledger.append(LedgerRecord.balance(1L, 100L, 10L));
+            ledger.append(LedgerRecord.history(2L, 2L, 50L, CHARGE, 11L));
+            ledger.append(LedgerRecord.balance(2L, 50L, 11L));
+            ledger.append(LedgerRecord.history(3L, 1L, 40L, USE, 12L));
+            ledger.append(LedgerRecord.balance(1L, 60L, 12L));
+        }
+        UserPointStore userPointStore = new TableUserPointStore(new UserPointTable());
+        PointHistoryStore historyStore = new ColumnarPointHistoryStore();
+
+        PointHistory next;
+        try (PointLedger ledger = open(RECORD * 100)) {
+            PointLedgerSnapshotter snapshotter = new PointLedgerSnapshotter(ledger, 0);
+            LedgerUserPointStore.restore(userPointStore, snapshotter);
+            next = LedgerPointHistoryStore.restore(historyStore, snapshotter).insert(2L, 10L, USE, 13L);
+        }
+
+        // 잔고는 테이블을 거치지 않고 적재되므로 테이블 조회 없이 제공된다
+        assertThat(userPointStore.selectCached(1L).point()).isEqualTo(60L);
+        assertThat(userPointStore.selectCached(2L).point()).isEqualTo(50L);
+        assertThat(historyStore.selectAllByUserId(1L)).containsExactly(
+                new PointHistory(1L, 1L, 100L, CHARGE, 10L),
+                new PointHistory(3L, 1L, 40L, USE, 12L));
+        assertThat(next.id()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("테이블 저장소도 지연 없이 원장의 id 그대로 복구하고, 테이블이 발급한 id 는 그 다음부터 이어진다")
+    void restoreTableStore() {
+        try (PointLedger ledger = open(RECORD * 100)) {
+            ledger.append(LedgerRecord.history(1L, 1L, 100L, CHARGE, 10L));
+            ledger.append(LedgerRecord.history(2L, 1L, 40L, USE, 12L));
+        }
+        PointHistoryStore historyStore = new TablePointHistoryStore(new PointHistoryTable());
+
+        try (PointLedger ledger = open(RECORD * 100)) {
+            LedgerPointHistoryStore.restore(historyStore, new PointLedgerSnapshotter(ledger, 0)).insert(1L, 10L, CHARGE, 13L);
+        }
+
+        assertThat(historyStore.selectAllByUserId(1L)).extracting(PointHistory::id).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("원장의 유저별 내역 id 가 기록 순서대로 증가하지 않으면 기동하지 않는다")
+    void failRestoreOnDivergedIds() {
+        try (PointLedger ledger = open(RECORD * 100)) {
+            ledger.append(LedgerRecord.history(2L, 1L, 100L, CHARGE, 10L));
+            ledger.append(LedgerRecord.history(2L, 1L, 40L, USE, 12L));
+        }
+
+        try (PointLedger ledger = open(RECORD * 100)) {
+            PointLedgerSnapshotter snapshotter = new PointLedgerSnapshotter(ledger, 0);
+            assertThatThrownBy(() -> LedgerPointHistoryStore.restore(new ColumnarPointHistoryStore(), snapshotter))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("이미 잔고가 저장된 저장소에는 원장 잔고를 적재하지 않는다")
+    void failBalanceLoadAfterUpdate() {
+        UserPointStore userPointStore = new TableUserPointStore(new UserPointTable());
+        userPointStore.insertOrUpdate(1L, 100L);
+
+        assertThatThrownBy(() -> userPointStore.load(List.of(new UserPoint(2L, 50L, 11L))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("이미 내역이 저장된 저장소에는 원장 내역을 적재하지 않는다")
+    void failLoadAfterInsert() {
+        PointHistoryStore historyStore = new ColumnarPointHistoryStore();
+        historyStore.insert(1L, 100L, CHARGE, 10L);
+
+        assertThatThrownBy(() -> historyStore.load(List.of(new PointHistory(1L, 2L, 50L, CHARGE, 11L))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("잔고 갱신과 내역 저장은 저장소 결과 그대로 원장에 기록된다")
+    void appendOnWrite() {
+        UserPointStore userPointStore = mock(UserPointStore.class);
+        when(userPointStore.insertOrUpdate(1L, 100L)).thenReturn(new UserPoint(1L, 100L, 20L));
+        PointHistoryStore historyStore = mock(PointHistoryStore.class);
+        when(historyStore.insert(1L, 100L, CHARGE, 20L)).thenReturn(new PointHistory(7L, 1L, 100L, CHARGE, 20L));
+
+        try (PointLedger ledger = open(RECORD * 100)) {
+            new LedgerPointHistoryStore(historyStore, ledger).insert(1L, 100L, CHARGE, 20L);
+            new LedgerUserPointStore(userPointStore, ledger).insertOrUpdate(1L, 100L);
+
+            assertThat(replay(ledger)).containsExactly(
+                    LedgerRecord.history(7L, 1L, 100L, CHARGE, 20L),
+                    LedgerRecord.balance(1L, 100L, 20L));
+        }
+    }
+
+    private PointLedger open(int segmentBytes) {
+        return new PointLedger(directory, segmentBytes, 10, 256);
+    }
+
+    private static List<LedgerRecord> replay(PointLedger ledger) {
+        List<LedgerRecord> records = new ArrayList<>();
+        ledger.replay(records::add);
+        return records;
+    }
+}
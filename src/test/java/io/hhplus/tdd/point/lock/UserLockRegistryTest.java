@@ -0,0 +1,146 @@
+package io.hhplus.tdd.point.lock;
+
+import io.hhplus.tdd.point.TooManyRequestsException;
+import io.hhplus.tdd.point.lock.UserLockRegistry.LockRegistryType;
+import io.hhplus.tdd.point.lock.UserLockRegistry.UserLock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserLockRegistryTest {
+
+    @Test
+    @DisplayName("REF_COUNTED : 사용이 끝난 락은 제거된다")
+    void refCountedReleasesIdleLocks() {
+        UserLockRegistry registry = new RefCountedUserLockRegistry();
+
+        UserLock first = registry.acquire(1L);
+        UserLock second = registry.acquire(2L);
+        assertThat(registry.size()).isEqualTo(2);
+
+        first.unlock();
+        second.unlock();
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("REF_COUNTED : 대기중인 스레드가 있으면 락을 제거하지 않는다")
+    void refCountedKeepsLockWhileWaiting() throws InterruptedException {
+        UserLockRegistry registry = new RefCountedUserLockRegistry();
+        UserLock held = registry.acquire(1L);
+        CountDownLatch acquired = new CountDownLatch(1);
+
+        Thread waiter = new Thread(() -> {
+            registry.acquire(1L).unlock();
+            acquired.countDown();
+        });
+        waiter.start();
+        Thread.sleep(50); // 대기 스레드가 락을 기다리도록 잠시 대기
+
+        held.unlock();
+        acquired.await();
+        waiter.join();
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("STRIPED : 유저 수와 관계없이 락 개수가 고정된다")
+    void stripedHasFixedSize() {
+        UserLockRegistry registry = new StripedUserLockRegistry(100);
+
+        for (long id = 1; id <= 10_000; id++) {
+            registry.acquire(id).unlock();
+        }
+
+        // 2의 거듭제곱으로 올림
+        assertThat(registry.size()).isEqualTo(128);
+    }
+
+    @ParameterizedTest
+    @EnumSource(LockRegistryType.class)
+    @DisplayName("모든 방식에서 같은 유저의 작업은 한번에 하나씩만 수행된다")
+    void mutualExclusion(LockRegistryType type) throws InterruptedException {
+        UserLockRegistry registry = UserLockRegistry.create(type, 16);
+        int numberOfThreads = 50;
+        int incrementsPerThread = 1000;
+        long[] counter = new long[1];
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+        CountDownLatch latch = new CountDownLatch(numberOfThreads);
+
+        for (int i = 0; i < numberOfThreads; i++) {
+            executor.submit(() -> {
+                try {
+                    for (int j = 0; j < incrementsPerThread; j++) {
+                        UserLock lock = registry.acquire(1L);
+                        try {
+                            counter[0]++;
+                        } finally {
+                            lock.unlock();
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        assertThat(counter[0]).isEqualTo((long) numberOfThreads * incrementsPerThread);
+    }
+
+    @ParameterizedTest
+    @EnumSource(LockRegistryType.class)
+    @DisplayName("락별 최대 대기 수를 넘으면 대기하지 않고 바로 거절하며, 락을 해제하면 다시 획득할 수 있다")
+    void rejectWhenWaitQueueFull(LockRegistryType type) throws InterruptedException {
+        UserLockRegistry registry = UserLockRegistry.create(type, 16, 1);
+        UserLock held = registry.acquire(1L);
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            registry.acquire(1L).unlock();
+            acquired.countDown();
+        });
+        waiter.start();
+        Thread.sleep(50); // 대기 스레드가 락을 기다리도록 잠시 대기
+
+        assertThatThrownBy(() -> registry.acquire(1L)).isInstanceOf(TooManyRequestsException.class);
+
+        held.unlock();
+        acquired.await();
+        waiter.join();
+        registry.acquire(1L).unlock();
+        if (type == LockRegistryType.REF_COUNTED) {
+            // 거절된 요청의 참조도 정리된다
+            assertThat(registry.size()).isZero();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(LockRegistryType.class)
+    @DisplayName("제한 시간 안에 락을 획득하지 못하면 null 을 반환한다")
+    void tryAcquireTimeout(LockRegistryType type) {
+        UserLockRegistry registry = UserLockRegistry.create(type, 16);
+        UserLock held = registry.acquire(1L);
+
+        UserLock timedOut = CompletableFuture.supplyAsync(() -> registry.tryAcquire(1L, TimeUnit.MILLISECONDS.toNanos(50))).join();
+
+        assertThat(timedOut).isNull();
+        held.unlock();
+        UserLock acquired = registry.tryAcquire(1L, TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(acquired).isNotNull();
+        acquired.unlock();
+        if (type == LockRegistryType.REF_COUNTED) {
+            assertThat(registry.size()).isZero();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.history.PointHistoryStore;
+import io.hhplus.tdd.point.store.UserPointStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Executors;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ParallelPointWriterTest {
+
+    private UserPointStore userPointStore;
+    private PointHistoryStore pointHistoryStore;
+    private ParallelPointWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        userPointStore = mock(UserPointStore.class);
+        pointHistoryStore = mock(PointHistoryStore.class);
+        writer = new ParallelPointWriter(userPointStore, pointHistoryStore, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.close();
+    }
+
+    @Test
+    @DisplayName("내역 저장과 잔고 갱신이 모두 성공하면 갱신된 잔고를 반환한다")
+    void writeBoth() {
+        when(userPointStore.insertOrUpdate(1L, 150L)).thenReturn(new UserPoint(1L, 150L, 0L));
+        when(pointHistoryStore.insert(eq(1L), eq(50L), eq(CHARGE), anyLong()))
+                .thenReturn(new PointHistory(1L, 1L, 50L, CHARGE, 0L));
+
+        UserPoint userPoint = writer.write(1L, CHARGE, 50L, 100L, 150L);
+
+        assertThat(userPoint.point()).isEqualTo(150L);
+        verify(pointHistoryStore, times(1)).insert(eq(1L), eq(50L), eq(CHARGE), anyLong());
+    }
+
+    @Test
+    @DisplayName("내역 저장이 실패하면 잔고를 기존 값으로 복구하고 예외를 던진다")
+    void restoreBalanceWhenHistoryFails() {
+        when(userPointStore.insertOrUpdate(anyLong(), anyLong())).thenAnswer(invocation ->
+                new UserPoint(invocation.getArgument(0), invocation.getArgument(1), 0L));
+        when(pointHistoryStore.insert(anyLong(), anyLong(), any(), anyLong())).thenThrow(new IllegalStateException("history"));
+
+        assertThatThrownBy(() -> writer.write(1L, CHARGE, 50L, 100L, 150L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("history");
+
+        verify(userPointStore).insertOrUpdate(1L, 150L);
+        verify(userPointStore).insertOrUpdate(1L, 100L);
+    }
+
+    @Test
+    @DisplayName("잔고 갱신이 한번 실패하면 보상 내역 없이 잔고 갱신을 다시 시도하여 저장된 내역에 맞춘다")
+    void retryBalanceWhenBalanceFails() {
+        when(userPointStore.insertOrUpdate(1L, 150L))
+                .thenThrow(new IllegalStateException("balance"))
+                .thenReturn(new UserPoint(1L, 150L, 0L));
+
+        UserPoint userPoint = writer.write(1L, CHARGE, 50L, 100L, 150L);
+
+        assertThat(userPoint.point()).isEqualTo(150L);
+        verify(userPointStore, times(2)).insertOrUpdate(1L, 150L);
+        verify(pointHistoryStore, times(1)).insert(eq(1L), eq(50L), eq(CHARGE), anyLong());
+        verifyNoMoreInteractions(pointHistoryStore);
+    }
+
+    @Test
+    @DisplayName("잔고 갱신 재시도가 모두 실패해도 반대 방향의 보상 내역은 추가하지 않고 예외를 던진다")
+    void noCompensatingHistoryWhenBalanceKeepsFailing() {
+        when(userPointStore.insertOrUpdate(anyLong(), anyLong())).thenThrow(new IllegalStateException("balance"));
+
+        assertThatThrownBy(() -> writer.write(1L, USE, 50L, 100L, 50L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("balance");
+
+        verify(pointHistoryStore, times(1)).insert(eq(1L), eq(50L), eq(USE), anyLong());
+        verifyNoMoreInteractions(pointHistoryStore);
+    }
+}
@@ -0,0 +1,173 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.TooManyRequestsException;
+import io.hhplus.tdd.point.history.TablePointHistoryStore;
+import io.hhplus.tdd.point.store.TableUserPointStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointAdmissionTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private SimpleMeterRegistry registry;
+    private PointServiceProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        properties = new PointServiceProperties();
+    }
+
+    @Test
+    @DisplayName("유저별 허용량을 넘은 요청은 바로 거절하고, 시간이 지나 토큰이 채워지면 다시 허용한다")
+    void userTokenBucket() {
+        // Given : 유저별 초당 10건, 최대 2건
+        properties.setRateLimitPerUser(10);
+        properties.setRateLimitPerUserBurst(2);
+        PointRateLimiter limiter = new PointRateLimiter(properties, new PointMetrics(registry), clock::get);
+
+        // When & Then
+        limiter.acquire(1L);
+        limiter.acquire(1L);
+        assertThatThrownBy(() -> limiter.acquire(1L))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessage(PointRateLimiter.MESSAGE)
+                .satisfies(e -> assertThat(((TooManyRequestsException) e).getRetryAfterMillis()).isBetween(100L, 101L));
+        // 다른 유저는 영향을 받지 않는다
+        assertThatCode(() -> limiter.acquire(2L)).doesNotThrowAnyException();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThatCode(() -> limiter.acquire(1L)).doesNotThrowAnyException();
+        assertThat(registry.get("point.admission.rejected").tag("reason", "user_rate").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전체 허용량을 넘으면 거절하고, 거절된 요청은 유저 허용량을 소모하지 않는다")
+    void globalTokenBucket() {
+        // Given : 전체 최대 2건, 유저별 최대 2건
+        properties.setRateLimitGlobal(1);
+        properties.setRateLimitGlobalBurst(2);
+        properties.setRateLimitPerUser(0.001);
+        properties.setRateLimitPerUserBurst(2);
+        PointRateLimiter limiter = new PointRateLimiter(properties, new PointMetrics(registry), clock::get);
+        limiter.acquire(1L);
+        limiter.acquire(2L);
+
+        // When : 전체 허용량 초과
+        assertThatThrownBy(() -> limiter.acquire(3L)).isInstanceOf(TooManyRequestsException.class);
+
+        // Then : 전체 토큰이 채워지면 유저 3은 유저 허용량 그대로 요청할 수 있다
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        limiter.acquire(3L);
+        limiter.acquire(3L);
+        assertThat(registry.get("point.admission.rejected").tag("reason", "global_rate").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가득 찬 유저 버킷은 최대 보관 수를 넘을 때 제거된다")
+    void evictFullBuckets() {
+        // Given
+        properties.setRateLimitPerUser(1);
+        properties.setRateLimitMaxUsers(2);
+        PointRateLimiter limiter = new PointRateLimiter(properties, new PointMetrics(registry), clock::get);
+        limiter.acquire(1L);
+        limiter.acquire(2L);
+
+        // When
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        limiter.acquire(3L);
+
+        // Then
+        assertThat(limiter.trackedUsers()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가득 찬 버킷이 없어도 최대 보관 수를 넘으면 마지막으로 채운 시점이 가장 오래된 버킷을 제거한다")
+    void enforceMaxTrackedUsers() {
+        // Given : 토큰이 거의 채워지지 않는 버킷 2개
+        properties.setRateLimitPerUser(0.001);
+        properties.setRateLimitPerUserBurst(1);
+        properties.setRateLimitMaxUsers(2);
+        PointRateLimiter limiter = new PointRateLimiter(properties, new PointMetrics(registry), clock::get);
+        limiter.acquire(1L);
+        clock.addAndGet(1L);
+        limiter.acquire(2L);
+
+        // When
+        clock.addAndGet(1L);
+        limiter.acquire(3L);
+
+        // Then : 유저 1 의 버킷만 제거되고 유저 2 는 계속 제한된다
+        assertThat(limiter.trackedUsers()).isEqualTo(2);
+        assertThatThrownBy(() -> limiter.acquire(2L)).isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    @DisplayName("처리량 제한으로 거절된 요청은 잔고와 내역에 반영되지 않는다")
+    void rateLimitedChargeNotApplied() {
+        // Given
+        properties.setRateLimitPerUser(0.001);
+        properties.setRateLimitPerUserBurst(1);
+        PointService pointService = new PointService(new TableUserPointStore(new UserPointTable()),
+                new TablePointHistoryStore(new PointHistoryTable()), properties, new PointMetrics(registry));
+        pointService.charge(1L, 100L);
+
+        // When & Then
+        assertThatThrownBy(() -> pointService.charge(1L, 100L)).isInstanceOf(TooManyRequestsException.class);
+        assertThat(pointService.select(1L).point()).isEqualTo(100L);
+        assertThat(pointService.selectPointHistory(1L)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("같은 유저의 락 대기열이 가득 차면 나머지 요청은 기다리지 않고 바로 거절된다")
+    void boundedLockQueue() throws InterruptedException {
+        // Given : 락별 최대 대기 2건
+        properties.setLockMaxWaiters(2);
+        PointService pointService = new PointService(new TableUserPointStore(new UserPointTable()),
+                new TablePointHistoryStore(new PointHistoryTable()), properties, new PointMetrics(registry));
+        int numberOfThreads = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+        CountDownLatch latch = new CountDownLatch(numberOfThreads);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < numberOfThreads; i++) {
+            executor.submit(() -> {
+                try {
+                    pointService.charge(1L, 10L);
+                    succeeded.incrementAndGet();
+                } catch (TooManyRequestsException e) {
+                    rejected.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        // Then : 처리된 요청만 잔고에 반영된다
+        assertThat(rejected.get()).isPositive();
+        assertThat(succeeded.get() + rejected.get()).isEqualTo(numberOfThreads);
+        assertThat(pointService.select(1L).point()).isEqualTo(10L * succeeded.get());
+        assertThat(registry.get("point.admission.rejected").tag("reason", "lock_queue").counter().count())
+                .isEqualTo(rejected.get());
+        assertThat(registry.get("point.lock.queued").gauge().value()).isZero();
+    }
+}
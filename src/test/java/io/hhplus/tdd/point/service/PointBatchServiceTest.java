@@ -0,0 +1,107 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.DeadlineExceededException;
+import io.hhplus.tdd.point.PointBatchRequest;
+import io.hhplus.tdd.point.PointBatchResult;
+import io.hhplus.tdd.point.history.TablePointHistoryStore;
+import io.hhplus.tdd.point.store.TableUserPointStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PointBatchServiceTest {
+
+    private PointService pointService;
+    private PointBatchService pointBatchService;
+
+    @BeforeEach
+    void setUp() {
+        pointService = new PointService(new TableUserPointStore(new UserPointTable()),
+                new TablePointHistoryStore(new PointHistoryTable()), new PointServiceProperties(), PointMetrics.noop());
+        pointBatchService = new PointBatchService(pointService, Executors.newFixedThreadPool(4));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointBatchService.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 유저의 요청은 순서대로 처리되고 건별 결과를 요청 순서대로 반환한다")
+    void processInOrderPerUser() {
+        // Given : 1번 유저는 충전 후 사용해야 성공
+        List<PointBatchRequest> requests = List.of(
+                new PointBatchRequest(1L, CHARGE, 100L),
+                new PointBatchRequest(2L, CHARGE, 50L),
+                new PointBatchRequest(1L, USE, 30L),
+                new PointBatchRequest(2L, USE, 10L)
+        );
+
+        // When
+        List<PointBatchResult> results = pointBatchService.process(requests);
+
+        // Then
+        assertThat(results).extracting(PointBatchResult::success).containsOnly(true);
+        assertThat(results.get(2).userPoint().point()).isEqualTo(70L);
+        assertThat(results.get(3).userPoint().point()).isEqualTo(40L);
+        assertThat(pointService.select(1L).point()).isEqualTo(70L);
+        assertThat(pointService.select(2L).point()).isEqualTo(40L);
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 요청은 실패 사유를 담고 나머지 요청은 계속 처리한다")
+    void failedItemsDoNotStopBatch() {
+        List<PointBatchRequest> requests = List.of(
+                new PointBatchRequest(1L, USE, 100L),
+                new PointBatchRequest(1L, CHARGE, 0L),
+                new PointBatchRequest(1L, CHARGE, 100L)
+        );
+
+        List<PointBatchResult> results = pointBatchService.process(requests);
+
+        assertThat(results.get(0).success()).isFalse();
+        assertThat(results.get(0).error()).isEqualTo("사용하고자하는 포인트가 보유한 포인트보다 많습니다.");
+        assertThat(results.get(1).error()).isEqualTo("충전 금액은 0보다 커야 합니다.");
+        assertThat(results.get(2).success()).isTrue();
+        assertThat(results.get(2).userPoint().point()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("처리 기한 초과와 저장소 쓰기 거절은 일반 에러가 아닌 각자의 실패 사유로 반환한다")
+    void reportDeadlineAndStoreRejection() {
+        // Given : 충전은 처리 기한 초과, 사용은 내역 저장 지연으로 거절, 2번 유저 충전은 예상하지 못한 오류
+        PointService failingService = mock(PointService.class);
+        when(failingService.charge(1L, 100L)).thenThrow(new DeadlineExceededException("요청 처리 기한이 지났습니다."));
+        when(failingService.use(anyLong(), anyLong())).thenThrow(new IllegalStateException("내역 저장이 지연되어 새 내역을 저장할 수 없습니다."));
+        when(failingService.charge(2L, 100L)).thenThrow(new NullPointerException());
+        pointBatchService.shutdown();
+        pointBatchService = new PointBatchService(failingService, Executors.newFixedThreadPool(4));
+
+        // When
+        List<PointBatchResult> results = pointBatchService.process(List.of(
+                new PointBatchRequest(1L, CHARGE, 100L),
+                new PointBatchRequest(1L, USE, 10L),
+                new PointBatchRequest(2L, CHARGE, 100L)
+        ));
+
+        // Then
+        assertThat(results).extracting(PointBatchResult::success).containsOnly(false);
+        assertThat(results).extracting(PointBatchResult::error).containsExactly(
+                "요청 처리 기한이 지났습니다.",
+                "내역 저장이 지연되어 새 내역을 저장할 수 없습니다.",
+                "에러가 발생했습니다.");
+    }
+}
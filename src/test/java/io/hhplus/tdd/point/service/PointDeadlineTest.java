@@ -0,0 +1,115 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.DeadlineExceededException;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.history.TablePointHistoryStore;
+import io.hhplus.tdd.point.store.TableUserPointStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class PointDeadlineTest {
+
+    private UserPointTable userPointTable;
+    private PointHistoryTable pointHistoryTable;
+    private SimpleMeterRegistry registry;
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        userPointTable = spy(new UserPointTable());
+        pointHistoryTable = spy(new PointHistoryTable());
+        registry = new SimpleMeterRegistry();
+        pointService = new PointService(new TableUserPointStore(userPointTable), new TablePointHistoryStore(pointHistoryTable),
+                new PointServiceProperties(), new PointMetrics(registry));
+    }
+
+    @Test
+    @DisplayName("처리 기한이 이미 지난 요청은 테이블을 호출하지 않고 중단한다")
+    void expiredBeforeStart() {
+        // Given
+        PointDeadline deadline = PointDeadline.after(Duration.ZERO);
+
+        // When & Then
+        assertThatThrownBy(() -> pointService.charge(1L, 100L, null, deadline))
+                .isInstanceOf(DeadlineExceededException.class)
+                .hasMessage("요청 처리 기한이 지났습니다.");
+        verifyNoInteractions(userPointTable, pointHistoryTable);
+        assertThat(expired("queue")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("남은 시간 안에 유저 락을 획득하지 못하면 대기를 멈추고 중단한다")
+    void expiredWhileWaitingLock() throws Exception {
+        // Given : 먼저 들어온 충전이 잔고 조회 중 멈춰 있는 상황
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            reading.countDown();
+            release.await();
+            return invocation.callRealMethod();
+        }).doCallRealMethod().when(userPointTable).selectById(anyLong());
+        CompletableFuture<UserPoint> first = CompletableFuture.supplyAsync(() -> pointService.charge(1L, 100L));
+        reading.await();
+
+        // When
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> pointService.use(1L, 10L, null, PointDeadline.after(Duration.ofMillis(100))))
+                .isInstanceOf(DeadlineExceededException.class);
+        long waitedMillis = (System.nanoTime() - start) / 1_000_000;
+        release.countDown();
+
+        // Then : 락을 기다린 시간은 남은 시간 정도이며, 기존 요청은 정상 처리된다
+        assertThat(waitedMillis).isBetween(90L, 1_000L);
+        assertThat(first.join().point()).isEqualTo(100L);
+        assertThat(expired("lock_wait")).isEqualTo(1);
+        verify(pointHistoryTable, times(1)).insert(anyLong(), anyLong(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("잔고 조회 중 기한이 지나면 내역 저장과 잔고 갱신을 하지 않는다")
+    void expiredBeforeWrite() {
+        // Given : 잔고 조회가 기한보다 오래 걸리는 상황
+        doAnswer(invocation -> {
+            Thread.sleep(100);
+            return invocation.callRealMethod();
+        }).when(userPointTable).selectById(anyLong());
+
+        // When & Then
+        assertThatThrownBy(() -> pointService.charge(1L, 100L, null, PointDeadline.after(Duration.ofMillis(50))))
+                .isInstanceOf(DeadlineExceededException.class);
+        verify(pointHistoryTable, never()).insert(anyLong(), anyLong(), any(), anyLong());
+        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+        assertThat(expired("before_write")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제한 시간 헤더가 없으면 기본 제한 시간을, 기본 제한 시간도 없으면 기한 없이 처리한다")
+    void defaultTimeout() {
+        assertThat(pointService.deadline(null)).isEqualTo(PointDeadline.NONE);
+        assertThat(pointService.deadline(500L).remainingNanos()).isPositive().isLessThanOrEqualTo(Duration.ofMillis(500).toNanos());
+
+        PointServiceProperties properties = new PointServiceProperties();
+        properties.setRequestTimeout(Duration.ofSeconds(1));
+        PointService withDefault = new PointService(new TableUserPointStore(userPointTable), new TablePointHistoryStore(pointHistoryTable),
+                properties, PointMetrics.noop());
+        assertThat(withDefault.deadline(null).isNone()).isFalse();
+    }
+
+    private double expired(String stage) {
+        return registry.get("point.deadline.expired").tag("stage", stage).counter().count();
+    }
+}
@@ -0,0 +1,191 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.history.ColumnarPointHistoryStore;
+import io.hhplus.tdd.point.history.PointHistoryStore;
+import io.hhplus.tdd.point.store.TableUserPointStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.TransactionType.EXPIRE;
+import static io.hhplus.tdd.point.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PointExpiryTest {
+
+    private static final Duration EXPIRE_AFTER = Duration.ofDays(30);
+    private static final long AFTER_EXPIRY = EXPIRE_AFTER.toMillis() + Duration.ofMinutes(2).toMillis();
+
+    private PointHistoryStore historyStore;
+    private SimpleMeterRegistry registry;
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        historyStore = new ColumnarPointHistoryStore();
+        registry = new SimpleMeterRegistry();
+        pointService = create(PointServiceProperties.WriteMode.LOCK);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointService.shutdown();
+    }
+
+    @Test
+    @DisplayName("사용 시 가장 오래된 충전분부터 차감하고, 유효기간이 지나면 남은 충전분만 만료 내역으로 기록한다")
+    void useConsumesOldestAndExpiresRemainder() {
+        // Given : 100 충전 후 150 사용 → 첫 충전분은 모두, 두번째 충전분은 50 차감
+        pointService.charge(1L, 100L);
+        pointService.charge(1L, 200L);
+        pointService.use(1L, 150L);
+
+        // When
+        pointService.expirePoints(System.currentTimeMillis() + AFTER_EXPIRY);
+
+        // Then
+        assertThat(pointService.select(1L).point()).isZero();
+        assertThat(pointService.selectPointHistory(1L)).extracting(PointHistory::type, PointHistory::amount)
+                .containsExactly(
+                        tuple(CHARGE, 100L),
+                        tuple(CHARGE, 200L),
+                        tuple(USE, 150L),
+                        tuple(EXPIRE, 150L));
+        assertThat(pointService.unexpiredPoint(1L)).isZero();
+        assertThat(pointService.summary(1L).totalExpired()).isEqualTo(150L);
+        assertThat(registry.get("point.expiry.expired").counter().count()).isEqualTo(150);
+    }
+
+    @Test
+    @DisplayName("유효기간이 지나지 않은 충전분과 만료 전에 모두 사용한 충전분은 만료하지 않는다")
+    void notExpiredBeforeDeadlineOrWhenUsed() {
+        // Given
+        pointService.charge(1L, 100L);
+        pointService.use(1L, 100L);
+        pointService.charge(2L, 100L);
+
+        // When
+        pointService.expirePoints(System.currentTimeMillis() + EXPIRE_AFTER.toMillis() / 2);
+        pointService.expirePoints(System.currentTimeMillis() + AFTER_EXPIRY);
+
+        // Then : 유저 1 은 만료할 충전분이 없고, 유저 2 는 유효기간이 지난 뒤에만 만료
+        assertThat(pointService.selectPointHistory(1L)).extracting(PointHistory::type).doesNotContain(EXPIRE);
+        assertThat(pointService.selectPointHistory(2L)).extracting(PointHistory::type).containsExactly(CHARGE, EXPIRE);
+        assertThat(pointService.select(2L).point()).isZero();
+    }
+
+    @ParameterizedTest
+    @EnumSource(PointServiceProperties.WriteMode.class)
+    @DisplayName("모든 처리 방식에서 여러 유저의 만료분을 한번에 처리한다")
+    void expiresInBulkForEveryWriteMode(PointServiceProperties.WriteMode writeMode) {
+        // Given
+        pointService.shutdown();
+        pointService = create(writeMode);
+        for (long userId = 1; userId <= 3; userId++) {
+            pointService.charge(userId, 100L * userId);
+        }
+        pointService.use(3L, 100L);
+
+        // When
+        pointService.expirePoints(System.currentTimeMillis() + AFTER_EXPIRY);
+
+        // Then
+        for (long userId = 1; userId <= 3; userId++) {
+            assertThat(pointService.select(userId).point()).isZero();
+        }
+        assertThat(registry.get("point.expiry.expired").counter().count()).isEqualTo(100 + 200 + 200);
+        assertThat(registry.get("point.expiry.batch").summary().max()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("OPTIMISTIC 방식에서 충전과 동시에 만료해도 잔고와 내역이 어긋나지 않는다")
+    void expireWhileOptimisticCharges() throws Exception {
+        // Given
+        pointService.shutdown();
+        pointService = create(PointServiceProperties.WriteMode.OPTIMISTIC);
+        pointService.charge(1L, 100L);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> charges = new ArrayList<>();
+
+        // When : 충전 20건과 만료를 동시에 수행
+        for (int i = 0; i < 20; i++) {
+            charges.add(executor.submit(() -> pointService.charge(1L, 10L)));
+        }
+        pointService.expirePoints(System.currentTimeMillis() + AFTER_EXPIRY);
+        for (Future<?> charge : charges) {
+            charge.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then : 잔고는 내역으로 계산한 잔고와 같다
+        long historyBalance = pointService.selectPointHistory(1L).stream()
+                .mapToLong(history -> history.type() == CHARGE ? history.amount() : -history.amount())
+                .sum();
+        assertThat(pointService.select(1L).point()).isEqualTo(historyBalance);
+        assertThat(registry.get("point.expiry.expired").counter().count()).isGreaterThanOrEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("기동 시 저장되어 있는 내역을 재생하여 만료되지 않은 충전분을 복구한다")
+    void seedFromStoredHistories() {
+        // Given : 이전에 충전 300, 사용 100 이 저장된 상태
+        long now = System.currentTimeMillis();
+        historyStore.insert(1L, 100L, CHARGE, now - EXPIRE_AFTER.toMillis() / 2);
+        historyStore.insert(1L, 200L, CHARGE, now);
+        historyStore.insert(1L, 100L, USE, now);
+        pointService.shutdown();
+
+        // When
+        pointService = create(PointServiceProperties.WriteMode.LOCK);
+
+        // Then
+        assertThat(pointService.unexpiredPoint(1L)).isEqualTo(200L);
+    }
+
+    @Test
+    @DisplayName("타이밍 휠은 단계와 무관하게 만료 시각이 지난 틱에 항목을 만료시킨다")
+    void timingWheelExpiresAcrossLevels() {
+        // Given : 틱 10ms, 버킷 4개 (단계 0 : 40ms, 단계 1 : 160ms, 단계 2 : 640ms)
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(10, 4, 0);
+        for (long expiresAt : new long[]{5, 35, 120, 500, 2000}) {
+            wheel.schedule(expiresAt, expiresAt);
+        }
+        List<Long> expired = new ArrayList<>();
+
+        // When & Then
+        wheel.advance(119, expired::add);
+        assertThat(expired).containsExactly(5L, 35L);
+        wheel.advance(130, expired::add);
+        assertThat(expired).containsExactly(5L, 35L, 120L);
+        wheel.advance(1999, expired::add);
+        assertThat(expired).containsExactly(5L, 35L, 120L, 500L);
+        wheel.advance(2010, expired::add);
+        assertThat(expired).containsExactly(5L, 35L, 120L, 500L, 2000L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    private PointService create(PointServiceProperties.WriteMode writeMode) {
+        PointServiceProperties properties = new PointServiceProperties();
+        properties.setWriteMode(writeMode);
+        properties.setExpireAfter(EXPIRE_AFTER);
+        // 만료는 테스트에서 직접 처리한다
+        properties.setExpiryTick(Duration.ofMinutes(1));
+        return new PointService(new TableUserPointStore(new UserPointTable()), historyStore, properties, new PointMetrics(registry));
+    }
+}
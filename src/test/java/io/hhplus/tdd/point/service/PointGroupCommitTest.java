@@ -0,0 +1,300 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.DeadlineExceededException;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.history.ColumnarPointHistoryStore;
+import io.hhplus.tdd.point.history.PointHistoryStore;
+import io.hhplus.tdd.point.history.TablePointHistoryStore;
+import io.hhplus.tdd.point.store.TableUserPointStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointGroupCommitTest {
+
+    private UserPointTable userPointTable;
+    private PointHistoryTable pointHistoryTable;
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        userPointTable = new UserPointTable();
+        pointHistoryTable = new PointHistoryTable();
+        PointServiceProperties properties = new PointServiceProperties();
+        properties.setWriteMode(PointServiceProperties.WriteMode.GROUP_COMMIT);
+        pointService = new PointService(new TableUserPointStore(userPointTable), new TablePointHistoryStore(pointHistoryTable), properties, PointMetrics.noop());
+    }
+
+    @Test
+    @DisplayName("그룹 커밋 모드에서 동시에 여러번 충전해도 모든 충전이 반영된다")
+    void concurrentChargeWithGroupCommit() throws InterruptedException {
+        // Given
+        long userId = 1L;
+        long amount = 10L;
+        int numberOfThreads = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+        CountDownLatch latch = new CountDownLatch(numberOfThreads);
+
+        // When
+        for (int i = 0; i < numberOfThreads; i++) {
+            executor.submit(() -> {
+                try {
+                    pointService.charge(userId, amount);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        // Then : 잔고와 요청별 히스토리 검증
+        assertThat(pointService.select(userId).point()).isEqualTo(amount * numberOfThreads);
+        assertThat(pointService.selectPointHistory(userId)).hasSize(numberOfThreads);
+    }
+
+    @Test
+    @DisplayName("그룹 커밋 모드에서 잔고가 부족한 요청만 실패하고 나머지는 반영된다")
+    void onlyInvalidRequestsFail() throws InterruptedException {
+        // Given : 100 포인트에서 30 포인트씩 5번 사용 → 3번만 성공
+        long userId = 1L;
+        userPointTable.insertOrUpdate(userId, 100L);
+        int numberOfThreads = 5;
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+        CountDownLatch latch = new CountDownLatch(numberOfThreads);
+        AtomicInteger failures = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < numberOfThreads; i++) {
+            executor.submit(() -> {
+                try {
+                    pointService.use(userId, 30L);
+                } catch (IllegalArgumentException e) {
+                    failures.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        // Then
+        assertThat(failures.get()).isEqualTo(2);
+        assertThat(pointService.select(userId).point()).isEqualTo(10L);
+        assertThat(pointService.selectPointHistory(userId)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("그룹 커밋 모드에서도 요청별 결과와 예외를 그대로 돌려받는다")
+    void eachCallerReceivesOwnResult() {
+        long userId = 1L;
+
+        UserPoint first = pointService.charge(userId, 100L);
+        UserPoint second = pointService.charge(userId, 200L);
+
+        assertThat(first.point()).isEqualTo(100L);
+        assertThat(second.point()).isEqualTo(300L);
+        assertThatThrownBy(() -> pointService.charge(userId, PointPolicy.MAX_POINT))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("최대 잔고 이상으로 충전할 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("그룹 커밋 중 내역 저장이 실패하면 앞 요청까지의 잔고는 저장하고, 실패한 요청부터 남은 요청만 실패한다")
+    void historyFailureMidBatch() throws Exception {
+        // Given : 첫 내역 저장을 붙잡아 두는 동안 4건이 대기열에 쌓이고, 세번째 내역 저장이 실패하는 저장소
+        CountDownLatch firstInsert = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger inserts = new AtomicInteger();
+        PointHistoryStore historyStore = new ColumnarPointHistoryStore() {
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                int count = inserts.incrementAndGet();
+                if (count == 1) {
+                    firstInsert.countDown();
+                    awaitQuietly(release);
+                }
+                if (count == 3) {
+                    throw new IllegalStateException("내역 저장 실패");
+                }
+                return super.insert(userId, amount, type, updateMillis);
+            }
+        };
+        PointServiceProperties properties = new PointServiceProperties();
+        properties.setWriteMode(PointServiceProperties.WriteMode.GROUP_COMMIT);
+        pointService = new PointService(new TableUserPointStore(userPointTable), historyStore, properties, PointMetrics.noop());
+        long userId = 1L;
+
+        // When
+        List<CompletableFuture<UserPoint>> results = new ArrayList<>();
+        List<Thread> waiters = new ArrayList<>();
+        results.add(chargeAsync(userId, waiters));
+        firstInsert.await();
+        for (int i = 0; i < 4; i++) {
+            results.add(chargeAsync(userId, waiters));
+        }
+        // 리더를 제외한 요청이 모두 대기열에 들어가 결과를 기다릴 때까지 대기
+        while (waiters.stream().skip(1).anyMatch(thread -> thread.getState() != Thread.State.WAITING)) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // Then : 첫 배치(1건)와 두번째 배치의 첫 요청만 반영되고, 두번째 배치의 나머지 3건은 실패
+        assertThat(results.get(0).get().point()).isEqualTo(100L);
+        List<CompletableFuture<UserPoint>> secondBatch = results.subList(1, 5);
+        CompletableFuture.allOf(secondBatch.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+        assertThat(secondBatch).filteredOn(result -> !result.isCompletedExceptionally())
+                .extracting(result -> result.join().point())
+                .containsExactly(200L);
+        assertThat(secondBatch).filteredOn(CompletableFuture::isCompletedExceptionally).hasSize(3)
+                .allSatisfy(result -> assertThatThrownBy(result::join).hasCauseInstanceOf(IllegalStateException.class));
+        assertThat(pointService.select(userId).point()).isEqualTo(200L);
+        assertThat(pointService.selectPointHistory(userId)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("처리가 끝나 비어있는 유저 대기열은 제거한다")
+    void removeEmptyQueues() {
+        // Given
+        PointGroupCommitter committer = new PointGroupCommitter(PointGroupCommitTest::completeAll, 64, PointMetrics.noop());
+
+        // When
+        for (long userId = 1; userId <= 1_000; userId++) {
+            committer.submit(userId, TransactionType.CHARGE, 100L, PointDeadline.NONE);
+        }
+
+        // Then
+        assertThat(committer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("리더는 한 묶음만 처리하고, 남은 요청은 그 요청을 보낸 스레드가 이어서 처리한다")
+    void leaderDrainsOneBatch() throws Exception {
+        // Given : 첫 묶음을 붙잡아 두는 동안 4건이 대기열에 쌓이는 상황 (최대 묶음 크기 2)
+        CountDownLatch firstBatch = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<List<PointGroupCommitter.PendingRequest>> batches = new ArrayList<>();
+        List<Boolean> ownRequestIncluded = new ArrayList<>();
+        PointGroupCommitter committer = new PointGroupCommitter((id, batch) -> {
+            if (firstBatch.getCount() > 0) {
+                firstBatch.countDown();
+                awaitQuietly(release);
+            }
+            synchronized (batches) {
+                batches.add(List.copyOf(batch));
+                ownRequestIncluded.add(batch.stream().anyMatch(request -> request.waiter() == Thread.currentThread()));
+            }
+            completeAll(id, batch);
+        }, 2, PointMetrics.noop());
+        List<Thread> waiters = new ArrayList<>();
+        List<CompletableFuture<UserPoint>> results = new ArrayList<>();
+        results.add(submitAsync(committer, PointDeadline.NONE, waiters));
+        firstBatch.await();
+        for (int i = 0; i < 4; i++) {
+            results.add(submitAsync(committer, PointDeadline.NONE, waiters));
+        }
+        while (waiters.stream().skip(1).anyMatch(thread -> thread.getState() != Thread.State.WAITING)) {
+            Thread.onSpinWait();
+        }
+
+        // When
+        release.countDown();
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // Then : 묶음마다 자신의 요청이 포함된 스레드가 처리하여, 자신보다 뒤의 요청을 대신 처리하지 않는다
+        assertThat(batches).extracting(List::size).containsExactly(1, 2, 2);
+        assertThat(ownRequestIncluded).containsOnly(true);
+        assertThat(committer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("묶음에 포함되기 전에 처리 기한이 지난 요청은 대기열에서 빠지고 처리되지 않는다")
+    void expireWhileQueued() throws Exception {
+        // Given : 첫 묶음을 붙잡아 두는 상황
+        CountDownLatch firstBatch = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger applied = new AtomicInteger();
+        PointGroupCommitter committer = new PointGroupCommitter((id, batch) -> {
+            if (firstBatch.getCount() > 0) {
+                firstBatch.countDown();
+                awaitQuietly(release);
+            }
+            applied.addAndGet(batch.size());
+            completeAll(id, batch);
+        }, 64, PointMetrics.noop());
+        List<Thread> waiters = new ArrayList<>();
+        CompletableFuture<UserPoint> first = submitAsync(committer, PointDeadline.NONE, waiters);
+        firstBatch.await();
+
+        // When
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> committer.submit(1L, TransactionType.CHARGE, 100L, PointDeadline.after(Duration.ofMillis(100))))
+                .isInstanceOf(DeadlineExceededException.class);
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        // Then : 기한만큼만 기다리고, 기한이 지난 요청은 잔고에 반영되지 않는다
+        assertThat(waitedMillis).isLessThan(2_000);
+        assertThat(first.get(5, TimeUnit.SECONDS).point()).isEqualTo(100L);
+        assertThat(applied).hasValue(1);
+        assertThat(committer.size()).isZero();
+    }
+
+    private static void completeAll(long id, List<PointGroupCommitter.PendingRequest> batch) {
+        batch.forEach(request -> request.result().complete(new UserPoint(id, request.amount(), 0L)));
+    }
+
+    private static CompletableFuture<UserPoint> submitAsync(PointGroupCommitter committer, PointDeadline deadline, List<Thread> threads) {
+        CompletableFuture<UserPoint> result = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                result.complete(committer.submit(1L, TransactionType.CHARGE, 100L, deadline));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        threads.add(thread);
+        thread.start();
+        return result;
+    }
+
+    private CompletableFuture<UserPoint> chargeAsync(long userId, List<Thread> threads) {
+        CompletableFuture<UserPoint> result = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                result.complete(pointService.charge(userId, 100L));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        threads.add(thread);
+        thread.start();
+        return result;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
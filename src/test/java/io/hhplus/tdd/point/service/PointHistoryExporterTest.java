@@ -0,0 +1,92 @@
+package io.hhplus.tdd.point.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.history.PointHistoryQuery;
+import io.hhplus.tdd.point.history.PointHistoryStore;
+import io.hhplus.tdd.point.history.TablePointHistoryStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PointHistoryExporterTest {
+
+    private PointHistoryStore pointHistoryStore;
+    private PointHistoryExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        pointHistoryStore = mock(PointHistoryStore.class);
+        exporter = new PointHistoryExporter(pointHistoryStore, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("유저 내역을 페이지 단위로 읽어 한 줄에 하나씩 JSON 으로 출력한다")
+    void exportUserHistoriesAsNdjson() throws IOException {
+        // Given : 첫 페이지 이후 nextCursor 로 다음 페이지 조회
+        long userId = 1L;
+        PointHistory first = new PointHistory(1L, userId, 100L, CHARGE, 1L);
+        PointHistory second = new PointHistory(2L, userId, 200L, CHARGE, 2L);
+        when(pointHistoryStore.selectPage(eq(userId), argThat(query -> query != null && query.cursor() == null)))
+                .thenReturn(new PointHistoryPage(List.of(first), 1L));
+        when(pointHistoryStore.selectPage(eq(userId), argThat(query -> query != null && Long.valueOf(1L).equals(query.cursor()))))
+                .thenReturn(new PointHistoryPage(List.of(second), null));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        exporter.export(LongStream.of(userId), out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"id\":1").contains("\"type\":\"CHARGE\"");
+        assertThat(lines[1]).contains("\"id\":2");
+        verify(pointHistoryStore, times(2)).selectPage(eq(userId), any(PointHistoryQuery.class));
+    }
+
+    @Test
+    @DisplayName("전체 내보내기는 저장소의 전체 유저 목록을 사용한다")
+    void exportAllUsesStoreUserIds() throws IOException {
+        when(pointHistoryStore.userIds()).thenReturn(LongStream.of(1L, 2L));
+        when(pointHistoryStore.selectPage(anyLong(), any(PointHistoryQuery.class)))
+                .thenReturn(new PointHistoryPage(List.of(), null));
+
+        exporter.exportAll(new ByteArrayOutputStream());
+
+        verify(pointHistoryStore).selectPage(eq(1L), any(PointHistoryQuery.class));
+        verify(pointHistoryStore).selectPage(eq(2L), any(PointHistoryQuery.class));
+    }
+
+    @Test
+    @DisplayName("테이블 저장소도 내역이 있는 유저 목록을 제공하여 전체 내보내기가 가능하다")
+    void exportAllWithTableStore() throws IOException {
+        // Given
+        TablePointHistoryStore tableStore = new TablePointHistoryStore(new PointHistoryTable());
+        tableStore.insert(1L, 100L, CHARGE, 1L);
+        tableStore.insert(2L, 200L, CHARGE, 2L);
+        tableStore.insert(1L, 300L, CHARGE, 3L);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        new PointHistoryExporter(tableStore, new ObjectMapper()).exportAll(out);
+
+        // Then
+        assertThat(tableStore.userIds().sorted().toArray()).containsExactly(1L, 2L);
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\n")).hasSize(3);
+    }
+}
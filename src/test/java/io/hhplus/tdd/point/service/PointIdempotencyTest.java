@@ -0,0 +1,164 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.history.TablePointHistoryStore;
+import io.hhplus.tdd.point.store.TableUserPointStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PointIdempotencyTest {
+
+    @Mock
+    private UserPointTable userPointTable;
+
+    @Mock
+    private PointHistoryTable pointHistoryTable;
+
+    private SimpleMeterRegistry registry;
+    private PointServiceProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        registry = new SimpleMeterRegistry();
+        properties = new PointServiceProperties();
+        when(userPointTable.selectById(anyLong())).thenAnswer(invocation -> new UserPoint(invocation.getArgument(0), 100L, 0L));
+        when(userPointTable.insertOrUpdate(anyLong(), anyLong())).thenAnswer(invocation ->
+                new UserPoint(invocation.getArgument(0), invocation.getArgument(1), System.currentTimeMillis()));
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key 로 재시도한 충전은 테이블에 접근하지 않고 처음 결과를 반환한다")
+    void retryReturnsStoredResult() {
+        // Given
+        PointService pointService = pointService();
+
+        // When
+        UserPoint first = pointService.charge(1L, 50L, "key-1");
+        UserPoint retried = pointService.charge(1L, 50L, "key-1");
+
+        // Then
+        assertThat(retried).isSameAs(first);
+        verify(userPointTable, times(1)).selectById(1L);
+        verify(userPointTable, times(1)).insertOrUpdate(1L, 150L);
+        verify(pointHistoryTable, times(1)).insert(anyLong(), anyLong(), any(), anyLong());
+        assertThat(count("hit")).isEqualTo(1.0);
+        assertThat(count("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("키가 없거나 다르면 매번 처리한다")
+    void processWithoutOrDifferentKey() {
+        PointService pointService = pointService();
+
+        pointService.use(1L, 10L, null);
+        pointService.use(1L, 10L, null);
+        pointService.use(1L, 10L, "key-1");
+        pointService.use(1L, 10L, "key-2");
+
+        verify(userPointTable, times(4)).insertOrUpdate(1L, 90L);
+        assertThat(count("miss")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청을 보내면 예외가 발생한다")
+    void rejectKeyReuseForDifferentRequest() {
+        PointService pointService = pointService();
+        pointService.charge(1L, 50L, "key-1");
+
+        assertThatThrownBy(() -> pointService.charge(1L, 60L, "key-1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+        assertThatThrownBy(() -> pointService.use(1L, 50L, "key-1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("실패한 요청의 결과는 저장하지 않아 같은 키로 다시 시도할 수 있다")
+    void failureIsNotStored() {
+        PointService pointService = pointService();
+
+        assertThatThrownBy(() -> pointService.use(1L, 500L, "key-1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("사용하고자하는 포인트가 보유한 포인트보다 많습니다.");
+        when(userPointTable.selectById(1L)).thenReturn(new UserPoint(1L, 1000L, 0L));
+
+        assertThat(pointService.use(1L, 500L, "key-1").point()).isEqualTo(500L);
+    }
+
+    @Test
+    @DisplayName("보관 시간이 지난 키는 새 요청으로 처리한다")
+    void expiredKeyIsProcessedAgain() throws InterruptedException {
+        properties.setIdempotencyTtl(Duration.ofMillis(50));
+        PointService pointService = pointService();
+
+        pointService.charge(1L, 50L, "key-1");
+        Thread.sleep(100);
+        pointService.charge(1L, 50L, "key-1");
+
+        verify(userPointTable, times(2)).insertOrUpdate(1L, 150L);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래된 키부터 제거한다")
+    void evictEldestKey() {
+        properties.setIdempotencyMaxSize(2);
+        PointService pointService = pointService();
+
+        pointService.charge(1L, 50L, "key-1");
+        pointService.charge(1L, 50L, "key-2");
+        pointService.charge(1L, 50L, "key-3");
+        pointService.charge(1L, 50L, "key-3");
+        pointService.charge(1L, 50L, "key-1");
+
+        // key-3 재시도만 저장된 결과를 사용
+        verify(userPointTable, times(4)).insertOrUpdate(1L, 150L);
+        assertThat(count("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 요청은 한번만 처리한다")
+    void concurrentRetriesProcessedOnce() throws Exception {
+        PointService pointService = pointService();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        List<Future<UserPoint>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> pointService.charge(1L, 50L, "key-1")));
+        }
+        for (Future<UserPoint> result : results) {
+            assertThat(result.get().point()).isEqualTo(150L);
+        }
+        executor.shutdown();
+
+        verify(userPointTable, times(1)).insertOrUpdate(1L, 150L);
+        assertThat(count("hit")).isEqualTo(7.0);
+    }
+
+    private PointService pointService() {
+        return new PointService(new TableUserPointStore(userPointTable), new TablePointHistoryStore(pointHistoryTable),
+                properties, new PointMetrics(registry));
+    }
+
+    private double count(String result) {
+        return registry.get("point.idempotency").tag("result", result).counter().count();
+    }
+}
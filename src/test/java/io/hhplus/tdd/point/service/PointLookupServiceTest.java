@@ -0,0 +1,114 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.history.TablePointHistoryStore;
+import io.hhplus.tdd.point.store.CachedUserPointStore;
+import io.hhplus.tdd.point.store.TableUserPointStore;
+import io.hhplus.tdd.point.store.UserPointCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class PointLookupServiceTest {
+
+    private UserPointTable userPointTable;
+    private CachedUserPointStore userPointStore;
+    private SimpleMeterRegistry registry;
+    private PointService pointService;
+    private PointLookupService pointLookupService;
+
+    @BeforeEach
+    void setUp() {
+        userPointTable = spy(new UserPointTable());
+        userPointStore = new CachedUserPointStore(new TableUserPointStore(userPointTable), new UserPointCacheProperties());
+        registry = new SimpleMeterRegistry();
+        PointMetrics metrics = new PointMetrics(registry);
+        pointService = new PointService(userPointStore, new TablePointHistoryStore(new PointHistoryTable()),
+                new PointServiceProperties(), metrics);
+        pointLookupService = new PointLookupService(pointService, metrics, Executors.newFixedThreadPool(16));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointLookupService.shutdown();
+        userPointStore.close();
+    }
+
+    @Test
+    @DisplayName("요청한 유저 순서대로 잔고를 반환하고 중복 id 는 한번만 조회한다")
+    void selectInRequestOrder() {
+        // Given
+        userPointTable.insertOrUpdate(3L, 300L);
+        userPointTable.insertOrUpdate(1L, 100L);
+
+        // When
+        Map<Long, UserPoint> points = pointLookupService.select(List.of(3L, 2L, 1L, 3L));
+
+        // Then
+        assertThat(points.keySet()).containsExactly(3L, 2L, 1L);
+        assertThat(points.values()).extracting(UserPoint::point).containsExactly(300L, 0L, 100L);
+        verify(userPointTable, times(1)).selectById(3L);
+    }
+
+    @Test
+    @DisplayName("캐시에 있는 잔고는 테이블을 조회하지 않고 바로 반환한다")
+    void serveCachedEntries() {
+        // Given : 충전으로 캐시에 올라간 유저
+        pointService.charge(1L, 100L);
+        clearInvocations(userPointTable);
+
+        // When
+        Map<Long, UserPoint> points = pointLookupService.select(List.of(1L, 2L));
+
+        // Then
+        assertThat(points.get(1L).point()).isEqualTo(100L);
+        verify(userPointTable, never()).selectById(1L);
+        verify(userPointTable).selectById(2L);
+        assertThat(registry.get("point.lookup").tag("source", "cache").counter().count()).isEqualTo(1);
+        assertThat(registry.get("point.lookup").tag("source", "store").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 유저를 병렬로 조회하여 전체 응답 시간이 유저 수에 비례하지 않는다")
+    void lookupInParallel() {
+        // Given : 조회마다 100ms 지연
+        doAnswer(invocation -> {
+            Thread.sleep(100);
+            return new UserPoint(invocation.getArgument(0), 0L, System.currentTimeMillis());
+        }).when(userPointTable).selectById(anyLong());
+        List<Long> ids = LongStream.rangeClosed(1, 16).boxed().toList();
+
+        // When
+        long start = System.nanoTime();
+        Map<Long, UserPoint> points = pointLookupService.select(ids);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertThat(points).hasSize(16);
+        assertThat(elapsedMillis).isLessThan(16 * 100 / 2);
+    }
+
+    @Test
+    @DisplayName("최대 조회 유저 수를 넘으면 예외가 발생한다")
+    void rejectTooManyIds() {
+        List<Long> ids = LongStream.rangeClosed(1, PointLookupService.MAX_LOOKUP_SIZE + 1).boxed().toList();
+
+        assertThatThrownBy(() -> pointLookupService.select(ids))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("한번에 조회할 수 있는 유저는 " + PointLookupService.MAX_LOOKUP_SIZE + "명 이하입니다.");
+    }
+}
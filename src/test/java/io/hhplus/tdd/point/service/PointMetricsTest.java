@@ -0,0 +1,71 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.history.TablePointHistoryStore;
+import io.hhplus.tdd.point.store.MeteredUserPointStore;
+import io.hhplus.tdd.point.store.TableUserPointStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+class PointMetricsTest {
+
+    @Mock
+    private UserPointTable userPointTable;
+
+    @Mock
+    private PointHistoryTable pointHistoryTable;
+
+    private SimpleMeterRegistry registry;
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        registry = new SimpleMeterRegistry();
+        pointService = new PointService(
+                new MeteredUserPointStore(new TableUserPointStore(userPointTable), registry),
+                new TablePointHistoryStore(pointHistoryTable),
+                new PointServiceProperties(),
+                new PointMetrics(registry));
+        when(userPointTable.selectById(anyLong())).thenAnswer(invocation -> new UserPoint(invocation.getArgument(0), 50L, 0L));
+        when(userPointTable.insertOrUpdate(anyLong(), anyLong())).thenAnswer(invocation ->
+                new UserPoint(invocation.getArgument(0), invocation.getArgument(1), 0L));
+    }
+
+    @Test
+    @DisplayName("정책 위반으로 거절된 요청을 사유별로 집계한다")
+    void countRejections() {
+        assertThatThrownBy(() -> pointService.charge(1L, PointPolicy.MAX_POINT)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pointService.use(1L, 100L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pointService.use(1L, 0L)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(registry.get("point.rejected").tag("reason", "max_point").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("point.rejected").tag("reason", "insufficient_point").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("point.rejected").tag("reason", "invalid_amount").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("락 대기 시간, 테이블 호출 시간, 락 개수를 기록한다")
+    void recordLockWaitAndStoreCalls() {
+        pointService.charge(1L, 10L);
+        pointService.use(2L, 10L);
+
+        assertThat(registry.get("point.lock.wait").tag("operation", "charge").timer().count()).isEqualTo(1L);
+        assertThat(registry.get("point.lock.wait").tag("operation", "use").timer().count()).isEqualTo(1L);
+        assertThat(registry.get("point.store.calls").tag("operation", "select").timer().count()).isEqualTo(2L);
+        assertThat(registry.get("point.store.calls").tag("operation", "insert_or_update").timer().count()).isEqualTo(2L);
+        // 사용이 끝난 락은 제거된다 (REF_COUNTED)
+        assertThat(registry.get("point.locks.size").gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,119 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.history.TablePointHistoryStore;
+import io.hhplus.tdd.point.store.TableUserPointStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointOptimisticTest {
+
+    private SimpleMeterRegistry registry;
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        PointServiceProperties properties = new PointServiceProperties();
+        properties.setWriteMode(PointServiceProperties.WriteMode.OPTIMISTIC);
+        properties.setOptimisticMaxRetries(1);
+        pointService = new PointService(new TableUserPointStore(new UserPointTable()), new TablePointHistoryStore(new PointHistoryTable()),
+                properties, new PointMetrics(registry));
+    }
+
+    @Test
+    @DisplayName("낙관적 갱신 모드에서 동시에 여러번 충전해도 모든 충전이 반영된다")
+    void concurrentChargeWithOptimistic() throws InterruptedException {
+        // Given
+        long userId = 1L;
+        long amount = 10L;
+        int numberOfThreads = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+        CountDownLatch latch = new CountDownLatch(numberOfThreads);
+
+        // When
+        for (int i = 0; i < numberOfThreads; i++) {
+            executor.submit(() -> {
+                try {
+                    pointService.charge(userId, amount);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        // Then : 테이블 지연 동안 충돌이 발생하여 재시도 및 락 전환이 기록된다
+        assertThat(pointService.select(userId).point()).isEqualTo(amount * numberOfThreads);
+        assertThat(pointService.selectPointHistory(userId)).hasSize(numberOfThreads);
+        assertThat(registry.get("point.optimistic.retries").counter().count()).isPositive();
+        assertThat(registry.get("point.optimistic.fallbacks").counter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("충돌이 없으면 재시도 없이 한번에 반영된다")
+    void noRetryWithoutContention() {
+        // When
+        pointService.charge(1L, 100L);
+        pointService.use(1L, 30L);
+
+        // Then
+        assertThat(pointService.select(1L).point()).isEqualTo(70L);
+        assertThat(registry.get("point.optimistic.retries").counter().count()).isZero();
+        assertThat(registry.get("point.optimistic.fallbacks").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("정책 위반 예외를 그대로 전달하고 잔고는 변경되지 않는다")
+    void propagatePolicyViolation() {
+        // Given
+        pointService.charge(1L, 50L);
+
+        // When & Then
+        assertThatThrownBy(() -> pointService.use(1L, 100L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("사용하고자하는 포인트가 보유한 포인트보다 많습니다.");
+        assertThat(pointService.select(1L).point()).isEqualTo(50L);
+    }
+
+    @Test
+    @DisplayName("락으로 전환한 요청이 버전 선점을 기다리는 동안에는 낙관적 갱신이 새로 갱신 권한을 얻지 못한다")
+    void exclusiveClaimBlocksNewOptimisticClaims() throws Exception {
+        // Given : 진행 중인 낙관적 갱신
+        PointVersions versions = new PointVersions(1);
+        long inFlight = versions.read(1L);
+        assertThat(versions.claim(1L, inFlight)).isTrue();
+
+        // When
+        CompletableFuture<Long> exclusive = new CompletableFuture<>();
+        Thread waiter = new Thread(() -> exclusive.complete(versions.claimExclusive(1L)));
+        waiter.start();
+        // 선점 요청이 진행 중인 갱신을 기다리기 시작할 때까지 대기
+        while (waiter.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+        assertThat(versions.read(1L)).isEqualTo(-1);
+        versions.release(1L, inFlight);
+
+        // Then : 진행 중이던 갱신이 끝나면 선점 요청이 바로 권한을 얻고, 그 사이 새 낙관적 갱신은 권한을 얻지 못한다
+        assertThat(versions.claim(1L, inFlight + 2)).isFalse();
+        long claimed = exclusive.get(5, TimeUnit.SECONDS);
+        assertThat(claimed).isEqualTo(inFlight + 2);
+        assertThat(versions.read(1L)).isEqualTo(-1);
+        versions.release(1L, claimed);
+        assertThat(versions.read(1L)).isEqualTo(inFlight + 4);
+    }
+}
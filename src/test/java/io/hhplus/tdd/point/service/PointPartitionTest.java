@@ -0,0 +1,168 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.DeadlineExceededException;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.history.TablePointHistoryStore;
+import io.hhplus.tdd.point.store.TableUserPointStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class PointPartitionTest {
+
+    private UserPointTable userPointTable;
+    private PointHistoryTable pointHistoryTable;
+    private SimpleMeterRegistry registry;
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        userPointTable = spy(new UserPointTable());
+        pointHistoryTable = new PointHistoryTable();
+        registry = new SimpleMeterRegistry();
+        PointServiceProperties properties = new PointServiceProperties();
+        properties.setWriteMode(PointServiceProperties.WriteMode.PARTITIONED);
+        properties.setPartitions(4);
+        pointService = new PointService(new TableUserPointStore(userPointTable), new TablePointHistoryStore(pointHistoryTable),
+                properties, new PointMetrics(registry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointService.shutdown();
+    }
+
+    @Test
+    @DisplayName("파티션 모드에서 동시에 여러번 충전해도 모든 충전이 반영된다")
+    void concurrentChargeWithPartitions() throws InterruptedException {
+        // Given
+        long userId = 1L;
+        long amount = 10L;
+        int numberOfThreads = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+        CountDownLatch latch = new CountDownLatch(numberOfThreads);
+
+        // When
+        for (int i = 0; i < numberOfThreads; i++) {
+            executor.submit(() -> {
+                try {
+                    pointService.charge(userId, amount);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        // Then : 잔고와 요청별 히스토리 검증, 유저 락은 사용하지 않는다
+        assertThat(pointService.select(userId).point()).isEqualTo(amount * numberOfThreads);
+        assertThat(pointService.selectPointHistory(userId)).hasSize(numberOfThreads);
+        assertThat(registry.get("point.lock.wait").timers()).allMatch(timer -> timer.count() == 0);
+    }
+
+    @Test
+    @DisplayName("같은 유저의 충전/사용은 항상 같은 파티션 스레드에서 처리된다")
+    void sameUserSamePartitionThread() {
+        // Given
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            return new UserPoint(invocation.getArgument(0), invocation.getArgument(1), System.currentTimeMillis());
+        }).when(userPointTable).insertOrUpdate(anyLong(), anyLong());
+
+        // When
+        pointService.charge(7L, 100L);
+        pointService.use(7L, 10L);
+        pointService.charge(7L, 20L);
+
+        // Then
+        assertThat(threads).hasSize(1);
+        assertThat(threads.iterator().next()).startsWith("point-partition-");
+    }
+
+    @Test
+    @DisplayName("파티션 스레드에서 발생한 정책 위반 예외를 그대로 전달한다")
+    void propagatePolicyViolation() {
+        assertThatThrownBy(() -> pointService.use(1L, 100L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("사용하고자하는 포인트가 보유한 포인트보다 많습니다.");
+    }
+
+    @Test
+    @DisplayName("기한 안에 파티션에서 처리를 시작하지 못한 요청은 대기를 멈추고 실행하지 않는다")
+    void expireWhileQueuedInPartition() throws Exception {
+        // Given : 같은 유저의 앞선 충전이 파티션 스레드에서 잔고 조회 중 멈춰 있는 상황
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            reading.countDown();
+            release.await();
+            return invocation.callRealMethod();
+        }).doCallRealMethod().when(userPointTable).selectById(anyLong());
+        CompletableFuture<UserPoint> first = CompletableFuture.supplyAsync(() -> pointService.charge(1L, 100L));
+        reading.await();
+
+        // When
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> pointService.charge(1L, 10L, null, PointDeadline.after(Duration.ofMillis(100))))
+                .isInstanceOf(DeadlineExceededException.class);
+        long waitedMillis = (System.nanoTime() - start) / 1_000_000;
+        release.countDown();
+
+        // Then : 남은 시간만큼만 기다렸고, 대기열에서 빠진 충전은 반영되지 않는다
+        assertThat(waitedMillis).isBetween(90L, 1_000L);
+        assertThat(first.join().point()).isEqualTo(100L);
+        assertThat(pointService.select(1L).point()).isEqualTo(100L);
+        assertThat(pointService.selectPointHistory(1L)).hasSize(1);
+        assertThat(registry.get("point.deadline.expired").tag("stage", "queue").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료 시 파티션 대기열에 남은 요청을 모두 처리한 뒤 종료한다")
+    void drainQueuedRequestsOnShutdown() throws Exception {
+        // Given : 첫 충전이 잔고 조회 중 멈춰 있고, 같은 유저의 충전 4건이 파티션 대기열에 쌓인 상황
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return invocation.callRealMethod();
+        }).doCallRealMethod().when(userPointTable).selectById(anyLong());
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        List<CompletableFuture<UserPoint>> charges = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            charges.add(CompletableFuture.supplyAsync(() -> pointService.charge(1L, 10L), executor));
+        }
+        while (registry.get("point.partitions.queued").gauge().value() < 4) {
+            Thread.onSpinWait();
+        }
+
+        // When
+        release.countDown();
+        pointService.shutdown();
+
+        // Then : 종료가 끝났을 때 대기 중이던 충전이 모두 반영되어 있다
+        assertThat(pointService.selectPointHistory(1L)).hasSize(5);
+        assertThat(pointService.select(1L).point()).isEqualTo(50L);
+        CompletableFuture.allOf(charges.toArray(CompletableFuture[]::new)).join();
+        executor.shutdown();
+    }
+}
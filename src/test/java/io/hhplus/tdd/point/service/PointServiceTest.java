@@ -5,10 +5,11 @@ import io.hhplus.tdd.database.UserPointTable;
 import io.hhplus.tdd.point.PointHistory;
 import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.history.TablePointHistoryStore;
+import io.hhplus.tdd.point.store.TableUserPointStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -23,7 +24,6 @@ import static org.mockito.Mockito.*;
 
 class PointServiceTest {
 
-    @InjectMocks
     private PointService pointService;
 
     @Mock
@@ -36,6 +36,7 @@ class PointServiceTest {
     void setUp() {
         // Mockito 애노테이션 초기화
         MockitoAnnotations.openMocks(this);
+        pointService = new PointService(new TableUserPointStore(userPointTable), new TablePointHistoryStore(pointHistoryTable), new PointServiceProperties(), PointMetrics.noop());
     }
 
     // ============================ 포인트 충전/사용 내역 조회 테스트 ============================
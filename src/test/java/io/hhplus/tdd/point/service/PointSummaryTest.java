@@ -0,0 +1,156 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.PointSummaryCheck;
+import io.hhplus.tdd.point.history.ColumnarPointHistoryStore;
+import io.hhplus.tdd.point.history.IndexedPointHistoryStore;
+import io.hhplus.tdd.point.history.PointHistoryStore;
+import io.hhplus.tdd.point.store.TableUserPointStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class PointSummaryTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private PointHistoryStore historyStore;
+    private PointServiceProperties properties;
+    private SimpleMeterRegistry registry;
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        historyStore = spy(new ColumnarPointHistoryStore());
+        properties = new PointServiceProperties();
+        properties.setSummaryZone(ZONE);
+        properties.setSummaryRetentionDays(2);
+        registry = new SimpleMeterRegistry();
+        pointService = new PointService(new TableUserPointStore(new UserPointTable()), historyStore, properties, new PointMetrics(registry));
+    }
+
+    @Test
+    @DisplayName("충전/사용 시 누적 합계와 거래 종류별 건수를 갱신하고, 조회 시 내역을 다시 읽지 않는다")
+    void summaryMaintainedOnWrite() {
+        // Given
+        pointService.charge(1L, 300L);
+        pointService.use(1L, 100L);
+        pointService.charge(1L, 50L);
+        pointService.charge(2L, 10L);
+        clearInvocations(historyStore);
+
+        // When
+        PointSummary summary = pointService.summary(1L);
+
+        // Then
+        assertThat(summary.totalCharged()).isEqualTo(350L);
+        assertThat(summary.totalUsed()).isEqualTo(100L);
+        assertThat(summary.counts()).containsEntry(CHARGE, 2L).containsEntry(USE, 1L);
+        assertThat(summary.daily()).singleElement()
+                .isEqualTo(new PointSummary.Daily(LocalDate.now(ZONE), 350L, 100L, 0L));
+        verify(historyStore, never()).selectAllByUserId(anyLong());
+    }
+
+    @Test
+    @DisplayName("정책 위반으로 거절된 요청은 집계에 반영하지 않는다")
+    void rejectedRequestNotAggregated() {
+        // Given
+        pointService.charge(1L, 100L);
+
+        // When
+        assertThatThrownBy(() -> pointService.use(1L, 200L)).isInstanceOf(IllegalArgumentException.class);
+
+        // Then
+        assertThat(pointService.summary(1L).totalUsed()).isZero();
+        assertThat(pointService.summary(1L).counts()).containsEntry(USE, 0L);
+    }
+
+    @Test
+    @DisplayName("일자별 합계는 가장 최근 일자 기준 보관 기간만 유지하고, 누적 합계는 전체 기간을 유지한다")
+    void dailyBucketsRetention() {
+        // Given : 보관 기간 2일, 내역 반영 순서와 무관하게 같은 결과
+        LocalDate today = LocalDate.now(ZONE);
+        PointAggregates aggregates = new PointAggregates(ZONE, 2);
+        PointHistoryStore store = aggregates.tracking(new ColumnarPointHistoryStore());
+        store.insert(1L, 10L, CHARGE, millis(today.minusDays(1)));
+        store.insert(1L, 20L, CHARGE, millis(today));
+        store.insert(1L, 5L, USE, millis(today.minusDays(2)));
+
+        // When
+        PointSummary summary = aggregates.summary(1L);
+
+        // Then
+        assertThat(summary.totalCharged()).isEqualTo(30L);
+        assertThat(summary.totalUsed()).isEqualTo(5L);
+        assertThat(summary.daily()).containsExactly(
+                new PointSummary.Daily(today.minusDays(1), 10L, 0L, 0L),
+                new PointSummary.Daily(today, 20L, 0L, 0L));
+        assertThat(aggregates.recompute(1L, store)).isEqualTo(summary);
+    }
+
+    @Test
+    @DisplayName("정합성 검사 시 누적 집계와 전체 내역 재합산 결과가 같다")
+    void checkConsistent() {
+        // Given
+        pointService.charge(1L, 300L);
+        pointService.use(1L, 100L);
+
+        // When
+        PointSummaryCheck check = pointService.checkSummary(1L);
+
+        // Then
+        assertThat(check.consistent()).isTrue();
+        assertThat(check.maintained()).isEqualTo(check.recomputed());
+        assertThat(registry.get("point.summary.mismatch").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("집계 없이 저장된 내역이 있으면 정합성 검사에서 불일치를 기록한다")
+    void checkDetectsMismatch() {
+        // Given : 서비스를 거치지 않고 저장소에 직접 저장
+        pointService.charge(1L, 300L);
+        historyStore.insert(1L, 100L, USE, System.currentTimeMillis());
+
+        // When
+        PointSummaryCheck check = pointService.checkSummary(1L);
+
+        // Then
+        assertThat(check.consistent()).isFalse();
+        assertThat(check.recomputed().totalUsed()).isEqualTo(100L);
+        assertThat(registry.get("point.summary.mismatch").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기동 시점에 저장되어 있는 내역으로 집계를 채운다")
+    void seedFromExistingHistories() {
+        // Given
+        IndexedPointHistoryStore existing = new IndexedPointHistoryStore(new PointHistoryTable());
+        existing.insert(1L, 100L, CHARGE, System.currentTimeMillis());
+        existing.insert(1L, 40L, USE, System.currentTimeMillis());
+
+        // When
+        PointService restored = new PointService(new TableUserPointStore(new UserPointTable()), existing, properties, PointMetrics.noop());
+
+        // Then
+        assertThat(restored.summary(1L).totalCharged()).isEqualTo(100L);
+        assertThat(restored.summary(1L).totalUsed()).isEqualTo(40L);
+        assertThat(restored.checkSummary(1L).consistent()).isTrue();
+    }
+
+    private static long millis(LocalDate date) {
+        return date.atStartOfDay(ZONE).toInstant().toEpochMilli() + 1;
+    }
+}
@@ -0,0 +1,91 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.history.PointHistoryQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ReactivePointServiceTest {
+
+    private PointService pointService;
+    private ReactivePointService reactivePointService;
+
+    @BeforeEach
+    void setUp() {
+        pointService = mock(PointService.class);
+        reactivePointService = new ReactivePointService(pointService, mock(PointBatchService.class), mock(PointLookupService.class),
+                Schedulers.newBoundedElastic(4, 100, "point-reactive-test"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        reactivePointService.shutdown();
+    }
+
+    @Test
+    @DisplayName("블로킹 조회를 전용 스케줄러에서 실행하여 Mono 로 반환한다")
+    void selectOnBoundedScheduler() {
+        when(pointService.select(1L)).thenAnswer(invocation -> {
+            // 이벤트 루프가 아닌 전용 스케줄러 스레드에서 호출되어야 한다
+            if (!Thread.currentThread().getName().startsWith("point-reactive-test")) {
+                throw new IllegalStateException(Thread.currentThread().getName());
+            }
+            return new UserPoint(1L, 100L, 0L);
+        });
+
+        StepVerifier.create(reactivePointService.select(1L))
+                .expectNextMatches(userPoint -> userPoint.point() == 100L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("내역 스트림은 커서 페이지를 이어서 모든 내역을 내보낸다")
+    void streamAllPages() {
+        int total = ReactivePointService.PAGE_SIZE + 10;
+        stubPages(total);
+
+        StepVerifier.create(reactivePointService.selectPointHistory(1L))
+                .expectNextCount(total)
+                .verifyComplete();
+        verify(pointService, times(2)).selectPointHistoryPage(eq(1L), any(PointHistoryQuery.class));
+    }
+
+    @Test
+    @DisplayName("구독자가 요청한 만큼만 페이지를 조회한다 (backpressure)")
+    void fetchPagesOnDemand() {
+        stubPages(ReactivePointService.PAGE_SIZE * 5);
+
+        StepVerifier.create(reactivePointService.selectPointHistory(1L), 1)
+                .expectNextCount(1)
+                .thenCancel()
+                .verify();
+        verify(pointService, times(1)).selectPointHistoryPage(eq(1L), any(PointHistoryQuery.class));
+    }
+
+    // id 1 ~ total 의 내역을 PAGE_SIZE 단위 페이지로 나누어 반환
+    private void stubPages(int total) {
+        when(pointService.selectPointHistoryPage(eq(1L), any(PointHistoryQuery.class))).thenAnswer(invocation -> {
+            PointHistoryQuery query = invocation.getArgument(1);
+            long start = query.cursor() == null ? 1 : query.cursor() + 1;
+            long end = Math.min(start + query.limit() - 1, total);
+            List<PointHistory> items = LongStream.rangeClosed(start, end)
+                    .mapToObj(id -> new PointHistory(id, 1L, 10L, CHARGE, 0L))
+                    .toList();
+            return new PointHistoryPage(items, end < total ? end : null);
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.history.TablePointHistoryStore;
+import io.hhplus.tdd.point.store.TableUserPointStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드 풀과 가상 스레드의 동시 처리 수 비교
+ * - 요청 처리 시간의 대부분은 테이블 throttle(sleep) 이므로, 가상 스레드는 대기 중 캐리어 스레드를 반납하여 더 많은 요청을 동시에 처리한다
+ * - 처리 시간은 실행 환경에 따라 달라지므로 비교하지 않고, 동시에 테이블을 조회 중인 요청 수의 최댓값을 풀 크기와 비교한다
+ */
+class VirtualThreadLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadLoadTest.class);
+
+    private static final int REQUESTS = 2000;
+    private static final int TOMCAT_MAX_THREADS = 200; // server.tomcat.threads.max 기본값
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peak = new AtomicInteger();
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        // 테이블 조회 중인 요청 수와 그 최댓값을 기록하는 저장소
+        TableUserPointStore userPointStore = new TableUserPointStore(new UserPointTable()) {
+            @Override
+            public UserPoint selectById(long id) {
+                peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    return super.selectById(id);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            }
+        };
+        pointService = new PointService(userPointStore, new TablePointHistoryStore(new PointHistoryTable()),
+                new PointServiceProperties(), PointMetrics.noop());
+    }
+
+    @Test
+    @DisplayName("가상 스레드는 플랫폼 스레드 풀 크기보다 많은 조회 요청을 동시에 처리한다")
+    void virtualThreadsHandleMoreConcurrentRequests() throws InterruptedException {
+        // When
+        long platformMillis = run(Executors.newFixedThreadPool(TOMCAT_MAX_THREADS));
+        int platformPeak = peak.getAndSet(0);
+        long virtualMillis = run(Executors.newVirtualThreadPerTaskExecutor());
+        int virtualPeak = peak.get();
+        log.info("조회 " + REQUESTS + "건 - 플랫폼 스레드(" + TOMCAT_MAX_THREADS + "개) : " + platformMillis + "ms, 최대 동시 " + platformPeak
+                + "건 / 가상 스레드 : " + virtualMillis + "ms, 최대 동시 " + virtualPeak + "건");
+
+        // Then : 플랫폼 스레드 풀은 풀 크기만큼만 동시에 처리하고, 가상 스레드는 그 이상을 동시에 처리한다
+        assertThat(platformPeak).isLessThanOrEqualTo(TOMCAT_MAX_THREADS);
+        assertThat(virtualPeak).isGreaterThan(TOMCAT_MAX_THREADS);
+    }
+
+    private long run(ExecutorService executor) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(REQUESTS);
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            long userId = i;
+            executor.submit(() -> {
+                try {
+                    pointService.select(userId);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        executor.shutdown();
+        return elapsedMillis;
+    }
+}
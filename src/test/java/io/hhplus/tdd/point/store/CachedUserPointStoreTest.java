@@ -0,0 +1,196 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class CachedUserPointStoreTest {
+
+    private UserPointStore delegate;
+    private UserPointCacheProperties properties;
+    private CachedUserPointStore cachedStore;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(UserPointStore.class);
+        when(delegate.selectById(anyLong())).thenAnswer(invocation -> UserPoint.empty(invocation.getArgument(0)));
+        when(delegate.insertOrUpdate(anyLong(), anyLong())).thenAnswer(invocation ->
+                new UserPoint(invocation.getArgument(0), invocation.getArgument(1), System.currentTimeMillis()));
+
+        properties = new UserPointCacheProperties();
+        properties.setEnabled(true);
+        // 테스트 중에는 자동 flush 가 일어나지 않도록 주기를 길게 설정
+        properties.setFlushInterval(Duration.ofHours(1));
+        cachedStore = new CachedUserPointStore(delegate, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cachedStore.close();
+    }
+
+    @Test
+    @DisplayName("한번 조회한 잔고는 원본 저장소를 다시 조회하지 않는다")
+    void selectServedFromCache() {
+        long id = 1L;
+
+        cachedStore.selectById(id);
+        cachedStore.selectById(id);
+
+        verify(delegate, times(1)).selectById(id);
+    }
+
+    @Test
+    @DisplayName("변경된 잔고는 flush 전까지 원본 저장소에 기록되지 않고 캐시에서 조회된다")
+    void writeBehindUntilFlush() {
+        long id = 1L;
+
+        cachedStore.insertOrUpdate(id, 100L);
+
+        // flush 전 : 원본 저장소 미기록, 캐시 조회
+        verify(delegate, never()).insertOrUpdate(anyLong(), anyLong());
+        assertThat(cachedStore.selectById(id).point()).isEqualTo(100L);
+        assertThat(cachedStore.pendingSize()).isEqualTo(1);
+
+        // flush 후 : 마지막 값만 원본 저장소에 기록
+        cachedStore.insertOrUpdate(id, 200L);
+        cachedStore.flush();
+        verify(delegate, times(1)).insertOrUpdate(id, 200L);
+        assertThat(cachedStore.pendingSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 유저부터 제거된다")
+    void evictLeastRecentlyUsed() {
+        cachedStore.close();
+        properties.setMaxSize(2);
+        cachedStore = new CachedUserPointStore(delegate, properties);
+
+        cachedStore.selectById(1L);
+        cachedStore.selectById(2L);
+        cachedStore.selectById(1L); // 1번 유저를 최근 사용으로 갱신
+        cachedStore.selectById(3L); // 2번 유저 제거
+
+        cachedStore.selectById(1L);
+        cachedStore.selectById(2L);
+
+        assertThat(cachedStore.size()).isEqualTo(2);
+        verify(delegate, times(1)).selectById(1L);
+        verify(delegate, times(2)).selectById(2L);
+    }
+
+    @Test
+    @DisplayName("캐시에서 제거되더라도 반영되지 않은 변경분은 유지된다")
+    void pendingWriteSurvivesEviction() {
+        cachedStore.close();
+        properties.setMaxSize(1);
+        cachedStore = new CachedUserPointStore(delegate, properties);
+
+        cachedStore.insertOrUpdate(1L, 500L);
+        cachedStore.selectById(2L); // 1번 유저 캐시 제거
+
+        assertThat(cachedStore.selectById(1L).point()).isEqualTo(500L);
+        verify(delegate, never()).selectById(1L);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 항목은 원본 저장소에서 다시 조회한다")
+    void expireAfterTtl() {
+        cachedStore.close();
+        properties.setTtl(Duration.ZERO);
+        cachedStore = new CachedUserPointStore(delegate, properties);
+
+        cachedStore.selectById(1L);
+        cachedStore.selectById(1L);
+
+        verify(delegate, times(2)).selectById(1L);
+    }
+
+    @Test
+    @DisplayName("종료 시 남아있는 변경분을 원본 저장소에 반영한다")
+    void flushOnClose() {
+        cachedStore.insertOrUpdate(1L, 300L);
+
+        cachedStore.close();
+
+        verify(delegate, times(1)).insertOrUpdate(1L, 300L);
+    }
+
+    @Test
+    @DisplayName("반영 대기 유저 수가 최대에 도달하면 바로 flush 하고, 새 유저의 변경은 자리가 생길 때까지 대기한다")
+    void backpressureWhenPendingFull() throws Exception {
+        // Given : 반영 대기 최대 1명, 원본 저장소 기록이 막혀 있는 상황
+        CountDownLatch release = blockDelegateWithMaxPendingOne();
+        cachedStore.insertOrUpdate(1L, 100L);
+
+        // When
+        CompletableFuture<Boolean> newUser = CompletableFuture.supplyAsync(() -> cachedStore.awaitWritable(2L, Long.MAX_VALUE));
+
+        // Then : 주기와 무관하게 flush 가 시작되고, 기록이 끝나기 전까지 새 유저의 변경은 대기
+        verify(delegate, timeout(5_000)).insertOrUpdate(1L, 100L);
+        assertThat(newUser).isNotDone();
+        assertThat(cachedStore.awaitWritable(1L, 0L)).isTrue();
+        release.countDown();
+        assertThat(newUser.get(5, TimeUnit.SECONDS)).isTrue();
+        cachedStore.insertOrUpdate(2L, 200L);
+        assertThat(cachedStore.pendingSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반영 대기 자리가 주어진 시간 안에 생기지 않으면 대기를 멈추고 false 를 반환한다")
+    void awaitWritableTimeout() {
+        // Given
+        CountDownLatch release = blockDelegateWithMaxPendingOne();
+        cachedStore.insertOrUpdate(1L, 100L);
+
+        // When
+        long start = System.nanoTime();
+        boolean writable = cachedStore.awaitWritable(2L, TimeUnit.MILLISECONDS.toNanos(100));
+        long waitedMillis = (System.nanoTime() - start) / 1_000_000;
+        release.countDown();
+
+        // Then
+        assertThat(writable).isFalse();
+        assertThat(waitedMillis).isBetween(90L, 1_000L);
+    }
+
+    @Test
+    @DisplayName("가장 오래 반영되지 않은 변경분의 대기 시간을 flush 지연으로 제공한다")
+    void flushLag() throws InterruptedException {
+        // Given
+        cachedStore.insertOrUpdate(1L, 100L);
+        Thread.sleep(20);
+
+        // When : 같은 유저의 변경을 덮어써도 처음 대기를 시작한 시점 기준
+        cachedStore.insertOrUpdate(1L, 200L);
+
+        // Then
+        assertThat(cachedStore.flushLagMillis()).isGreaterThanOrEqualTo(20L);
+        cachedStore.flush();
+        assertThat(cachedStore.flushLagMillis()).isZero();
+    }
+
+    // 반영 대기 최대 1명으로 다시 만들고, 반환된 latch 를 열기 전까지 원본 저장소 기록을 막는다
+    private CountDownLatch blockDelegateWithMaxPendingOne() {
+        cachedStore.close();
+        properties.setMaxPending(1);
+        cachedStore = new CachedUserPointStore(delegate, properties);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.insertOrUpdate(anyLong(), anyLong())).thenAnswer(invocation -> {
+            release.await();
+            return new UserPoint(invocation.getArgument(0), invocation.getArgument(1), System.currentTimeMillis());
+        });
+        return release;
+    }
+}
@@ -0,0 +1,63 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.fixture.UnthrottledUserPointTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 잔고 저장소 메모리 사용량 비교 (./gradlew footprintTest 로만 실행)
+ */
+@Tag("footprint")
+class OffHeapUserPointStoreFootprintTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OffHeapUserPointStoreFootprintTest.class);
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000_000, 10_000_000})
+    @DisplayName("유저당 메모리 사용량이 UserPointTable 보다 작고 힙을 거의 사용하지 않는다")
+    void memoryFootprint(int users) {
+        // Given : 같은 유저 수를 저장한 UserPointTable 의 힙 사용량
+        long tableBytes = measureTable(users);
+
+        // When
+        long heapBefore = usedHeap();
+        OffHeapUserPointStore store = new OffHeapUserPointStore(16, users);
+        for (long id = 1; id <= users; id++) {
+            store.insertOrUpdate(id, id);
+        }
+        long heapBytes = usedHeap() - heapBefore;
+        long offHeapBytes = store.offHeapBytes();
+        log.info("유저 {}명 - off_heap : {}MB (힙 {}MB), UserPointTable : {}MB",
+                users, offHeapBytes >> 20, heapBytes >> 20, tableBytes >> 20);
+
+        // Then
+        assertThat(store.size()).isEqualTo(users);
+        assertThat(offHeapBytes + heapBytes).isLessThan(tableBytes);
+        // 슬롯은 모두 힙 밖에 있으므로 유저 수와 관계없이 힙 사용량은 작다
+        assertThat(heapBytes).isLessThan(16L << 20);
+    }
+
+    private static long measureTable(int users) {
+        long heapBefore = usedHeap();
+        UnthrottledUserPointTable table = new UnthrottledUserPointTable();
+        TableUserPointStore store = new TableUserPointStore(table);
+        for (long id = 1; id <= users; id++) {
+            store.insertOrUpdate(id, id);
+        }
+        long tableBytes = usedHeap() - heapBefore;
+        assertThat(table.size()).isEqualTo(users);
+        return tableBytes;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
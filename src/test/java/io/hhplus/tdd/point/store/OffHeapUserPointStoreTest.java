@@ -0,0 +1,94 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapUserPointStoreTest {
+
+    @Test
+    @DisplayName("저장하지 않은 유저는 0 포인트로 조회된다")
+    void selectMissingUser() {
+        OffHeapUserPointStore store = new OffHeapUserPointStore(4, 16);
+
+        UserPoint userPoint = store.selectById(1L);
+
+        assertThat(userPoint.id()).isEqualTo(1L);
+        assertThat(userPoint.point()).isZero();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장한 잔고를 갱신 시각과 함께 조회하고, 같은 유저는 덮어쓴다")
+    void insertOrUpdate() {
+        OffHeapUserPointStore store = new OffHeapUserPointStore(4, 16);
+
+        store.insertOrUpdate(1L, 100L);
+        UserPoint updated = store.insertOrUpdate(1L, 70L);
+
+        assertThat(store.selectById(1L)).isEqualTo(updated);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("음수와 경계값 id 도 저장할 수 있다")
+    void boundaryIds() {
+        OffHeapUserPointStore store = new OffHeapUserPointStore(4, 16);
+
+        for (long id : new long[]{0L, -1L, Long.MIN_VALUE, Long.MAX_VALUE}) {
+            store.insertOrUpdate(id, 10L);
+        }
+
+        for (long id : new long[]{0L, -1L, Long.MIN_VALUE, Long.MAX_VALUE}) {
+            assertThat(store.selectById(id).point()).isEqualTo(10L);
+        }
+        assertThat(store.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("초기 크기를 넘어 저장해도 기존 잔고가 유지된다")
+    void growBeyondInitialCapacity() {
+        OffHeapUserPointStore store = new OffHeapUserPointStore(2, 16);
+
+        for (long id = 1; id <= 100_000; id++) {
+            store.insertOrUpdate(id, id * 10);
+        }
+
+        assertThat(store.size()).isEqualTo(100_000);
+        for (long id = 1; id <= 100_000; id++) {
+            assertThat(store.selectById(id).point()).isEqualTo(id * 10);
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 서로 다른 유저의 잔고를 저장해도 모두 반영된다")
+    void concurrentWrites() throws InterruptedException {
+        OffHeapUserPointStore store = new OffHeapUserPointStore(4, 16);
+        int threads = 8;
+        int usersPerThread = 20_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            long base = (long) t * usersPerThread;
+            executor.submit(() -> {
+                for (long id = base; id < base + usersPerThread; id++) {
+                    store.insertOrUpdate(id, id);
+                    store.selectById(id - 1);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(store.size()).isEqualTo((long) threads * usersPerThread);
+        for (long id = 0; id < (long) threads * usersPerThread; id++) {
+            assertThat(store.selectById(id).point()).isEqualTo(id);
+        }
+    }
+}
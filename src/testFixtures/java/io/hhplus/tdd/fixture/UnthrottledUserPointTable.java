@@ -0,0 +1,33 @@
+package io.hhplus.tdd.fixture;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * throttle 지연 없이 동작하는 UserPointTable (벤치마크, 메모리 사용량 비교 테스트 공용)
+ * - database 패키지의 구현체는 수정하지 않으므로, 공개 API 를 오버라이드하여 지연만 제거한다
+ * - 동시 호출을 위해 ConcurrentHashMap 을 사용하며, 항목당 크기는 원본의 HashMap 과 같다 (Node 32 byte)
+ */
+public class UnthrottledUserPointTable extends UserPointTable {
+
+    private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+    @Override
+    public UserPoint selectById(Long id) {
+        return table.getOrDefault(id, UserPoint.empty(id));
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        table.put(id, userPoint);
+        return userPoint;
+    }
+
+    public int size() {
+        return table.size();
+    }
+}